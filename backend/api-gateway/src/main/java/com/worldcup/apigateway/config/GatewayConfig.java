@@ -3,12 +3,16 @@ package com.worldcup.apigateway.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static org.springframework.web.reactive.function.server.RequestPredicates.*;
@@ -39,7 +43,8 @@ public class GatewayConfig {
 
     @Bean
     public RouterFunction<ServerResponse> gatewayRoutes(WebClient webClient) {
-        return route(path("/api/matches/**").or(path("/api/teams/**")).or(path("/api/admin/**")),
+        return route(path("/api/matches/**").or(path("/api/teams/**")).or(path("/api/groups/**"))
+                .or(path("/api/admin/**")),
                 request -> proxyRequest(request, matchServiceUrl, webClient))
             .andRoute(path("/api/stadiums/**"),
                 request -> proxyRequest(request, stadiumServiceUrl, webClient))
@@ -56,24 +61,33 @@ public class GatewayConfig {
 
         return webClient.method(request.method())
                 .uri(targetUrl + fullPath)
-                .headers(headers -> {
-                    copyHeaders(request.headers().asHttpHeaders(), headers);
-                    headers.remove(HttpHeaders.ACCEPT_ENCODING);
-                })
-                .retrieve()
-                .toEntity(String.class)
-                .flatMap(responseEntity -> {
-                    String body = responseEntity.getBody();
-                    ServerResponse.BodyBuilder builder = ServerResponse.status(responseEntity.getStatusCode())
+                // Accept-Encoding is forwarded so services can answer with pre-gzipped bodies, relayed as-is
+                .headers(headers -> copyHeaders(request.headers().asHttpHeaders(), headers))
+                .exchangeToMono(response -> {
+                    // Pass status, content type and body through untouched so binary encodings survive the hop
+                    ServerResponse.BodyBuilder builder = ServerResponse.status(response.statusCode())
                             .header(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*")
-                            .header(HttpHeaders.CONTENT_TYPE, "application/json");
-                    if (body != null && !body.isEmpty()) {
-                        return builder.bodyValue(body);
+                            .headers(headers -> copyResponseHeaders(response.headers().asHttpHeaders(), headers));
+                    if (isEventStream(response.headers().contentType().orElse(null))) {
+                        return builder.body(streaming(response.bodyToFlux(DataBuffer.class)));
                     }
-                    return builder.build();
+                    return response.bodyToMono(byte[].class)
+                            .flatMap(body -> builder.bodyValue(body))
+                            .switchIfEmpty(Mono.defer(builder::build));
                 });
     }
 
+    /**
+     * Server-Sent Events are relayed chunk by chunk and flushed as they arrive instead of buffered
+     */
+    private boolean isEventStream(MediaType contentType) {
+        return contentType != null && MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType);
+    }
+
+    private BodyInserter<Flux<DataBuffer>, ReactiveHttpOutputMessage> streaming(Flux<DataBuffer> body) {
+        return (message, context) -> message.writeAndFlushWith(body.map(Flux::just));
+    }
+
     private void copyHeaders(HttpHeaders source, HttpHeaders target) {
         source.forEach((name, values) -> {
             if (!isHopByHopHeader(name)) {
@@ -82,6 +96,16 @@ public class GatewayConfig {
         });
     }
 
+    private void copyResponseHeaders(HttpHeaders source, HttpHeaders target) {
+        source.forEach((name, values) -> {
+            if (!isHopByHopHeader(name)
+                    && !name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)
+                    && !name.regionMatches(true, 0, "Access-Control-", 0, 15)) {
+                target.addAll(name, values);
+            }
+        });
+    }
+
     private boolean isHopByHopHeader(String headerName) {
         return headerName.equalsIgnoreCase(HttpHeaders.HOST) ||
                headerName.equalsIgnoreCase(HttpHeaders.CONNECTION) ||
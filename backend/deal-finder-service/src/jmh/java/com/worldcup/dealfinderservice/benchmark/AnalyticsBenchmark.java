@@ -0,0 +1,68 @@
+package com.worldcup.dealfinderservice.benchmark;
+
+import com.worldcup.dealfinderservice.dto.MarketOverviewDTO;
+import com.worldcup.dealfinderservice.dto.TrendingMatchDTO;
+import com.worldcup.dealfinderservice.entity.DealScore;
+import com.worldcup.dealfinderservice.entity.MatchDealSummary;
+import com.worldcup.dealfinderservice.entity.Provider;
+import com.worldcup.dealfinderservice.repository.DealScoreRepository;
+import com.worldcup.dealfinderservice.repository.DealScoreStats;
+import com.worldcup.dealfinderservice.repository.MatchDealSummaryRepository;
+import com.worldcup.dealfinderservice.repository.ProviderRepository;
+import com.worldcup.dealfinderservice.service.AnalyticsService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AnalyticsService aggregation over summaries and deal scores, bypassing the Caffeine layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsBenchmark {
+
+    @Param({"18", "104", "1000"})
+    private int matches;
+
+    private AnalyticsService analyticsService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rng = new Random(42);
+        List<Provider> providers = BenchmarkData.providers();
+        List<DealScore> deals = BenchmarkData.dealScores(matches, providers, rng);
+        List<MatchDealSummary> summaries = BenchmarkData.summaries(deals);
+        List<DealScoreStats> stats = BenchmarkData.stats(deals);
+
+        DealScoreRepository dealScoreRepository = BenchmarkData.repository(DealScoreRepository.class,
+                Map.of("findAllStats", args -> stats));
+        MatchDealSummaryRepository matchDealSummaryRepository = BenchmarkData.repository(MatchDealSummaryRepository.class,
+                Map.of("findAllByOrderByLowestPriceAsc", args -> summaries));
+        ProviderRepository providerRepository = BenchmarkData.repository(ProviderRepository.class,
+                Map.of("findByIsActiveTrueOrderByPriorityAsc", args -> providers));
+
+        analyticsService = new AnalyticsService(dealScoreRepository, matchDealSummaryRepository, providerRepository);
+    }
+
+    @Benchmark
+    public MarketOverviewDTO marketOverview() {
+        return analyticsService.getMarketOverview();
+    }
+
+    @Benchmark
+    public List<TrendingMatchDTO> trendingMatches() {
+        return analyticsService.getTrendingMatches(10);
+    }
+
+    @Benchmark
+    public List<TrendingMatchDTO> biggestPriceDrops() {
+        return analyticsService.getBiggestPriceDrops(10);
+    }
+}
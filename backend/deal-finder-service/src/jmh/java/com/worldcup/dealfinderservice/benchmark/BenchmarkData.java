@@ -0,0 +1,286 @@
+package com.worldcup.dealfinderservice.benchmark;
+
+import com.worldcup.dealfinderservice.entity.DealScore;
+import com.worldcup.dealfinderservice.entity.MatchDealSummary;
+import com.worldcup.dealfinderservice.entity.PriceSnapshot;
+import com.worldcup.dealfinderservice.entity.Provider;
+import com.worldcup.dealfinderservice.repository.DealScoreStats;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Deterministic dataset generator for the JMH benchmarks.
+ * Mirrors the shape produced by DataSeeder and the provider APIs, scaled to an arbitrary match count.
+ */
+final class BenchmarkData {
+
+    private static final String[] PROVIDER_NAMES = {
+            "FIFA Official", "Ticketmaster", "StubHub", "SeatGeek", "Viagogo",
+            "VividSeats", "TickPick", "GameTime", "TicketCity", "AXS"
+    };
+    private static final int[] TRUST_SCORES = {95, 85, 82, 80, 55, 75, 78, 72, 68, 70};
+    private static final double[] FEE_PERCENTAGES = {0, 18, 15, 12, 25, 14, 0, 10, 16, 8};
+    private static final String[] TRENDS = {"STABLE", "DOWN", "UP", "STABLE", "STABLE", "DOWN"};
+
+    private BenchmarkData() {
+    }
+
+    static List<Provider> providers() {
+        List<Provider> providers = new ArrayList<>();
+        for (int i = 0; i < PROVIDER_NAMES.length; i++) {
+            providers.add(Provider.builder()
+                    .id((long) i + 1)
+                    .name(PROVIDER_NAMES[i])
+                    .displayName(PROVIDER_NAMES[i])
+                    .logoUrl("https://cdn.example.com/logos/" + i + ".png")
+                    .websiteUrl("https://provider" + i + ".example.com")
+                    .trustScore(TRUST_SCORES[i])
+                    .feePercentage(BigDecimal.valueOf(FEE_PERCENTAGES[i]).setScale(2, RoundingMode.HALF_UP))
+                    .hasBuyerProtection(TRUST_SCORES[i] >= 70)
+                    .apiType("SIMULATED")
+                    .isActive(true)
+                    .priority(i + 1)
+                    .build());
+        }
+        return providers;
+    }
+
+    /** Latest snapshot per provider for a single match, newest first. */
+    static List<PriceSnapshot> latestSnapshots(long matchId, List<Provider> providers, Random rng) {
+        List<PriceSnapshot> snapshots = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Provider provider : providers) {
+            snapshots.add(snapshot(matchId, provider, price(matchId, rng), now));
+        }
+        return snapshots;
+    }
+
+    /** Snapshot history for a single match at the given cadence, ordered by fetchedAt descending. */
+    static List<PriceSnapshot> history(long matchId, List<Provider> providers, int days, int hoursBetween, Random rng) {
+        List<PriceSnapshot> history = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        int points = Math.max(1, days * 24 / hoursBetween);
+        for (int p = 0; p < points; p++) {
+            LocalDateTime fetchedAt = now.minusHours((long) p * hoursBetween);
+            for (Provider provider : providers) {
+                history.add(snapshot(matchId, provider, price(matchId, rng), fetchedAt));
+            }
+        }
+        return history;
+    }
+
+    static List<PriceSnapshot> snapshots(int matches, List<Provider> providers, Random rng) {
+        List<PriceSnapshot> snapshots = new ArrayList<>();
+        for (long matchId = 1; matchId <= matches; matchId++) {
+            snapshots.addAll(latestSnapshots(matchId, pickProviders(providers, rng), rng));
+        }
+        return snapshots;
+    }
+
+    static List<DealScore> dealScores(int matches, List<Provider> providers, Random rng) {
+        List<DealScore> deals = new ArrayList<>();
+        long id = 1;
+        for (long matchId = 1; matchId <= matches; matchId++) {
+            for (Provider provider : pickProviders(providers, rng)) {
+                BigDecimal currentPrice = price(matchId, rng);
+                BigDecimal marketAverage = currentPrice.multiply(BigDecimal.valueOf(0.85 + rng.nextDouble() * 0.3))
+                        .setScale(2, RoundingMode.HALF_UP);
+                BigDecimal savings = marketAverage.subtract(currentPrice)
+                        .divide(marketAverage, 4, RoundingMode.HALF_UP)
+                        .multiply(BigDecimal.valueOf(100))
+                        .setScale(2, RoundingMode.HALF_UP);
+                String trend = TRENDS[rng.nextInt(TRENDS.length)];
+                deals.add(DealScore.builder()
+                        .id(id++)
+                        .matchId(matchId)
+                        .provider(provider)
+                        .category("GENERAL")
+                        .dealScore(rng.nextInt(101))
+                        .currentPrice(currentPrice)
+                        .marketAverage(marketAverage)
+                        .savingsPercentage(savings)
+                        .priceTrend(trend)
+                        .trendPercentage(BigDecimal.valueOf(-5 + rng.nextDouble() * 10).setScale(2, RoundingMode.HALF_UP))
+                        .price7dLow(currentPrice.multiply(BigDecimal.valueOf(0.9)).setScale(2, RoundingMode.HALF_UP))
+                        .price7dHigh(currentPrice.multiply(BigDecimal.valueOf(1.1)).setScale(2, RoundingMode.HALF_UP))
+                        .bestTimeToBuy("DOWN".equals(trend) ? "WAIT" : "NOW")
+                        .recommendation("Good price. Worth buying now.")
+                        .bookingUrl(provider.getWebsiteUrl() + "/event/fifa-world-cup-2026-match-" + matchId)
+                        .lastComputedAt(LocalDateTime.now())
+                        .build());
+            }
+        }
+        return deals;
+    }
+
+    static List<MatchDealSummary> summaries(List<DealScore> deals) {
+        List<MatchDealSummary> summaries = new ArrayList<>();
+        int i = 0;
+        while (i < deals.size()) {
+            long matchId = deals.get(i).getMatchId();
+            BigDecimal low = null;
+            BigDecimal high = null;
+            BigDecimal sum = BigDecimal.ZERO;
+            DealScore best = null;
+            int count = 0;
+            for (; i < deals.size() && deals.get(i).getMatchId() == matchId; i++) {
+                DealScore deal = deals.get(i);
+                BigDecimal price = deal.getCurrentPrice();
+                if (low == null || price.compareTo(low) < 0) low = price;
+                if (high == null || price.compareTo(high) > 0) high = price;
+                if (best == null || deal.getDealScore() > best.getDealScore()) best = deal;
+                sum = sum.add(price);
+                count++;
+            }
+            summaries.add(MatchDealSummary.builder()
+                    .id(matchId)
+                    .matchId(matchId)
+                    .category("GENERAL")
+                    .lowestPrice(low)
+                    .highestPrice(high)
+                    .averagePrice(sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP))
+                    .bestProvider(best.getProvider())
+                    .bestDealScore(best.getDealScore())
+                    .numProviders(count)
+                    .overallTrend(best.getPriceTrend())
+                    .bestTimeToBuy(best.getBestTimeToBuy())
+                    .lastComputedAt(LocalDateTime.now())
+                    .build());
+        }
+        summaries.sort((a, b) -> a.getLowestPrice().compareTo(b.getLowestPrice()));
+        return summaries;
+    }
+
+    /** The scalar projection AnalyticsService reads instead of full DealScore entities. */
+    static List<DealScoreStats> stats(List<DealScore> deals) {
+        return deals.stream()
+                .<DealScoreStats>map(deal -> new DealScoreStats() {
+                    @Override
+                    public Long getMatchId() {
+                        return deal.getMatchId();
+                    }
+
+                    @Override
+                    public Integer getDealScore() {
+                        return deal.getDealScore();
+                    }
+
+                    @Override
+                    public BigDecimal getCurrentPrice() {
+                        return deal.getCurrentPrice();
+                    }
+
+                    @Override
+                    public BigDecimal getSavingsPercentage() {
+                        return deal.getSavingsPercentage();
+                    }
+                })
+                .toList();
+    }
+
+    /**
+     * In-memory stand-in for a repository interface: each named method answers from its function, called with
+     * the method's arguments, and any other repository method fails. A plain JDK proxy rather than a mock,
+     * so no argument matching or invocation recording runs inside the measured code.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = methods.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + " stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+
+    /** Ticketmaster Discovery API style payload with the given number of events. */
+    static String ticketmasterResponse(int events, Random rng) {
+        StringBuilder json = new StringBuilder(events * 512);
+        json.append("{\"_embedded\":{\"events\":[");
+        for (int e = 0; e < events; e++) {
+            if (e > 0) json.append(',');
+            double min = 80 + rng.nextDouble() * 500;
+            json.append("{\"name\":\"FIFA World Cup 2026 - Match ").append(e + 1).append('"')
+                    .append(",\"type\":\"event\"")
+                    .append(",\"id\":\"vvG1zZ").append(Integer.toHexString(rng.nextInt())).append('"')
+                    .append(",\"url\":\"https://www.ticketmaster.com/event/").append(e + 1).append('"')
+                    .append(",\"dates\":{\"start\":{\"localDate\":\"2026-06-").append(11 + e % 20)
+                    .append("\",\"localTime\":\"18:00:00\"}}")
+                    .append(",\"priceRanges\":[{\"type\":\"standard\",\"currency\":\"USD\",\"min\":")
+                    .append(String.format(Locale.ROOT, "%.2f", min)).append(",\"max\":")
+                    .append(String.format(Locale.ROOT, "%.2f", min * 3)).append("}]}");
+        }
+        json.append("]},\"page\":{\"size\":").append(events).append(",\"totalElements\":").append(events).append("}}");
+        return json.toString();
+    }
+
+    /** SeatGeek platform API style payload with the given number of events. */
+    static String seatGeekResponse(int events, Random rng) {
+        StringBuilder json = new StringBuilder(events * 384);
+        json.append("{\"events\":[");
+        for (int e = 0; e < events; e++) {
+            if (e > 0) json.append(',');
+            double lowest = 80 + rng.nextDouble() * 500;
+            json.append("{\"id\":").append(6000000 + e)
+                    .append(",\"title\":\"FIFA World Cup 2026 - Match ").append(e + 1).append('"')
+                    .append(",\"url\":\"https://seatgeek.com/event/").append(e + 1).append('"')
+                    .append(",\"datetime_local\":\"2026-06-").append(11 + e % 20).append("T18:00:00\"")
+                    .append(",\"stats\":{\"listing_count\":").append(rng.nextInt(2000))
+                    .append(",\"average_price\":").append(String.format(Locale.ROOT, "%.2f", lowest * 1.8))
+                    .append(",\"lowest_price\":").append(String.format(Locale.ROOT, "%.2f", lowest))
+                    .append(",\"highest_price\":").append(String.format(Locale.ROOT, "%.2f", lowest * 4)).append("}}");
+        }
+        json.append("],\"meta\":{\"total\":").append(events).append(",\"per_page\":").append(events).append("}}");
+        return json.toString();
+    }
+
+    private static List<Provider> pickProviders(List<Provider> providers, Random rng) {
+        int count = 3 + rng.nextInt(4);
+        int offset = rng.nextInt(providers.size());
+        List<Provider> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(providers.get((offset + i) % providers.size()));
+        }
+        return picked;
+    }
+
+    private static BigDecimal price(long matchId, Random rng) {
+        long slot = (matchId - 1) % 104 + 1;
+        double baseMin = slot <= 72 ? 80 : slot <= 96 ? 150 : 250;
+        double baseMax = slot <= 72 ? 250 : slot <= 96 ? 450 : 800;
+        return BigDecimal.valueOf(baseMin + rng.nextDouble() * (baseMax - baseMin)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static PriceSnapshot snapshot(long matchId, Provider provider, BigDecimal basePrice, LocalDateTime fetchedAt) {
+        BigDecimal fee = basePrice.multiply(provider.getFeePercentage())
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return PriceSnapshot.builder()
+                .matchId(matchId)
+                .provider(provider)
+                .category("GENERAL")
+                .basePrice(basePrice)
+                .feeAmount(fee)
+                .totalPrice(basePrice.add(fee))
+                .currency("USD")
+                .availabilityStatus("AVAILABLE")
+                .bookingUrl(provider.getWebsiteUrl() + "/event/fifa-world-cup-2026-match-" + matchId)
+                .sourceType("SIMULATED")
+                .fetchedAt(fetchedAt)
+                .build();
+    }
+}
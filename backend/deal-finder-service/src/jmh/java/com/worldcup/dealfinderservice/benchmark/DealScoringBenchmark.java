@@ -0,0 +1,73 @@
+package com.worldcup.dealfinderservice.benchmark;
+
+import com.worldcup.dealfinderservice.entity.PriceSnapshot;
+import com.worldcup.dealfinderservice.entity.Provider;
+import com.worldcup.dealfinderservice.repository.DealScoreRepository;
+import com.worldcup.dealfinderservice.repository.MatchDealSummaryRepository;
+import com.worldcup.dealfinderservice.repository.PriceSnapshotRepository;
+import com.worldcup.dealfinderservice.service.DataVersionService;
+import com.worldcup.dealfinderservice.service.DealScoringService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring math in DealScoringService.computeAllScores against in-memory repositories.
+ * History is generated at the production fetch cadence (every 4 hours) for the given number of days.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DealScoringBenchmark {
+
+    @Param({"18", "104", "500"})
+    private int matches;
+
+    @Param({"1", "7"})
+    private int historyDays;
+
+    private DealScoringService dealScoringService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rng = new Random(42);
+        List<Provider> providers = BenchmarkData.providers();
+
+        Map<Long, List<PriceSnapshot>> latest = new HashMap<>();
+        Map<Long, List<PriceSnapshot>> history = new HashMap<>();
+        List<Long> matchIds = new ArrayList<>();
+        for (long matchId = 1; matchId <= matches; matchId++) {
+            matchIds.add(matchId);
+            latest.put(matchId, BenchmarkData.latestSnapshots(matchId, providers, rng));
+            history.put(matchId, BenchmarkData.history(matchId, providers, historyDays, 4, rng));
+        }
+
+        PriceSnapshotRepository priceSnapshotRepository = BenchmarkData.repository(PriceSnapshotRepository.class, Map.of(
+                "findDistinctMatchIds", args -> matchIds,
+                "findLatestByMatchId", args -> latest.get((Long) args[0]),
+                "findByMatchIdSince", args -> history.get((Long) args[0])));
+        DealScoreRepository dealScoreRepository = BenchmarkData.repository(DealScoreRepository.class, Map.of(
+                "findByMatchIdAndProviderIdAndCategory", args -> Optional.empty(),
+                "save", args -> args[0]));
+        MatchDealSummaryRepository matchDealSummaryRepository = BenchmarkData.repository(MatchDealSummaryRepository.class, Map.of(
+                "findByMatchIdAndCategory", args -> Optional.empty(),
+                "save", args -> args[0]));
+
+        dealScoringService = new DealScoringService(priceSnapshotRepository, dealScoreRepository,
+                matchDealSummaryRepository, new DataVersionService());
+    }
+
+    @Benchmark
+    public void computeAllScores() {
+        dealScoringService.computeAllScores();
+    }
+}
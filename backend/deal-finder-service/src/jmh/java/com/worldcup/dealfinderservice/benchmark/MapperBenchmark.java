@@ -0,0 +1,56 @@
+package com.worldcup.dealfinderservice.benchmark;
+
+import com.worldcup.dealfinderservice.dto.DealScoreDTO;
+import com.worldcup.dealfinderservice.dto.PriceSnapshotDTO;
+import com.worldcup.dealfinderservice.entity.DealScore;
+import com.worldcup.dealfinderservice.entity.PriceSnapshot;
+import com.worldcup.dealfinderservice.entity.Provider;
+import com.worldcup.dealfinderservice.mapper.DealScoreMapper;
+import com.worldcup.dealfinderservice.mapper.PriceSnapshotMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct list conversions used by every /api/deals read endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"18", "104", "1000"})
+    private int matches;
+
+    private DealScoreMapper dealScoreMapper;
+    private PriceSnapshotMapper priceSnapshotMapper;
+    private List<DealScore> deals;
+    private List<PriceSnapshot> snapshots;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rng = new Random(42);
+        List<Provider> providers = BenchmarkData.providers();
+        deals = BenchmarkData.dealScores(matches, providers, rng);
+        snapshots = BenchmarkData.snapshots(matches, providers, rng);
+
+        dealScoreMapper = Mappers.getMapper(DealScoreMapper.class);
+        priceSnapshotMapper = Mappers.getMapper(PriceSnapshotMapper.class);
+    }
+
+    @Benchmark
+    public List<DealScoreDTO> dealScoresToDTOList() {
+        return dealScoreMapper.toDTOList(deals);
+    }
+
+    @Benchmark
+    public List<PriceSnapshotDTO> priceSnapshotsToDTOList() {
+        return priceSnapshotMapper.toDTOList(snapshots);
+    }
+}
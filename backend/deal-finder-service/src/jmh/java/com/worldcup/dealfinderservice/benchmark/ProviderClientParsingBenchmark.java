@@ -0,0 +1,97 @@
+package com.worldcup.dealfinderservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldcup.dealfinderservice.client.SeatGeekClient;
+import com.worldcup.dealfinderservice.client.TicketmasterClient;
+import com.worldcup.dealfinderservice.entity.EventMatchMapping;
+import com.worldcup.dealfinderservice.entity.PriceSnapshot;
+import com.worldcup.dealfinderservice.entity.Provider;
+import com.worldcup.dealfinderservice.repository.EventMatchMappingRepository;
+import com.worldcup.dealfinderservice.repository.ProviderRepository;
+import com.worldcup.dealfinderservice.service.EventMatchResolver;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Provider response parsing in TicketmasterClient and SeatGeekClient.
+ * The WebClient is backed by a canned exchange function and event mappings are already persisted,
+ * so Jackson parsing, event resolution cache hits and snapshot building are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProviderClientParsingBenchmark {
+
+    @Param({"20", "200", "2000"})
+    private int events;
+
+    private TicketmasterClient ticketmasterClient;
+    private SeatGeekClient seatGeekClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rng = new Random(42);
+        List<Provider> providers = BenchmarkData.providers();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        Map<String, Provider> providersByName = providers.stream()
+                .collect(Collectors.toMap(Provider::getName, Function.identity()));
+        ProviderRepository providerRepository = BenchmarkData.repository(ProviderRepository.class,
+                Map.of("findByName", args -> Optional.ofNullable(providersByName.get((String) args[0]))));
+
+        EventMatchMappingRepository mappingRepository = BenchmarkData.repository(EventMatchMappingRepository.class,
+                Map.of("findByProviderIdAndExternalEventId", args -> Optional.of(EventMatchMapping.builder()
+                        .matchId((long) Math.floorMod(args[1].hashCode(), 104) + 1)
+                        .build())));
+        // Every event has a stored mapping, so the schedule client is never called
+        EventMatchResolver resolver = new EventMatchResolver(null, mappingRepository);
+
+        ticketmasterClient = new TicketmasterClient(
+                cannedWebClient(BenchmarkData.ticketmasterResponse(events, rng)), providerRepository, objectMapper,
+                resolver);
+        ReflectionTestUtils.setField(ticketmasterClient, "baseUrl", "http://ticketmaster.local");
+        ReflectionTestUtils.setField(ticketmasterClient, "apiKey", "benchmark");
+
+        seatGeekClient = new SeatGeekClient(
+                cannedWebClient(BenchmarkData.seatGeekResponse(events, rng)), providerRepository, objectMapper,
+                resolver);
+        ReflectionTestUtils.setField(seatGeekClient, "baseUrl", "http://seatgeek.local");
+        ReflectionTestUtils.setField(seatGeekClient, "clientId", "benchmark");
+    }
+
+    @Benchmark
+    public List<PriceSnapshot> ticketmaster() {
+        return ticketmasterClient.fetchPrices("FIFA World Cup 2026");
+    }
+
+    @Benchmark
+    public List<PriceSnapshot> seatGeek() {
+        return seatGeekClient.fetchPrices("FIFA World Cup 2026");
+    }
+
+    private static WebClient cannedWebClient(String body) {
+        return WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build()))
+                .build();
+    }
+}
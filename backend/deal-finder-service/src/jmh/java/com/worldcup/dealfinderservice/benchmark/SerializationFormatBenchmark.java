@@ -0,0 +1,89 @@
+package com.worldcup.dealfinderservice.benchmark;
+
+import com.worldcup.dealfinderservice.config.BinaryContentConfig;
+import com.worldcup.dealfinderservice.dto.PriceSnapshotDTO;
+import com.worldcup.dealfinderservice.mapper.PriceSnapshotMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON vs Smile vs CBOR encoding of a /api/deals/match/{id}/history response.
+ * 10 providers polled every 4 hours, so 7/30/160 days of history is 420/1800/9600 snapshots.
+ * Payload sizes are printed once per trial. The Smile and CBOR mappers are the ones the converters use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    @Param({"7", "30", "160"})
+    private int historyDays;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper smileMapper;
+    private ObjectMapper cborMapper;
+    private List<PriceSnapshotDTO> history;
+    private byte[] json;
+    private byte[] smile;
+    private byte[] cbor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        PriceSnapshotMapper mapper = Mappers.getMapper(PriceSnapshotMapper.class);
+        history = mapper.toDTOList(BenchmarkData.history(1L, BenchmarkData.providers(), historyDays, 4, new Random(42)));
+
+        jsonMapper = JsonMapper.builder().findAndAddModules()
+                .disable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        smileMapper = BinaryContentConfig.smileMapper();
+        cborMapper = BinaryContentConfig.cborMapper();
+
+        json = jsonMapper.writeValueAsBytes(history);
+        smile = smileMapper.writeValueAsBytes(history);
+        cbor = cborMapper.writeValueAsBytes(history);
+        System.out.printf("%n%d snapshots: json=%d bytes, smile=%d bytes (%.0f%%), cbor=%d bytes (%.0f%%)%n",
+                history.size(), json.length,
+                smile.length, 100.0 * smile.length / json.length,
+                cbor.length, 100.0 * cbor.length / json.length);
+    }
+
+    @Benchmark
+    public byte[] writeJson() throws Exception {
+        return jsonMapper.writeValueAsBytes(history);
+    }
+
+    @Benchmark
+    public byte[] writeSmile() throws Exception {
+        return smileMapper.writeValueAsBytes(history);
+    }
+
+    @Benchmark
+    public byte[] writeCbor() throws Exception {
+        return cborMapper.writeValueAsBytes(history);
+    }
+
+    @Benchmark
+    public PriceSnapshotDTO[] readJson() throws Exception {
+        return jsonMapper.readValue(json, PriceSnapshotDTO[].class);
+    }
+
+    @Benchmark
+    public PriceSnapshotDTO[] readSmile() throws Exception {
+        return smileMapper.readValue(smile, PriceSnapshotDTO[].class);
+    }
+
+    @Benchmark
+    public PriceSnapshotDTO[] readCbor() throws Exception {
+        return cborMapper.readValue(cbor, PriceSnapshotDTO[].class);
+    }
+}
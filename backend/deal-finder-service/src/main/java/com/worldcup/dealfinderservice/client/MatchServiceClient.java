@@ -0,0 +1,97 @@
+package com.worldcup.dealfinderservice.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldcup.dealfinderservice.dto.ScheduledMatchDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchServiceClient {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_PAGES = 50;
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${services.match-service.url}")
+    private String matchServiceUrl;
+
+    public List<ScheduledMatchDTO> fetchSchedule() {
+        List<ScheduledMatchDTO> schedule = new ArrayList<>();
+
+        try {
+            for (int page = 0; page < MAX_PAGES; page++) {
+                String response = webClient.get()
+                        .uri(matchServiceUrl + "/api/matches?page={page}&size={size}", page, PAGE_SIZE)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block();
+
+                if (response == null) {
+                    break;
+                }
+
+                JsonNode content = objectMapper.readTree(response).path("content");
+                if (!content.isArray() || content.isEmpty()) {
+                    break;
+                }
+
+                for (JsonNode match : content) {
+                    ScheduledMatchDTO scheduled = toScheduledMatch(match);
+                    if (scheduled != null) {
+                        schedule.add(scheduled);
+                    }
+                }
+
+                if (content.size() < PAGE_SIZE) {
+                    break;
+                }
+            }
+
+            log.info("Loaded {} fixtures from match-service", schedule.size());
+
+        } catch (Exception e) {
+            log.error("Error fetching match schedule from match-service: {}", e.getMessage());
+        }
+
+        return schedule;
+    }
+
+    private ScheduledMatchDTO toScheduledMatch(JsonNode match) {
+        long id = match.path("id").asLong(0);
+        if (id <= 0) {
+            return null;
+        }
+
+        String date = match.path("matchDate").asText("");
+        return ScheduledMatchDTO.builder()
+                .matchId(id)
+                .homeTeamNames(teamNames(match.path("homeTeam")))
+                .awayTeamNames(teamNames(match.path("awayTeam")))
+                .matchDate(date.length() >= 10 ? LocalDate.parse(date.substring(0, 10)) : null)
+                .venueCity(match.path("venueCity").asText(null))
+                .build();
+    }
+
+    private List<String> teamNames(JsonNode team) {
+        List<String> names = new ArrayList<>();
+        for (String field : new String[]{"name", "country", "externalApiId"}) {
+            String value = team.path(field).asText("");
+            if (!value.isBlank()) {
+                names.add(value);
+            }
+        }
+        return names;
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.worldcup.dealfinderservice.entity.PriceSnapshot;
 import com.worldcup.dealfinderservice.entity.Provider;
 import com.worldcup.dealfinderservice.repository.ProviderRepository;
+import com.worldcup.dealfinderservice.service.EventMatchResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,6 +26,7 @@ public class SeatGeekClient implements TicketProviderClient {
     private final WebClient webClient;
     private final ProviderRepository providerRepository;
     private final ObjectMapper objectMapper;
+    private final EventMatchResolver eventMatchResolver;
 
     @Value("${external-api.seatgeek.base-url}")
     private String baseUrl;
@@ -67,6 +69,7 @@ public class SeatGeekClient implements TicketProviderClient {
                 return snapshots;
             }
 
+            int unresolved = 0;
             for (JsonNode event : events) {
                 try {
                     JsonNode stats = event.path("stats");
@@ -81,6 +84,15 @@ public class SeatGeekClient implements TicketProviderClient {
 
                     String eventUrl = event.path("url").asText("");
                     String eventId = String.valueOf(event.path("id").asLong(0));
+                    String eventName = event.path("title").asText("");
+                    String eventDate = event.path("datetime_local").asText(null);
+                    String venueCity = event.path("venue").path("city").asText(null);
+
+                    Long matchId = eventMatchResolver.resolve(provider, eventId, eventName, eventDate, venueCity);
+                    if (matchId == null) {
+                        unresolved++;
+                        continue;
+                    }
 
                     BigDecimal basePrice = BigDecimal.valueOf(lowestPrice);
                     BigDecimal feeAmount = basePrice.multiply(provider.getFeePercentage())
@@ -88,7 +100,7 @@ public class SeatGeekClient implements TicketProviderClient {
                     BigDecimal totalPrice = basePrice.add(feeAmount);
 
                     PriceSnapshot snapshot = PriceSnapshot.builder()
-                            .matchId(hashEventToMatchId(eventId))
+                            .matchId(matchId)
                             .provider(provider)
                             .category("GENERAL")
                             .basePrice(basePrice)
@@ -107,7 +119,8 @@ public class SeatGeekClient implements TicketProviderClient {
                 }
             }
 
-            log.info("SeatGeek: fetched {} price snapshots for keyword '{}'", snapshots.size(), keyword);
+            log.info("SeatGeek: fetched {} price snapshots for keyword '{}' ({} events unresolved)",
+                    snapshots.size(), keyword, unresolved);
 
         } catch (Exception e) {
             log.error("Error fetching from SeatGeek API: {}", e.getMessage(), e);
@@ -115,8 +128,4 @@ public class SeatGeekClient implements TicketProviderClient {
 
         return snapshots;
     }
-
-    private Long hashEventToMatchId(String eventId) {
-        return (long) Math.abs(eventId.hashCode() % 100000);
-    }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.worldcup.dealfinderservice.entity.PriceSnapshot;
 import com.worldcup.dealfinderservice.entity.Provider;
 import com.worldcup.dealfinderservice.repository.ProviderRepository;
+import com.worldcup.dealfinderservice.service.EventMatchResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,6 +26,7 @@ public class TicketmasterClient implements TicketProviderClient {
     private final WebClient webClient;
     private final ProviderRepository providerRepository;
     private final ObjectMapper objectMapper;
+    private final EventMatchResolver eventMatchResolver;
 
     @Value("${external-api.ticketmaster.base-url}")
     private String baseUrl;
@@ -68,6 +70,7 @@ public class TicketmasterClient implements TicketProviderClient {
                 return snapshots;
             }
 
+            int unresolved = 0;
             for (JsonNode event : events) {
                 try {
                     JsonNode priceRanges = event.path("priceRanges");
@@ -78,6 +81,15 @@ public class TicketmasterClient implements TicketProviderClient {
                     String eventName = event.path("name").asText("");
                     String eventUrl = event.path("url").asText("");
                     String eventId = event.path("id").asText("");
+                    String eventDate = event.path("dates").path("start").path("localDate").asText(null);
+                    String venueCity = event.path("_embedded").path("venues").path(0)
+                            .path("city").path("name").asText(null);
+
+                    Long matchId = eventMatchResolver.resolve(provider, eventId, eventName, eventDate, venueCity);
+                    if (matchId == null) {
+                        unresolved++;
+                        continue;
+                    }
 
                     for (JsonNode priceRange : priceRanges) {
                         BigDecimal minPrice = BigDecimal.valueOf(priceRange.path("min").asDouble(0));
@@ -93,7 +105,7 @@ public class TicketmasterClient implements TicketProviderClient {
                         BigDecimal totalPrice = minPrice.add(feeAmount);
 
                         PriceSnapshot snapshot = PriceSnapshot.builder()
-                                .matchId(hashEventToMatchId(eventId))
+                                .matchId(matchId)
                                 .provider(provider)
                                 .category("GENERAL")
                                 .basePrice(minPrice)
@@ -113,7 +125,8 @@ public class TicketmasterClient implements TicketProviderClient {
                 }
             }
 
-            log.info("Ticketmaster: fetched {} price snapshots for keyword '{}'", snapshots.size(), keyword);
+            log.info("Ticketmaster: fetched {} price snapshots for keyword '{}' ({} events unresolved)",
+                    snapshots.size(), keyword, unresolved);
 
         } catch (Exception e) {
             log.error("Error fetching from Ticketmaster API: {}", e.getMessage(), e);
@@ -121,8 +134,4 @@ public class TicketmasterClient implements TicketProviderClient {
 
         return snapshots;
     }
-
-    private Long hashEventToMatchId(String eventId) {
-        return (long) Math.abs(eventId.hashCode() % 100000);
-    }
 }
@@ -1,36 +1,74 @@
 package com.worldcup.dealfinderservice.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.CacheManager;
+import com.worldcup.dealfinderservice.dto.CursorPageDTO;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Per-cache Caffeine specs. Each default can be overridden with a {@code cache.specs.<name>} property;
+ * weighted caches count kilobytes of retained response data instead of entries.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Map<String, String> DEFAULT_SPECS = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_SPECS.put("dealComparison", "maximumSize=1000,expireAfterWrite=15m");
+        DEFAULT_SPECS.put("dealSummary", "maximumWeight=16384,expireAfterWrite=15m");
+        DEFAULT_SPECS.put("topDeals", "maximumSize=50,expireAfterWrite=15m");
+        DEFAULT_SPECS.put("providers", "maximumSize=10,expireAfterWrite=60m");
+        DEFAULT_SPECS.put("priceHistory", "maximumWeight=65536,expireAfterWrite=15m");
+        DEFAULT_SPECS.put("marketOverview", "maximumSize=1,expireAfterWrite=15m");
+        DEFAULT_SPECS.put("trendingMatches", "maximumSize=20,expireAfterWrite=15m");
+        DEFAULT_SPECS.put("priceDrops", "maximumSize=20,expireAfterWrite=15m");
+    }
+
+    // Approximate retained size of one cached DTO, used to weigh list-valued entries
+    private static final int DTO_BYTES = 512;
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "dealComparison",
-                "dealSummary",
-                "topDeals",
-                "providers",
-                "priceHistory",
-                "marketOverview",
-                "trendingMatches",
-                "priceDrops"
-        );
-
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(200)
-                .expireAfterWrite(15, TimeUnit.MINUTES)
-                .recordStats());
+    public CaffeineCacheManager caffeineCacheManager(Environment environment) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+
+        DEFAULT_SPECS.forEach((name, defaultSpec) -> {
+            String spec = environment.getProperty("cache.specs." + name, defaultSpec);
+            cacheManager.registerCustomCache(name, builder(spec).build());
+        });
 
         return cacheManager;
     }
+
+    private static Caffeine<Object, Object> builder(String spec) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec).recordStats();
+        if (spec.contains("maximumWeight")) {
+            builder.weigher(CacheConfig::weighKilobytes);
+        }
+        return builder;
+    }
+
+    private static int weighKilobytes(Object key, Object value) {
+        long bytes;
+        if (value instanceof SerializedResponseCache.SerializedResponse response) {
+            bytes = response.sizeInBytes();
+        } else if (value instanceof CursorPageDTO<?> page && page.getItems() != null) {
+            bytes = (long) page.getItems().size() * DTO_BYTES;
+        } else if (value instanceof Collection<?> collection) {
+            bytes = (long) collection.size() * DTO_BYTES;
+        } else {
+            bytes = DTO_BYTES;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes / 1024 + 1);
+    }
 }
@@ -6,9 +6,11 @@ import com.worldcup.dealfinderservice.entity.Provider;
 import com.worldcup.dealfinderservice.repository.DealScoreRepository;
 import com.worldcup.dealfinderservice.repository.MatchDealSummaryRepository;
 import com.worldcup.dealfinderservice.repository.ProviderRepository;
+import com.worldcup.dealfinderservice.service.DataVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ import java.util.List;
 import java.util.Random;
 
 @Component
+@ConditionalOnProperty(name = "synthetic-data.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class DataSeeder implements CommandLineRunner {
@@ -26,6 +29,7 @@ public class DataSeeder implements CommandLineRunner {
     private final ProviderRepository providerRepository;
     private final DealScoreRepository dealScoreRepository;
     private final MatchDealSummaryRepository matchDealSummaryRepository;
+    private final DataVersionService dataVersionService;
 
     private static final long[] MATCH_IDS = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18};
 
@@ -161,6 +165,7 @@ public class DataSeeder implements CommandLineRunner {
             }
         }
 
+        dataVersionService.allUpdated();
         log.info("Deal data seeding complete");
     }
 }
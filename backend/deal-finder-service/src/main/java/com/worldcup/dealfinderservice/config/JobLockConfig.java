@@ -0,0 +1,31 @@
+package com.worldcup.dealfinderservice.config;
+
+import com.worldcup.dealfinderservice.scheduler.JobLock;
+import com.worldcup.dealfinderservice.scheduler.JobLockInterceptor;
+import com.worldcup.dealfinderservice.scheduler.JobLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Applies JobLockInterceptor to @JobLock methods through the infrastructure auto-proxying that already backs
+ * @Transactional and @Cacheable, so no AspectJ dependency is needed.
+ */
+@Configuration
+public class JobLockConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor jobLockAdvisor(ObjectProvider<JobLockService> jobLockService,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(JobLock.class),
+                new JobLockInterceptor(jobLockService, meterRegistry));
+    }
+}
@@ -0,0 +1,123 @@
+package com.worldcup.dealfinderservice.config;
+
+import com.worldcup.dealfinderservice.controller.DealReadHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+import org.springframework.web.servlet.function.support.RouterFunctionMapping;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Serves the /api/deals GET endpoints from R2DBC instead of JPA. Writes, providers and analytics stay on JPA.
+ * The R2DBC pool is kept out of the context on purpose: Boot skips its JDBC DataSource whenever a
+ * ConnectionFactory bean exists.
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactive-reads.enabled", havingValue = "true")
+@EnableR2dbcRepositories(basePackages = "com.worldcup.dealfinderservice.repository.reactive",
+        entityOperationsRef = "reactiveReadTemplate")
+public class ReactiveReadConfig {
+
+    private static final String POOL_NAME = "DealFinderServiceR2dbcPool";
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveReadConfig(@Value("${reactive-reads.url}") String url,
+                              @Value("${spring.datasource.username}") String username,
+                              @Value("${spring.datasource.password}") String password,
+                              @Value("${reactive-reads.pool.max-size:5}") int maxSize,
+                              @Value("${reactive-reads.pool.initial-size:2}") int initialSize,
+                              @Value("${reactive-reads.pool.max-idle-time:5m}") Duration maxIdleTime,
+                              @Value("${reactive-reads.pool.max-acquire-time:20s}") Duration maxAcquireTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name(POOL_NAME)
+                .maxSize(maxSize)
+                .initialSize(initialSize)
+                .maxIdleTime(maxIdleTime)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+    }
+
+    @Bean
+    public R2dbcEntityTemplate reactiveReadTemplate(MeterRegistry meterRegistry) {
+        connectionPool.getMetrics().ifPresent(metrics -> bindPoolMetrics(metrics, meterRegistry));
+        DatabaseClient databaseClient = DatabaseClient.builder()
+                .connectionFactory(connectionPool)
+                .bindMarkers(PostgresDialect.INSTANCE.getBindMarkersFactory())
+                .build();
+        return new R2dbcEntityTemplate(databaseClient, PostgresDialect.INSTANCE);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> dealReadRoutes(DealReadHandler handler) {
+        return RouterFunctions.route()
+                .path("/api/deals", deals -> deals
+                        .GET("/match/{matchId}", handler::getDealsForMatch)
+                        .GET("/match/{matchId}/cheapest", handler::getCheapestDeal)
+                        .GET("/match/{matchId}/history", handler::getPriceHistory)
+                        .GET("/top", handler::getTopDeals)
+                        .GET("/summaries", handler::getAllSummaries))
+                .build();
+    }
+
+    /**
+     * Router functions are consulted after @RequestMapping by default; move them first so these routes
+     * take over from DealController's GET mappings. Anything they don't match still reaches the controller.
+     */
+    @Bean
+    public static BeanPostProcessor routerFunctionsFirst() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RouterFunctionMapping mapping) {
+                    mapping.setOrder(Ordered.HIGHEST_PRECEDENCE);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @PreDestroy
+    public void closeConnectionPool() {
+        connectionPool.dispose();
+    }
+
+    private static void bindPoolMetrics(PoolMetrics metrics, MeterRegistry registry) {
+        gauge(registry, "r2dbc.pool.acquired", "Connections in use", metrics, PoolMetrics::acquiredSize);
+        gauge(registry, "r2dbc.pool.idle", "Idle connections", metrics, PoolMetrics::idleSize);
+        gauge(registry, "r2dbc.pool.pending", "Requests waiting for a connection", metrics, PoolMetrics::pendingAcquireSize);
+        gauge(registry, "r2dbc.pool.max.allocated", "Maximum pool size", metrics, PoolMetrics::getMaxAllocatedSize);
+    }
+
+    private static void gauge(MeterRegistry registry, String name, String description, PoolMetrics metrics,
+                              ToDoubleFunction<PoolMetrics> value) {
+        Gauge.builder(name, metrics, value)
+                .description(description)
+                .tag("name", POOL_NAME)
+                .register(registry);
+    }
+}
@@ -0,0 +1,301 @@
+package com.worldcup.dealfinderservice.config;
+
+import com.worldcup.dealfinderservice.entity.Provider;
+import com.worldcup.dealfinderservice.repository.ProviderRepository;
+import com.worldcup.dealfinderservice.service.DataVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bulk-loads N matches x M providers x D days of price snapshots, plus the derived deal scores and
+ * match summaries, with batched JDBC inserts. Replaces DataSeeder when synthetic-data.enabled=true.
+ * Snapshots follow a per-provider random walk so trends, 7-day ranges and deal scores look realistic.
+ */
+@Component
+@ConditionalOnProperty(name = "synthetic-data.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String INSERT_SNAPSHOT = "INSERT INTO deal_finder_schema.price_snapshots "
+            + "(match_id, provider_id, category, base_price, fee_amount, total_price, currency, availability_status, "
+            + "quantity_available, booking_url, source_type, fetched_at, created_at) "
+            + "VALUES (?, ?, 'GENERAL', ?, ?, ?, 'USD', ?, ?, ?, 'SIMULATED', ?, ?)";
+
+    private static final String INSERT_DEAL_SCORE = "INSERT INTO deal_finder_schema.deal_scores "
+            + "(match_id, provider_id, category, deal_score, current_price, market_average, savings_percentage, "
+            + "price_trend, trend_percentage, price_7d_low, price_7d_high, best_time_to_buy, recommendation, "
+            + "booking_url, last_computed_at, created_at, updated_at) "
+            + "VALUES (?, ?, 'GENERAL', ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SUMMARY = "INSERT INTO deal_finder_schema.match_deal_summary "
+            + "(match_id, category, lowest_price, highest_price, average_price, best_provider_id, best_deal_score, "
+            + "num_providers, overall_trend, best_time_to_buy, last_computed_at, created_at, updated_at) "
+            + "VALUES (?, 'GENERAL', ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProviderRepository providerRepository;
+    private final DataVersionService dataVersionService;
+
+    @Value("${synthetic-data.matches:104}")
+    private int matches;
+
+    @Value("${synthetic-data.first-match-id:1}")
+    private long firstMatchId;
+
+    @Value("${synthetic-data.providers:10}")
+    private int providersPerMatch;
+
+    @Value("${synthetic-data.days:30}")
+    private int days;
+
+    @Value("${synthetic-data.cadence-minutes:240}")
+    private int cadenceMinutes;
+
+    @Value("${synthetic-data.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${synthetic-data.seed:42}")
+    private long seed;
+
+    @Value("${synthetic-data.truncate:false}")
+    private boolean truncate;
+
+    @Override
+    public void run(String... args) {
+        Boolean existing = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM deal_finder_schema.price_snapshots) "
+                        + "OR EXISTS (SELECT 1 FROM deal_finder_schema.deal_scores)", Boolean.class);
+        if (Boolean.TRUE.equals(existing)) {
+            if (!truncate) {
+                log.info("Deal data already present, skipping synthetic data generation "
+                        + "(set synthetic-data.truncate=true to reload)");
+                return;
+            }
+            log.warn("Truncating price_snapshots, deal_scores and match_deal_summary before synthetic load");
+            jdbcTemplate.execute("TRUNCATE deal_finder_schema.price_snapshots, deal_finder_schema.deal_scores, "
+                    + "deal_finder_schema.match_deal_summary RESTART IDENTITY");
+        }
+
+        List<Provider> providers = providerRepository.findByIsActiveTrueOrderByPriorityAsc();
+        if (providers.isEmpty()) {
+            log.warn("No providers found, skipping synthetic data generation");
+            return;
+        }
+
+        generate(providers);
+    }
+
+    private void generate(List<Provider> providers) {
+        int perMatch = Math.min(providersPerMatch, providers.size());
+        int points = Math.max(1, (int) (Duration.ofDays(days).toMinutes() / cadenceMinutes));
+        long expected = (long) matches * perMatch * points;
+        log.info("Generating synthetic deal data: {} matches x {} providers x {} days every {} min = {} snapshots",
+                matches, perMatch, days, cadenceMinutes, expected);
+
+        long start = System.nanoTime();
+        Random rng = new Random(seed);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        Timestamp nowTs = Timestamp.valueOf(now);
+        LocalDateTime sevenDaysAgo = now.minusDays(7);
+
+        List<Object[]> snapshotBatch = new ArrayList<>(batchSize);
+        List<Object[]> dealBatch = new ArrayList<>(batchSize);
+        List<Object[]> summaryBatch = new ArrayList<>(batchSize);
+        long snapshotCount = 0;
+
+        for (long matchId = firstMatchId; matchId < firstMatchId + matches; matchId++) {
+            double[] band = priceBand(matchId);
+            int offset = rng.nextInt(providers.size());
+
+            BigDecimal[] latest = new BigDecimal[perMatch];
+            BigDecimal[] oldestRecent = new BigDecimal[perMatch];
+            String[] bookingUrls = new String[perMatch];
+            BigDecimal low7d = null;
+            BigDecimal high7d = null;
+
+            for (int p = 0; p < perMatch; p++) {
+                Provider provider = providers.get((offset + p) % providers.size());
+                bookingUrls[p] = provider.getWebsiteUrl() + "/event/fifa-world-cup-2026-match-" + matchId;
+                BigDecimal feePct = provider.getFeePercentage() != null ? provider.getFeePercentage() : BigDecimal.ZERO;
+
+                // Random walk from the oldest point forward, with a small per-provider drift
+                double price = band[0] + rng.nextDouble() * (band[1] - band[0]);
+                double drift = (rng.nextDouble() - 0.5) * 0.004;
+
+                for (int i = points - 1; i >= 0; i--) {
+                    price = Math.max(band[0] * 0.5, price * (1 + drift + rng.nextGaussian() * 0.01));
+                    LocalDateTime fetchedAt = now.minusMinutes((long) i * cadenceMinutes);
+
+                    BigDecimal basePrice = BigDecimal.valueOf(price).setScale(2, RoundingMode.HALF_UP);
+                    BigDecimal feeAmount = basePrice.multiply(feePct).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+                    BigDecimal totalPrice = basePrice.add(feeAmount);
+
+                    snapshotBatch.add(new Object[]{matchId, provider.getId(), basePrice, feeAmount, totalPrice,
+                            rng.nextInt(20) == 0 ? "LIMITED" : "AVAILABLE", 1 + rng.nextInt(500),
+                            bookingUrls[p], Timestamp.valueOf(fetchedAt), nowTs});
+                    if (snapshotBatch.size() >= batchSize) {
+                        snapshotCount += flush(INSERT_SNAPSHOT, snapshotBatch);
+                        logProgress(snapshotCount, expected, start);
+                    }
+
+                    if (!fetchedAt.isBefore(sevenDaysAgo)) {
+                        if (oldestRecent[p] == null) {
+                            oldestRecent[p] = totalPrice;
+                        }
+                        if (low7d == null || totalPrice.compareTo(low7d) < 0) low7d = totalPrice;
+                        if (high7d == null || totalPrice.compareTo(high7d) > 0) high7d = totalPrice;
+                    }
+                    latest[p] = totalPrice;
+                }
+            }
+
+            addDerivedRows(matchId, providers, offset, latest, oldestRecent, bookingUrls, low7d, high7d,
+                    nowTs, dealBatch, summaryBatch);
+            if (dealBatch.size() >= batchSize) {
+                flush(INSERT_DEAL_SCORE, dealBatch);
+            }
+            if (summaryBatch.size() >= batchSize) {
+                flush(INSERT_SUMMARY, summaryBatch);
+            }
+        }
+
+        snapshotCount += flush(INSERT_SNAPSHOT, snapshotBatch);
+        flush(INSERT_DEAL_SCORE, dealBatch);
+        flush(INSERT_SUMMARY, summaryBatch);
+
+        jdbcTemplate.execute("ANALYZE deal_finder_schema.price_snapshots");
+        jdbcTemplate.execute("ANALYZE deal_finder_schema.deal_scores");
+        jdbcTemplate.execute("ANALYZE deal_finder_schema.match_deal_summary");
+        dataVersionService.allUpdated();
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Synthetic data generation complete: {} snapshots, {} deal scores, {} summaries in {} ms",
+                snapshotCount, (long) matches * perMatch, matches, elapsedMs);
+    }
+
+    /**
+     * Mirrors DealScoringService: score against the market average of the latest prices,
+     * trend from the oldest to the newest price in the last 7 days.
+     */
+    private void addDerivedRows(long matchId, List<Provider> providers, int offset, BigDecimal[] latest,
+                                BigDecimal[] oldestRecent, String[] bookingUrls, BigDecimal low7d,
+                                BigDecimal high7d, Timestamp nowTs,
+                                List<Object[]> dealBatch, List<Object[]> summaryBatch) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (BigDecimal price : latest) {
+            sum = sum.add(price);
+        }
+        BigDecimal marketAverage = sum.divide(BigDecimal.valueOf(latest.length), 2, RoundingMode.HALF_UP);
+
+        BigDecimal lowest = null;
+        BigDecimal highest = null;
+        int bestScore = -1;
+        Long bestProviderId = null;
+        String bestTrend = "STABLE";
+        String bestTimeToBuy = "NOW";
+
+        for (int p = 0; p < latest.length; p++) {
+            Provider provider = providers.get((offset + p) % providers.size());
+            BigDecimal currentPrice = latest[p];
+
+            int dealScore = 50;
+            if (marketAverage.compareTo(BigDecimal.ZERO) > 0) {
+                double ratio = currentPrice.doubleValue() / marketAverage.doubleValue();
+                dealScore = Math.max(0, Math.min(100, (int) (100 - (ratio * 50))));
+            }
+
+            BigDecimal savings = marketAverage.subtract(currentPrice)
+                    .divide(marketAverage, 4, RoundingMode.HALF_UP)
+                    .multiply(HUNDRED)
+                    .setScale(2, RoundingMode.HALF_UP);
+
+            String trend = "STABLE";
+            BigDecimal trendPct = BigDecimal.ZERO;
+            BigDecimal oldest = oldestRecent[p];
+            if (oldest != null && oldest.compareTo(BigDecimal.ZERO) > 0) {
+                trendPct = currentPrice.subtract(oldest)
+                        .divide(oldest, 4, RoundingMode.HALF_UP)
+                        .multiply(HUNDRED)
+                        .setScale(2, RoundingMode.HALF_UP);
+                if (trendPct.compareTo(BigDecimal.valueOf(2)) > 0) {
+                    trend = "UP";
+                } else if (trendPct.compareTo(BigDecimal.valueOf(-2)) < 0) {
+                    trend = "DOWN";
+                }
+            }
+
+            String timeToBuy = "NOW";
+            String recommendation = "Good deal available.";
+            if ("DOWN".equals(trend)) {
+                timeToBuy = "WAIT";
+                recommendation = "Prices are trending down. Consider waiting for a better deal.";
+            } else if (dealScore >= 80) {
+                recommendation = "Great deal! This price is well below the market average.";
+            } else if (dealScore >= 60) {
+                recommendation = "Good price. Worth buying now.";
+            } else if ("UP".equals(trend)) {
+                recommendation = "Prices are rising. Buy now before they go higher.";
+            }
+
+            dealBatch.add(new Object[]{matchId, provider.getId(), dealScore, currentPrice, marketAverage, savings,
+                    trend, trendPct, low7d, high7d, timeToBuy, recommendation, bookingUrls[p], nowTs, nowTs, nowTs});
+
+            if (lowest == null || currentPrice.compareTo(lowest) < 0) lowest = currentPrice;
+            if (highest == null || currentPrice.compareTo(highest) > 0) highest = currentPrice;
+            if (dealScore > bestScore) {
+                bestScore = dealScore;
+                bestProviderId = provider.getId();
+                bestTrend = trend;
+                bestTimeToBuy = timeToBuy;
+            }
+        }
+
+        summaryBatch.add(new Object[]{matchId, lowest, highest, marketAverage, bestProviderId, bestScore,
+                latest.length, bestTrend, bestTimeToBuy, nowTs, nowTs, nowTs});
+    }
+
+    private int flush(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        jdbcTemplate.batchUpdate(sql, batch);
+        batch.clear();
+        return size;
+    }
+
+    private void logProgress(long loaded, long expected, long start) {
+        if (loaded % (batchSize * 100L) < batchSize) {
+            long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            log.info("Loaded {}/{} snapshots ({} rows/s)", loaded, expected, loaded * 1000 / elapsedMs);
+        }
+    }
+
+    /** Price band by tournament stage, cycling every 104 matches (72 group, 32 knockout). */
+    private double[] priceBand(long matchId) {
+        long slot = (matchId - 1) % 104 + 1;
+        if (slot <= 72) return new double[]{80, 250};
+        if (slot <= 88) return new double[]{120, 350};
+        if (slot <= 96) return new double[]{150, 450};
+        if (slot <= 102) return new double[]{250, 800};
+        return new double[]{600, 2500};
+    }
+}
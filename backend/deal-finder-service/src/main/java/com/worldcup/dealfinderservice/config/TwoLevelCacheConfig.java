@@ -0,0 +1,62 @@
+package com.worldcup.dealfinderservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+/**
+ * Puts a shared Redis level behind the Caffeine caches so replicas warm and evict together.
+ * Values use JDK serialization with this application's class loader, which keeps DevTools restarts working.
+ */
+@Configuration
+@ConditionalOnProperty(name = "two-level-cache.enabled", havingValue = "true")
+public class TwoLevelCacheConfig {
+
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(CaffeineCacheManager caffeineCacheManager,
+                                             RedisConnectionFactory connectionFactory,
+                                             @Value("${spring.application.name}") String applicationName,
+                                             @Value("${two-level-cache.ttl:15m}") Duration ttl) {
+        RedisSerializer<Object> serializer = RedisSerializer.java(getClass().getClassLoader());
+
+        RedisCacheManager sharedCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(ttl)
+                        .prefixCacheNameWith(applicationName + ":")
+                        .serializeValuesWith(SerializationPair.fromSerializer(serializer)))
+                .build();
+        sharedCacheManager.initializeCaches();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(serializer);
+        redisTemplate.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(caffeineCacheManager, sharedCacheManager, redisTemplate,
+                "cache-invalidation:" + applicationName);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getChannel()));
+        return container;
+    }
+}
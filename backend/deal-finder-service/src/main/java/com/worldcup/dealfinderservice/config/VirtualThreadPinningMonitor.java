@@ -0,0 +1,130 @@
+package com.worldcup.dealfinderservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams JFR jdk.VirtualThreadPinned events while virtual threads are enabled. Each pin longer than the
+ * threshold is timed as jvm.threads.virtual.pinned, tagged by source (cache-load, jdbc-driver or synchronized),
+ * and the first pin from each call site is logged with its stack.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.worldcup.";
+    private static final int LOGGED_FRAMES = 15;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> loggedCallSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-thread-pinning.threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual-thread pinning monitor started, threshold {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String source = source(frames);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        String callSite = callSite(frames);
+        if (loggedCallSites.add(callSite)) {
+            log.warn("Virtual thread pinned for {} ms ({}) at {}; further pins here are logged at debug\n{}",
+                    event.getDuration().toMillis(), source, callSite, format(frames));
+        } else {
+            log.debug("Virtual thread pinned for {} ms ({}) at {}", event.getDuration().toMillis(), source, callSite);
+        }
+    }
+
+    // A cache load runs inside ConcurrentHashMap.compute, whose monitor is the outermost pin even when the
+    // stack also shows JDBC frames, so it is checked first.
+    private static String source(List<RecordedFrame> frames) {
+        boolean jdbc = false;
+        for (RecordedFrame frame : frames) {
+            String type = typeName(frame);
+            if (type.startsWith("com.github.benmanes.caffeine.") || type.equals("java.util.concurrent.ConcurrentHashMap")) {
+                return "cache-load";
+            }
+            jdbc |= type.startsWith("org.postgresql.");
+        }
+        return jdbc ? "jdbc-driver" : "synchronized";
+    }
+
+    private static String callSite(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> typeName(frame).startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(VirtualThreadPinningMonitor::frame)
+                .orElse("unknown");
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "    at " + frame(frame))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String frame(RecordedFrame frame) {
+        if (frame.getMethod() == null) {
+            return "unknown";
+        }
+        return typeName(frame) + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String typeName(RecordedFrame frame) {
+        return frame.getMethod() != null ? frame.getMethod().getType().getName() : "";
+    }
+}
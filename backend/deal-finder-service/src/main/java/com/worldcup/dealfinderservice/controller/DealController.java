@@ -1,23 +1,32 @@
 package com.worldcup.dealfinderservice.controller;
 
+import com.worldcup.dealfinderservice.config.SerializedResponseCache;
 import com.worldcup.dealfinderservice.dto.*;
 import com.worldcup.dealfinderservice.service.AnalyticsService;
+import com.worldcup.dealfinderservice.service.DataVersionService;
 import com.worldcup.dealfinderservice.service.DealComparisonService;
 import com.worldcup.dealfinderservice.service.DealScoringService;
 import com.worldcup.dealfinderservice.service.PriceFetchService;
 import com.worldcup.dealfinderservice.service.ProviderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/deals")
@@ -31,18 +40,25 @@ public class DealController {
     private final PriceFetchService priceFetchService;
     private final DealScoringService dealScoringService;
     private final AnalyticsService analyticsService;
+    private final DataVersionService dataVersionService;
+    private final SerializedResponseCache serializedResponseCache;
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 20;
 
     @GetMapping("/match/{matchId}")
     @Operation(summary = "Get deal comparison for a match", description = "Returns all deals, summary, and last updated time for a specific match")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Deal comparison retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Deal comparison retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Deals unchanged since the ETag in If-None-Match")
     })
     public ResponseEntity<DealComparisonDTO> getDealsForMatch(
             @Parameter(description = "Match ID", required = true, example = "1")
-            @PathVariable Long matchId) {
+            @PathVariable Long matchId,
+            WebRequest request) {
         log.info("GET /api/deals/match/{} - Get deals for match", matchId);
-        DealComparisonDTO comparison = dealComparisonService.getDealsForMatch(matchId);
-        return ResponseEntity.ok(comparison);
+        return conditional(request, dataVersionService.matchVersion(matchId),
+                () -> ResponseEntity.ok(dealComparisonService.getDealsForMatch(matchId)));
     }
 
     @GetMapping("/match/{matchId}/cheapest")
@@ -63,40 +79,66 @@ public class DealController {
     }
 
     @GetMapping("/top")
-    @Operation(summary = "Get top deals", description = "Returns the best deals across all matches, sorted by deal score")
+    @Operation(summary = "Get top deals", description = "Returns the best deals across all matches, sorted by deal score. "
+            + "Pass the X-Next-Cursor response header back as 'cursor' to fetch the next page")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Top deals retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Top deals retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
     })
     public ResponseEntity<List<DealScoreDTO>> getTopDeals(
-            @Parameter(description = "Maximum number of deals to return", example = "10")
-            @RequestParam(defaultValue = "10") int limit) {
+            @Parameter(description = "Maximum number of deals to return (max 100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor) {
         log.info("GET /api/deals/top - Get top {} deals", limit);
-        List<DealScoreDTO> topDeals = dealComparisonService.getTopDeals(limit);
-        return ResponseEntity.ok(topDeals);
+        CursorPageDTO<DealScoreDTO> page = dealComparisonService.getTopDeals(cursor, limit);
+        return withNextCursor(page);
     }
 
     @GetMapping("/match/{matchId}/history")
     @Operation(summary = "Get price history for a match", description = "Returns 7-day price history snapshots for a match")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Price history retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Price history retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "History unchanged since the ETag in If-None-Match")
     })
     public ResponseEntity<List<PriceSnapshotDTO>> getPriceHistory(
             @Parameter(description = "Match ID", required = true, example = "1")
-            @PathVariable Long matchId) {
+            @PathVariable Long matchId,
+            WebRequest request) {
         log.info("GET /api/deals/match/{}/history - Get price history", matchId);
-        List<PriceSnapshotDTO> history = dealComparisonService.getPriceHistory(matchId);
-        return ResponseEntity.ok(history);
+        return conditional(request, dataVersionService.matchVersion(matchId),
+                () -> ResponseEntity.ok(dealComparisonService.getPriceHistory(matchId)));
     }
 
     @GetMapping("/summaries")
-    @Operation(summary = "Get all match deal summaries", description = "Returns deal summaries for all matches, sorted by lowest price")
+    @Operation(summary = "Get match deal summaries", description = "Returns deal summaries sorted by lowest price. "
+            + "All summaries are returned unless 'size' or 'cursor' is given; paged responses carry an X-Next-Cursor header")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Summaries retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Summaries retrieved successfully",
+                content = @Content(array = @ArraySchema(schema = @Schema(implementation = MatchDealSummaryDTO.class)))),
+        @ApiResponse(responseCode = "304", description = "Summaries unchanged since the ETag in If-None-Match"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
     })
-    public ResponseEntity<List<MatchDealSummaryDTO>> getAllSummaries() {
-        log.info("GET /api/deals/summaries - Get all match deal summaries");
-        List<MatchDealSummaryDTO> summaries = dealComparisonService.getAllMatchSummaries();
-        return ResponseEntity.ok(summaries);
+    public ResponseEntity<?> getAllSummaries(
+            @Parameter(description = "Page size (max 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Continuation token from a previous page")
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
+        if (size == null && cursor == null) {
+            log.info("GET /api/deals/summaries - Get all match deal summaries");
+            if (isBinaryAccept(request)) {
+                return conditional(request, dataVersionService.globalVersion(),
+                        () -> ResponseEntity.ok(dealComparisonService.getAllMatchSummaries()));
+            }
+            return conditional(request, dataVersionService.globalVersion(),
+                    () -> serializedResponseCache.respond("dealSummary", "all", request,
+                            dealComparisonService::getAllMatchSummaries));
+        }
+        log.info("GET /api/deals/summaries - Get match deal summaries page (size: {})", size);
+        return conditional(request, dataVersionService.globalVersion(),
+                () -> withNextCursor(dealComparisonService.getMatchSummaries(
+                        cursor, size != null ? size : DEFAULT_PAGE_SIZE)));
     }
 
     @GetMapping("/providers")
@@ -127,38 +169,43 @@ public class DealController {
     @GetMapping("/analytics/overview")
     @Operation(summary = "Get market overview", description = "Returns overall market statistics and trends")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Market overview retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Market overview retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Overview unchanged since the ETag in If-None-Match")
     })
-    public ResponseEntity<MarketOverviewDTO> getMarketOverview() {
+    public ResponseEntity<MarketOverviewDTO> getMarketOverview(WebRequest request) {
         log.info("GET /api/deals/analytics/overview - Get market overview");
-        MarketOverviewDTO overview = analyticsService.getMarketOverview();
-        return ResponseEntity.ok(overview);
+        return conditional(request, dataVersionService.globalVersion(),
+                () -> ResponseEntity.ok(analyticsService.getMarketOverview()));
     }
 
     @GetMapping("/analytics/trending")
     @Operation(summary = "Get trending matches", description = "Returns matches ranked by popularity and deal activity")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Trending matches retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Trending matches retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Trending matches unchanged since the ETag in If-None-Match")
     })
     public ResponseEntity<List<TrendingMatchDTO>> getTrendingMatches(
             @Parameter(description = "Maximum number of matches to return", example = "10")
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest request) {
         log.info("GET /api/deals/analytics/trending - Get top {} trending matches", limit);
-        List<TrendingMatchDTO> trending = analyticsService.getTrendingMatches(limit);
-        return ResponseEntity.ok(trending);
+        return conditional(request, dataVersionService.globalVersion(),
+                () -> ResponseEntity.ok(analyticsService.getTrendingMatches(limit)));
     }
 
     @GetMapping("/analytics/price-drops")
     @Operation(summary = "Get biggest price drops", description = "Returns matches with the biggest savings vs market average")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Price drops retrieved successfully")
+        @ApiResponse(responseCode = "200", description = "Price drops retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Price drops unchanged since the ETag in If-None-Match")
     })
     public ResponseEntity<List<TrendingMatchDTO>> getBiggestPriceDrops(
             @Parameter(description = "Maximum number of matches to return", example = "10")
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest request) {
         log.info("GET /api/deals/analytics/price-drops - Get top {} price drops", limit);
-        List<TrendingMatchDTO> drops = analyticsService.getBiggestPriceDrops(limit);
-        return ResponseEntity.ok(drops);
+        return conditional(request, dataVersionService.globalVersion(),
+                () -> ResponseEntity.ok(analyticsService.getBiggestPriceDrops(limit)));
     }
 
     @PostMapping("/admin/fetch-prices")
@@ -185,4 +232,44 @@ public class DealController {
         dealScoringService.computeAllScores();
         return ResponseEntity.ok(Map.of("status", "completed"));
     }
+
+    private <T> ResponseEntity<List<T>> withNextCursor(CursorPageDTO<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    /**
+     * Answers If-None-Match from the data version alone, so unchanged resources cost no query or serialisation.
+     */
+    private <T> ResponseEntity<T> conditional(WebRequest request, String version, Supplier<ResponseEntity<T>> handler) {
+        String eTag = eTag(request, version);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .build();
+        }
+        ResponseEntity<T> response = handler.get();
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .eTag(eTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(response.getBody());
+    }
+
+    private static String eTag(WebRequest request, String version) {
+        // Smile/CBOR bodies differ from JSON, so they get a validator of their own
+        if (isBinaryAccept(request)) {
+            return "\"" + version + "-" + Integer.toHexString(request.getHeader(HttpHeaders.ACCEPT).hashCode()) + "\"";
+        }
+        return "\"" + version + "\"";
+    }
+
+    private static boolean isBinaryAccept(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && (accept.contains("smile") || accept.contains("cbor"));
+    }
 }
@@ -0,0 +1,123 @@
+package com.worldcup.dealfinderservice.controller;
+
+import com.worldcup.dealfinderservice.dto.CursorPageDTO;
+import com.worldcup.dealfinderservice.exception.GlobalExceptionHandler.ErrorResponse;
+import com.worldcup.dealfinderservice.service.DataVersionService;
+import com.worldcup.dealfinderservice.service.ReactiveDealReadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Functional handlers for the deal read endpoints when reactive reads are enabled. Responses are completed
+ * asynchronously, so the servlet thread is released while R2DBC runs the query. Routes, ETags and cursor
+ * headers match DealController.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "reactive-reads.enabled", havingValue = "true")
+public class DealReadHandler {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final ReactiveDealReadService readService;
+    private final DataVersionService dataVersionService;
+
+    public ServerResponse getDealsForMatch(ServerRequest request) {
+        Long matchId = Long.valueOf(request.pathVariable("matchId"));
+        log.info("GET /api/deals/match/{} - Get deals for match", matchId);
+        return conditional(request, dataVersionService.matchVersion(matchId),
+                ok -> readService.getDealsForMatch(matchId).map(ok::body));
+    }
+
+    public ServerResponse getCheapestDeal(ServerRequest request) {
+        Long matchId = Long.valueOf(request.pathVariable("matchId"));
+        log.info("GET /api/deals/match/{}/cheapest - Get cheapest deal", matchId);
+        return ServerResponse.async(readService.getCheapestDeal(matchId)
+                .map(cheapest -> ServerResponse.ok().body(cheapest))
+                .defaultIfEmpty(ServerResponse.noContent().build()));
+    }
+
+    public ServerResponse getTopDeals(ServerRequest request) {
+        int limit = request.param("limit").map(Integer::parseInt).orElse(10);
+        String cursor = request.param("cursor").orElse(null);
+        log.info("GET /api/deals/top - Get top {} deals", limit);
+        return ServerResponse.async(readService.getTopDeals(cursor, limit)
+                .map(page -> withNextCursor(ServerResponse.ok(), page))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(badRequest(request, e))));
+    }
+
+    public ServerResponse getPriceHistory(ServerRequest request) {
+        Long matchId = Long.valueOf(request.pathVariable("matchId"));
+        log.info("GET /api/deals/match/{}/history - Get price history", matchId);
+        return conditional(request, dataVersionService.matchVersion(matchId),
+                ok -> readService.getPriceHistory(matchId).map(ok::body));
+    }
+
+    public ServerResponse getAllSummaries(ServerRequest request) {
+        Integer size = request.param("size").map(Integer::valueOf).orElse(null);
+        String cursor = request.param("cursor").orElse(null);
+        if (size == null && cursor == null) {
+            log.info("GET /api/deals/summaries - Get all match deal summaries");
+            return conditional(request, dataVersionService.globalVersion(),
+                    ok -> readService.getAllMatchSummaries().map(ok::body));
+        }
+        log.info("GET /api/deals/summaries - Get match deal summaries page (size: {})", size);
+        return conditional(request, dataVersionService.globalVersion(),
+                ok -> readService.getMatchSummaries(cursor, size != null ? size : DEFAULT_PAGE_SIZE)
+                        .map(page -> withNextCursor(ok, page))
+                        .onErrorResume(IllegalArgumentException.class, e -> Mono.just(badRequest(request, e))));
+    }
+
+    private static <T> ServerResponse withNextCursor(ServerResponse.BodyBuilder response, CursorPageDTO<T> page) {
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    /**
+     * Answers If-None-Match from the data version before any query is issued; otherwise hands the handler a
+     * 200 builder that already carries the ETag.
+     */
+    private ServerResponse conditional(ServerRequest request, String version,
+                                       Function<ServerResponse.BodyBuilder, Mono<ServerResponse>> handler) {
+        String eTag = eTag(request, version);
+        if (request.checkNotModified(eTag).isPresent()) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .build();
+        }
+        return ServerResponse.async(handler.apply(ServerResponse.ok()
+                .eTag(eTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)));
+    }
+
+    private static String eTag(ServerRequest request, String version) {
+        // Smile/CBOR bodies differ from JSON, so they get a validator of their own
+        String accept = request.headers().firstHeader(HttpHeaders.ACCEPT);
+        if (accept != null && (accept.contains("smile") || accept.contains("cbor"))) {
+            return "\"" + version + "-" + Integer.toHexString(accept.hashCode()) + "\"";
+        }
+        return "\"" + version + "\"";
+    }
+
+    private static ServerResponse badRequest(ServerRequest request, IllegalArgumentException e) {
+        log.error("Invalid argument: {}", e.getMessage());
+        return ServerResponse.badRequest().body(new ErrorResponse(
+                LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(),
+                "Bad Request", e.getMessage(), "uri=" + request.path()));
+    }
+}
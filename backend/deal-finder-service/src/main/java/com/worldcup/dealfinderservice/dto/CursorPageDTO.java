@@ -0,0 +1,26 @@
+package com.worldcup.dealfinderservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "One page of a keyset-paginated result")
+public class CursorPageDTO<T> implements Serializable {
+
+    @Schema(description = "Items in this page")
+    private List<T> items;
+
+    @Schema(description = "Opaque token for the next page, absent on the last page")
+    private String nextCursor;
+}
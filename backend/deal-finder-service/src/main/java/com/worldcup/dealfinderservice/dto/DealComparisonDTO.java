@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -16,7 +17,7 @@ import java.util.List;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Full deal comparison for a match across all providers")
-public class DealComparisonDTO {
+public class DealComparisonDTO implements Serializable {
 
     @Schema(description = "Match ID")
     private Long matchId;
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 @Data
@@ -15,7 +16,7 @@ import java.math.BigDecimal;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Deal score for a provider's ticket offer")
-public class DealScoreDTO {
+public class DealScoreDTO implements Serializable {
 
     @Schema(description = "Deal score ID")
     private Long id;
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 @Data
@@ -15,7 +16,7 @@ import java.math.BigDecimal;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Overall market overview and statistics")
-public class MarketOverviewDTO {
+public class MarketOverviewDTO implements Serializable {
 
     @Schema(description = "Total matches tracked")
     private int totalMatches;
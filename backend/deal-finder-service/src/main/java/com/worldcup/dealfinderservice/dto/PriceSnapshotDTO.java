@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Price snapshot from a ticket provider")
-public class PriceSnapshotDTO {
+public class PriceSnapshotDTO implements Serializable {
 
     @Schema(description = "Snapshot ID")
     private Long id;
@@ -0,0 +1,22 @@
+package com.worldcup.dealfinderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledMatchDTO {
+
+    private Long matchId;
+    private List<String> homeTeamNames;
+    private List<String> awayTeamNames;
+    private LocalDate matchDate;
+    private String venueCity;
+}
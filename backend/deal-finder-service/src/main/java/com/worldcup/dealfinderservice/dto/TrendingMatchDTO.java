@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 @Data
@@ -15,7 +16,7 @@ import java.math.BigDecimal;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Trending match with analytics data")
-public class TrendingMatchDTO {
+public class TrendingMatchDTO implements Serializable {
 
     @Schema(description = "Match ID")
     private Long matchId;
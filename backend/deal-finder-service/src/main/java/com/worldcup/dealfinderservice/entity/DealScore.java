@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
         ),
         indexes = {
                 @Index(name = "idx_deals_match", columnList = "match_id"),
-                @Index(name = "idx_deals_score", columnList = "deal_score"),
+                @Index(name = "idx_deals_score", columnList = "deal_score DESC, id DESC"),
                 @Index(name = "idx_deals_match_cat", columnList = "match_id, category"),
                 @Index(name = "idx_deals_trend", columnList = "price_trend")
         })
@@ -31,7 +31,7 @@ public class DealScore {
     @Column(name = "match_id", nullable = false)
     private Long matchId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "provider_id", nullable = false)
     private Provider provider;
 
@@ -0,0 +1,41 @@
+package com.worldcup.dealfinderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "event_match_mapping", schema = "deal_finder_schema",
+        uniqueConstraints = @UniqueConstraint(name = "uq_event_mapping_provider_event",
+                columnNames = {"provider_id", "external_event_id"}),
+        indexes = {
+                @Index(name = "idx_event_mapping_match", columnList = "match_id")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventMatchMapping {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "provider_id", nullable = false)
+    private Provider provider;
+
+    @Column(name = "external_event_id", nullable = false, length = 100)
+    private String externalEventId;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    @Column(name = "event_name", length = 300)
+    private String eventName;
+
+    @Column(name = "resolved_by", nullable = false, length = 20)
+    private String resolvedBy;
+
+    @Column(name = "resolved_at", nullable = false)
+    private LocalDateTime resolvedAt;
+}
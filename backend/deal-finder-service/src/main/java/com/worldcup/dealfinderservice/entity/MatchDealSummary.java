@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
         ),
         indexes = {
                 @Index(name = "idx_summary_match", columnList = "match_id"),
-                @Index(name = "idx_summary_lowest", columnList = "lowest_price")
+                @Index(name = "idx_summary_lowest", columnList = "lowest_price, id")
         })
 @Data
 @NoArgsConstructor
@@ -41,7 +41,7 @@ public class MatchDealSummary {
     @Column(name = "average_price", precision = 10, scale = 2)
     private BigDecimal averagePrice;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "best_provider_id")
     private Provider bestProvider;
 
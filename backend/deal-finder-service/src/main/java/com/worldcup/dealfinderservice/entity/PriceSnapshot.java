@@ -28,7 +28,7 @@ public class PriceSnapshot {
     @Column(name = "match_id", nullable = false)
     private Long matchId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "provider_id", nullable = false)
     private Provider provider;
 
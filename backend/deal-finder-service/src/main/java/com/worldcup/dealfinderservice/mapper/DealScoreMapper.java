@@ -2,6 +2,7 @@ package com.worldcup.dealfinderservice.mapper;
 
 import com.worldcup.dealfinderservice.dto.DealScoreDTO;
 import com.worldcup.dealfinderservice.entity.DealScore;
+import com.worldcup.dealfinderservice.repository.reactive.DealScoreRow;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -20,5 +21,7 @@ public interface DealScoreMapper {
     @Mapping(source = "provider.hasBuyerProtection", target = "hasBuyerProtection")
     DealScoreDTO toDTO(DealScore dealScore);
 
+    DealScoreDTO toDTO(DealScoreRow row);
+
     List<DealScoreDTO> toDTOList(List<DealScore> dealScores);
 }
@@ -2,6 +2,7 @@ package com.worldcup.dealfinderservice.mapper;
 
 import com.worldcup.dealfinderservice.dto.MatchDealSummaryDTO;
 import com.worldcup.dealfinderservice.entity.MatchDealSummary;
+import com.worldcup.dealfinderservice.repository.reactive.MatchDealSummaryRow;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -16,5 +17,7 @@ public interface MatchDealSummaryMapper {
     @Mapping(source = "bestProvider.name", target = "bestProviderName")
     MatchDealSummaryDTO toDTO(MatchDealSummary summary);
 
+    MatchDealSummaryDTO toDTO(MatchDealSummaryRow row);
+
     List<MatchDealSummaryDTO> toDTOList(List<MatchDealSummary> summaries);
 }
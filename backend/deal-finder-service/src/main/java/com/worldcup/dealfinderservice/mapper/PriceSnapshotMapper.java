@@ -2,6 +2,7 @@ package com.worldcup.dealfinderservice.mapper;
 
 import com.worldcup.dealfinderservice.dto.PriceSnapshotDTO;
 import com.worldcup.dealfinderservice.entity.PriceSnapshot;
+import com.worldcup.dealfinderservice.repository.reactive.PriceSnapshotRow;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -17,5 +18,7 @@ public interface PriceSnapshotMapper {
     @Mapping(source = "provider.logoUrl", target = "providerLogoUrl")
     PriceSnapshotDTO toDTO(PriceSnapshot snapshot);
 
+    PriceSnapshotDTO toDTO(PriceSnapshotRow row);
+
     List<PriceSnapshotDTO> toDTOList(List<PriceSnapshot> snapshots);
 }
@@ -1,6 +1,7 @@
 package com.worldcup.dealfinderservice.repository;
 
 import com.worldcup.dealfinderservice.entity.DealScore;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,8 +13,10 @@ import java.util.Optional;
 @Repository
 public interface DealScoreRepository extends JpaRepository<DealScore, Long> {
 
+    @EntityGraph(attributePaths = "provider")
     List<DealScore> findByMatchIdOrderByDealScoreDesc(Long matchId);
 
+    @EntityGraph(attributePaths = "provider")
     List<DealScore> findByMatchIdAndCategoryOrderByDealScoreDesc(Long matchId, String category);
 
     Optional<DealScore> findByMatchIdAndProviderIdAndCategory(Long matchId, Long providerId, String category);
@@ -21,6 +24,20 @@ public interface DealScoreRepository extends JpaRepository<DealScore, Long> {
     @Query("SELECT ds FROM DealScore ds ORDER BY ds.dealScore DESC")
     List<DealScore> findTopDeals();
 
-    @Query("SELECT ds FROM DealScore ds WHERE ds.matchId = :matchId ORDER BY ds.currentPrice ASC")
+    @Query(value = "SELECT * FROM deal_finder_schema.deal_scores "
+            + "ORDER BY deal_score DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<DealScore> findTopDealsFirstPage(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM deal_finder_schema.deal_scores "
+            + "WHERE (deal_score, id) < (:dealScore, :id) "
+            + "ORDER BY deal_score DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<DealScore> findTopDealsAfter(@Param("dealScore") int dealScore, @Param("id") long id,
+                                      @Param("limit") int limit);
+
+    @Query("SELECT ds FROM DealScore ds JOIN FETCH ds.provider WHERE ds.matchId = :matchId ORDER BY ds.currentPrice ASC")
     List<DealScore> findByMatchIdOrderByPriceAsc(@Param("matchId") Long matchId);
+
+    @Query("SELECT ds.matchId AS matchId, ds.dealScore AS dealScore, ds.currentPrice AS currentPrice, "
+            + "ds.savingsPercentage AS savingsPercentage FROM DealScore ds")
+    List<DealScoreStats> findAllStats();
 }
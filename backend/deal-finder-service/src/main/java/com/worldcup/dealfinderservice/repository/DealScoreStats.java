@@ -0,0 +1,17 @@
+package com.worldcup.dealfinderservice.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Scalar view of a deal score for analytics, loaded without the entity or its provider.
+ */
+public interface DealScoreStats {
+
+    Long getMatchId();
+
+    Integer getDealScore();
+
+    BigDecimal getCurrentPrice();
+
+    BigDecimal getSavingsPercentage();
+}
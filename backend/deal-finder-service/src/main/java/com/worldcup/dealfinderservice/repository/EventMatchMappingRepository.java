@@ -0,0 +1,13 @@
+package com.worldcup.dealfinderservice.repository;
+
+import com.worldcup.dealfinderservice.entity.EventMatchMapping;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EventMatchMappingRepository extends JpaRepository<EventMatchMapping, Long> {
+
+    Optional<EventMatchMapping> findByProviderIdAndExternalEventId(Long providerId, String externalEventId);
+}
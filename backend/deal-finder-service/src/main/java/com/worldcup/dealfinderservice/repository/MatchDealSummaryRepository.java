@@ -1,9 +1,13 @@
 package com.worldcup.dealfinderservice.repository;
 
 import com.worldcup.dealfinderservice.entity.MatchDealSummary;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +16,20 @@ public interface MatchDealSummaryRepository extends JpaRepository<MatchDealSumma
 
     List<MatchDealSummary> findByMatchId(Long matchId);
 
+    @EntityGraph(attributePaths = "bestProvider")
     Optional<MatchDealSummary> findByMatchIdAndCategory(Long matchId, String category);
 
+    @EntityGraph(attributePaths = "bestProvider")
     List<MatchDealSummary> findAllByOrderByLowestPriceAsc();
+
+    @Query(value = "SELECT * FROM deal_finder_schema.match_deal_summary "
+            + "WHERE lowest_price IS NOT NULL "
+            + "ORDER BY lowest_price, id LIMIT :limit", nativeQuery = true)
+    List<MatchDealSummary> findByLowestPriceFirstPage(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM deal_finder_schema.match_deal_summary "
+            + "WHERE (lowest_price, id) > (:lowestPrice, :id) "
+            + "ORDER BY lowest_price, id LIMIT :limit", nativeQuery = true)
+    List<MatchDealSummary> findByLowestPriceAfter(@Param("lowestPrice") BigDecimal lowestPrice,
+                                                  @Param("id") long id, @Param("limit") int limit);
 }
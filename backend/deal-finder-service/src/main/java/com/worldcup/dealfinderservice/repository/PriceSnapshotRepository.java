@@ -32,6 +32,11 @@ public interface PriceSnapshotRepository extends JpaRepository<PriceSnapshot, Lo
     List<PriceSnapshot> findByMatchIdSince(@Param("matchId") Long matchId,
                                            @Param("since") LocalDateTime since);
 
+    @Query("SELECT ps FROM PriceSnapshot ps JOIN FETCH ps.provider WHERE ps.matchId = :matchId " +
+           "AND ps.fetchedAt >= :since ORDER BY ps.fetchedAt DESC")
+    List<PriceSnapshot> findWithProviderByMatchIdSince(@Param("matchId") Long matchId,
+                                                       @Param("since") LocalDateTime since);
+
     @Query("SELECT DISTINCT ps.matchId FROM PriceSnapshot ps")
     List<Long> findDistinctMatchIds();
 
@@ -0,0 +1,32 @@
+package com.worldcup.dealfinderservice.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only R2DBC queries over deal scores. Writes go through the JPA DealScoreRepository.
+ */
+public interface DealScoreReadRepository extends Repository<DealScoreRow, Long> {
+
+    String SELECT_WITH_PROVIDER = "SELECT ds.*, p.name AS provider_name, p.logo_url AS provider_logo_url, "
+            + "p.trust_score, p.fee_percentage, p.has_buyer_protection "
+            + "FROM deal_finder_schema.deal_scores ds "
+            + "JOIN deal_finder_schema.providers p ON p.id = ds.provider_id ";
+
+    @Query(SELECT_WITH_PROVIDER + "WHERE ds.match_id = :matchId ORDER BY ds.current_price")
+    Flux<DealScoreRow> findByMatchIdOrderByPriceAsc(@Param("matchId") Long matchId);
+
+    @Query(SELECT_WITH_PROVIDER + "WHERE ds.match_id = :matchId ORDER BY ds.current_price LIMIT 1")
+    Mono<DealScoreRow> findCheapestByMatchId(@Param("matchId") Long matchId);
+
+    @Query(SELECT_WITH_PROVIDER + "ORDER BY ds.deal_score DESC, ds.id DESC LIMIT :limit")
+    Flux<DealScoreRow> findTopDealsFirstPage(@Param("limit") int limit);
+
+    @Query(SELECT_WITH_PROVIDER + "WHERE (ds.deal_score, ds.id) < (:dealScore, :id) "
+            + "ORDER BY ds.deal_score DESC, ds.id DESC LIMIT :limit")
+    Flux<DealScoreRow> findTopDealsAfter(@Param("dealScore") int dealScore, @Param("id") long id,
+                                         @Param("limit") int limit);
+}
@@ -0,0 +1,35 @@
+package com.worldcup.dealfinderservice.repository.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A deal score row joined with its provider's display fields, read over R2DBC.
+ */
+@Table("deal_scores")
+public record DealScoreRow(
+        @Id Long id,
+        Long matchId,
+        String providerName,
+        String providerLogoUrl,
+        Integer trustScore,
+        BigDecimal feePercentage,
+        Boolean hasBuyerProtection,
+        String category,
+        Integer dealScore,
+        BigDecimal currentPrice,
+        BigDecimal marketAverage,
+        BigDecimal savingsPercentage,
+        String priceTrend,
+        BigDecimal trendPercentage,
+        @Column("price_7d_low") BigDecimal price7dLow,
+        @Column("price_7d_high") BigDecimal price7dHigh,
+        String bestTimeToBuy,
+        String recommendation,
+        String bookingUrl,
+        LocalDateTime lastComputedAt) {
+}
@@ -0,0 +1,35 @@
+package com.worldcup.dealfinderservice.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only R2DBC queries over match deal summaries. Writes go through the JPA MatchDealSummaryRepository.
+ */
+public interface MatchDealSummaryReadRepository extends Repository<MatchDealSummaryRow, Long> {
+
+    String SELECT_WITH_BEST_PROVIDER = "SELECT s.*, p.name AS best_provider_name "
+            + "FROM deal_finder_schema.match_deal_summary s "
+            + "LEFT JOIN deal_finder_schema.providers p ON p.id = s.best_provider_id ";
+
+    @Query(SELECT_WITH_BEST_PROVIDER + "WHERE s.match_id = :matchId AND s.category = :category")
+    Mono<MatchDealSummaryRow> findByMatchIdAndCategory(@Param("matchId") Long matchId,
+                                                       @Param("category") String category);
+
+    @Query(SELECT_WITH_BEST_PROVIDER + "ORDER BY s.lowest_price")
+    Flux<MatchDealSummaryRow> findAllOrderByLowestPrice();
+
+    @Query(SELECT_WITH_BEST_PROVIDER + "WHERE s.lowest_price IS NOT NULL "
+            + "ORDER BY s.lowest_price, s.id LIMIT :limit")
+    Flux<MatchDealSummaryRow> findByLowestPriceFirstPage(@Param("limit") int limit);
+
+    @Query(SELECT_WITH_BEST_PROVIDER + "WHERE (s.lowest_price, s.id) > (:lowestPrice, :id) "
+            + "ORDER BY s.lowest_price, s.id LIMIT :limit")
+    Flux<MatchDealSummaryRow> findByLowestPriceAfter(@Param("lowestPrice") BigDecimal lowestPrice,
+                                                     @Param("id") long id, @Param("limit") int limit);
+}
@@ -0,0 +1,24 @@
+package com.worldcup.dealfinderservice.repository.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * A match deal summary row with its best provider's name, read over R2DBC.
+ */
+@Table("match_deal_summary")
+public record MatchDealSummaryRow(
+        @Id Long id,
+        Long matchId,
+        String category,
+        BigDecimal lowestPrice,
+        BigDecimal highestPrice,
+        BigDecimal averagePrice,
+        String bestProviderName,
+        Integer bestDealScore,
+        Integer numProviders,
+        String overallTrend,
+        String bestTimeToBuy) {
+}
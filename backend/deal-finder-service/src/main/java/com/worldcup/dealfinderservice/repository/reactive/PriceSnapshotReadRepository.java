@@ -0,0 +1,21 @@
+package com.worldcup.dealfinderservice.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only R2DBC queries over price snapshots. Writes go through the JPA PriceSnapshotRepository.
+ */
+public interface PriceSnapshotReadRepository extends Repository<PriceSnapshotRow, Long> {
+
+    @Query("SELECT ps.*, p.name AS provider_name, p.logo_url AS provider_logo_url "
+            + "FROM deal_finder_schema.price_snapshots ps "
+            + "JOIN deal_finder_schema.providers p ON p.id = ps.provider_id "
+            + "WHERE ps.match_id = :matchId AND ps.fetched_at >= :since ORDER BY ps.fetched_at DESC")
+    Flux<PriceSnapshotRow> findWithProviderByMatchIdSince(@Param("matchId") Long matchId,
+                                                          @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,26 @@
+package com.worldcup.dealfinderservice.repository.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A price snapshot row joined with its provider's display fields, read over R2DBC.
+ */
+@Table("price_snapshots")
+public record PriceSnapshotRow(
+        @Id Long id,
+        Long matchId,
+        String providerName,
+        String providerLogoUrl,
+        String category,
+        BigDecimal basePrice,
+        BigDecimal feeAmount,
+        BigDecimal totalPrice,
+        String currency,
+        String availabilityStatus,
+        String bookingUrl,
+        LocalDateTime fetchedAt) {
+}
@@ -0,0 +1,24 @@
+package com.worldcup.dealfinderservice.scheduler;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated job on at most one instance at a time; instances that cannot take the lock skip the run.
+ * The lease bounds how long a dead holder blocks the job, and the minimum hold stops a replica whose schedule
+ * fires a few seconds later from repeating a run that just finished. Durations are ISO-8601.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JobLock {
+
+    String name();
+
+    String leaseTime() default "PT30M";
+
+    String minHoldTime() default "PT30S";
+}
@@ -0,0 +1,65 @@
+package com.worldcup.dealfinderservice.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Lease-based job locks in the job_locks table. A lock is taken by an upsert that only wins once the current
+ * lease has expired, and released by shortening the lease. All times come from the database clock.
+ */
+@Service
+@Slf4j
+public class JobLockService {
+
+    private static final String ACQUIRE =
+            "INSERT INTO deal_finder_schema.job_locks (name, locked_by, locked_at, locked_until) "
+            + "VALUES (?, ?, now(), now() + ? * INTERVAL '1 millisecond') "
+            + "ON CONFLICT (name) DO UPDATE SET locked_by = EXCLUDED.locked_by, "
+            + "locked_at = EXCLUDED.locked_at, locked_until = EXCLUDED.locked_until "
+            + "WHERE job_locks.locked_until <= now()";
+
+    private static final String RELEASE =
+            "UPDATE deal_finder_schema.job_locks "
+            + "SET locked_until = GREATEST(now(), locked_at + ? * INTERVAL '1 millisecond') "
+            + "WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId;
+
+    public JobLockService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.instanceId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        return jdbcTemplate.update(ACQUIRE, name, instanceId, leaseTime.toMillis()) == 1;
+    }
+
+    /**
+     * Keeps the lock until at least minHoldTime after it was taken; a no-op if another instance took it over.
+     */
+    public void release(String name, Duration minHoldTime) {
+        int updated = jdbcTemplate.update(RELEASE, minHoldTime.toMillis(), name, instanceId);
+        if (updated == 0) {
+            log.warn("Job lock {} was no longer held by {} on release; its lease may be too short", name, instanceId);
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
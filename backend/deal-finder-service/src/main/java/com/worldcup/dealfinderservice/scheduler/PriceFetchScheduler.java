@@ -0,0 +1,44 @@
+package com.worldcup.dealfinderservice.scheduler;
+
+import com.worldcup.dealfinderservice.service.DealScoringService;
+import com.worldcup.dealfinderservice.service.PriceFetchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches provider prices and recomputes deal scores on the price-fetch schedule. Each job runs on one
+ * instance per cluster, so replicas don't multiply provider API calls or contend on the same rows.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "price-fetch.enabled", havingValue = "true")
+public class PriceFetchScheduler {
+
+    private final PriceFetchService priceFetchService;
+    private final DealScoringService dealScoringService;
+
+    @Scheduled(cron = "${price-fetch.cron:0 0 */4 * * *}")
+    @JobLock(name = "price-fetch", leaseTime = "PT1H")
+    public void fetchPrices() {
+        try {
+            int recordsFetched = priceFetchService.fetchAllPrices();
+            log.info("Scheduled price fetch saved {} snapshots", recordsFetched);
+        } catch (Exception e) {
+            log.error("Scheduled price fetch failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${price-fetch.score-cron:0 10 */4 * * *}")
+    @JobLock(name = "deal-scoring", leaseTime = "PT30M")
+    public void computeScores() {
+        try {
+            dealScoringService.computeAllScores();
+        } catch (Exception e) {
+            log.error("Scheduled deal score computation failed", e);
+        }
+    }
+}
@@ -2,9 +2,9 @@ package com.worldcup.dealfinderservice.service;
 
 import com.worldcup.dealfinderservice.dto.MarketOverviewDTO;
 import com.worldcup.dealfinderservice.dto.TrendingMatchDTO;
-import com.worldcup.dealfinderservice.entity.DealScore;
 import com.worldcup.dealfinderservice.entity.MatchDealSummary;
 import com.worldcup.dealfinderservice.repository.DealScoreRepository;
+import com.worldcup.dealfinderservice.repository.DealScoreStats;
 import com.worldcup.dealfinderservice.repository.MatchDealSummaryRepository;
 import com.worldcup.dealfinderservice.repository.ProviderRepository;
 import lombok.RequiredArgsConstructor;
@@ -29,11 +29,11 @@ public class AnalyticsService {
     private final MatchDealSummaryRepository matchDealSummaryRepository;
     private final ProviderRepository providerRepository;
 
-    @Cacheable(value = "marketOverview", key = "'overview'")
+    @Cacheable(value = "marketOverview", key = "'overview'", sync = true)
     public MarketOverviewDTO getMarketOverview() {
         log.debug("Computing market overview");
 
-        List<DealScore> allDeals = dealScoreRepository.findTopDeals();
+        List<DealScoreStats> allDeals = dealScoreRepository.findAllStats();
         List<MatchDealSummary> summaries = matchDealSummaryRepository.findAllByOrderByLowestPriceAsc();
         int providerCount = providerRepository.findByIsActiveTrueOrderByPriorityAsc().size();
 
@@ -58,12 +58,12 @@ public class AnalyticsService {
                 .orElse(BigDecimal.ZERO);
 
         BigDecimal avgPrice = allDeals.stream()
-                .map(DealScore::getCurrentPrice)
+                .map(DealScoreStats::getCurrentPrice)
                 .reduce(BigDecimal.ZERO, BigDecimal::add)
                 .divide(BigDecimal.valueOf(allDeals.size()), 2, RoundingMode.HALF_UP);
 
         double avgScore = allDeals.stream()
-                .mapToInt(DealScore::getDealScore)
+                .mapToInt(DealScoreStats::getDealScore)
                 .average()
                 .orElse(0.0);
 
@@ -95,12 +95,12 @@ public class AnalyticsService {
                 .build();
     }
 
-    @Cacheable(value = "trendingMatches", key = "'trending_' + #limit")
+    @Cacheable(value = "trendingMatches", key = "'trending_' + #limit", sync = true)
     public List<TrendingMatchDTO> getTrendingMatches(int limit) {
         log.debug("Computing trending matches, limit: {}", limit);
 
         List<MatchDealSummary> summaries = matchDealSummaryRepository.findAllByOrderByLowestPriceAsc();
-        List<DealScore> allDeals = dealScoreRepository.findTopDeals();
+        List<DealScoreStats> allDeals = dealScoreRepository.findAllStats();
 
         List<TrendingMatchDTO> trending = new ArrayList<>();
 
@@ -115,7 +115,7 @@ public class AnalyticsService {
 
             BigDecimal maxSavings = allDeals.stream()
                     .filter(d -> d.getMatchId().equals(summary.getMatchId()))
-                    .map(DealScore::getSavingsPercentage)
+                    .map(DealScoreStats::getSavingsPercentage)
                     .filter(s -> s != null)
                     .max(BigDecimal::compareTo)
                     .orElse(BigDecimal.ZERO);
@@ -150,19 +150,19 @@ public class AnalyticsService {
         return result;
     }
 
-    @Cacheable(value = "priceDrops", key = "'drops_' + #limit")
+    @Cacheable(value = "priceDrops", key = "'drops_' + #limit", sync = true)
     public List<TrendingMatchDTO> getBiggestPriceDrops(int limit) {
         log.debug("Computing biggest price drops, limit: {}", limit);
 
         List<MatchDealSummary> summaries = matchDealSummaryRepository.findAllByOrderByLowestPriceAsc();
-        List<DealScore> allDeals = dealScoreRepository.findTopDeals();
+        List<DealScoreStats> allDeals = dealScoreRepository.findAllStats();
 
         List<TrendingMatchDTO> drops = new ArrayList<>();
 
         for (MatchDealSummary summary : summaries) {
             BigDecimal maxSavings = allDeals.stream()
                     .filter(d -> d.getMatchId().equals(summary.getMatchId()))
-                    .map(DealScore::getSavingsPercentage)
+                    .map(DealScoreStats::getSavingsPercentage)
                     .filter(s -> s != null && s.compareTo(BigDecimal.ZERO) > 0)
                     .max(BigDecimal::compareTo)
                     .orElse(null);
@@ -200,7 +200,7 @@ public class AnalyticsService {
         return result;
     }
 
-    private int computePopularityScore(MatchDealSummary summary, List<DealScore> allDeals) {
+    private int computePopularityScore(MatchDealSummary summary, List<DealScoreStats> allDeals) {
         int score = 0;
 
         // Factor 1: Deal score (max 35 points)
@@ -223,7 +223,7 @@ public class AnalyticsService {
         // Factor 4: Savings available (max 20 points)
         BigDecimal maxSavings = allDeals.stream()
                 .filter(d -> d.getMatchId().equals(summary.getMatchId()))
-                .map(DealScore::getSavingsPercentage)
+                .map(DealScoreStats::getSavingsPercentage)
                 .filter(s -> s != null && s.compareTo(BigDecimal.ZERO) > 0)
                 .max(BigDecimal::compareTo)
                 .orElse(BigDecimal.ZERO);
@@ -0,0 +1,70 @@
+package com.worldcup.dealfinderservice.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory data versions used as ETags for deal read endpoints.
+ * Every write that changes a match's deals or prices bumps that match and the global version once its
+ * transaction commits, so a version is never handed out for data that readers cannot see yet.
+ * Versions are prefixed with a per-process epoch so they never repeat across restarts.
+ */
+@Service
+public class DataVersionService {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final Map<Long, Long> matchVersions = new ConcurrentHashMap<>();
+    private volatile long floorVersion = 0;
+
+    public String matchVersion(Long matchId) {
+        return epoch + "-" + Math.max(matchVersions.getOrDefault(matchId, 0L), floorVersion);
+    }
+
+    public String globalVersion() {
+        return epoch + "-" + globalVersion.get();
+    }
+
+    public void matchUpdated(Long matchId) {
+        matchesUpdated(List.of(matchId));
+    }
+
+    public void matchesUpdated(Collection<Long> matchIds) {
+        if (matchIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            long version = globalVersion.incrementAndGet();
+            for (Long matchId : matchIds) {
+                matchVersions.put(matchId, version);
+            }
+        });
+    }
+
+    /**
+     * Invalidates every match version, for bulk loads that bypass the scoring path.
+     */
+    public void allUpdated() {
+        afterCommit(() -> floorVersion = globalVersion.incrementAndGet());
+    }
+
+    private void afterCommit(Runnable bump) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump.run();
+            }
+        });
+    }
+}
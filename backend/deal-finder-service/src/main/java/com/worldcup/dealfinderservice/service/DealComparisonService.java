@@ -18,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,7 +32,9 @@ public class DealComparisonService {
     private final MatchDealSummaryMapper matchDealSummaryMapper;
     private final PriceSnapshotMapper priceSnapshotMapper;
 
-    @Cacheable(value = "dealComparison", key = "#matchId")
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Cacheable(value = "dealComparison", key = "#matchId", sync = true)
     public DealComparisonDTO getDealsForMatch(Long matchId) {
         log.debug("Fetching deal comparison for match ID: {}", matchId);
 
@@ -69,28 +70,75 @@ public class DealComparisonService {
         return dealScoreMapper.toDTO(deals.get(0));
     }
 
-    @Cacheable(value = "topDeals", key = "'top_' + #limit")
-    public List<DealScoreDTO> getTopDeals(int limit) {
-        log.debug("Fetching top {} deals", limit);
-        List<DealScore> topDeals = dealScoreRepository.findTopDeals();
-        return topDeals.stream()
-                .limit(limit)
-                .map(dealScoreMapper::toDTO)
-                .collect(Collectors.toList());
+    @Cacheable(value = "topDeals", key = "'top_' + #limit", condition = "#cursor == null", sync = true)
+    public CursorPageDTO<DealScoreDTO> getTopDeals(String cursor, int limit) {
+        log.debug("Fetching top {} deals after cursor {}", limit, cursor);
+        int pageSize = clampPageSize(limit);
+
+        List<DealScore> deals;
+        if (cursor == null) {
+            deals = dealScoreRepository.findTopDealsFirstPage(pageSize + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            deals = dealScoreRepository.findTopDealsAfter(after.intSortValue(), after.id(), pageSize + 1);
+        }
+
+        String nextCursor = null;
+        if (deals.size() > pageSize) {
+            deals = deals.subList(0, pageSize);
+            DealScore last = deals.get(pageSize - 1);
+            nextCursor = new KeysetCursor(String.valueOf(last.getDealScore()), last.getId()).encode();
+        }
+
+        return CursorPageDTO.<DealScoreDTO>builder()
+                .items(dealScoreMapper.toDTOList(deals))
+                .nextCursor(nextCursor)
+                .build();
     }
 
-    @Cacheable(value = "priceHistory", key = "#matchId")
+    @Cacheable(value = "priceHistory", key = "#matchId", sync = true)
     public List<PriceSnapshotDTO> getPriceHistory(Long matchId) {
         log.debug("Fetching price history for match ID: {}", matchId);
         LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        List<PriceSnapshot> snapshots = priceSnapshotRepository.findByMatchIdSince(matchId, sevenDaysAgo);
+        List<PriceSnapshot> snapshots = priceSnapshotRepository.findWithProviderByMatchIdSince(matchId, sevenDaysAgo);
         return priceSnapshotMapper.toDTOList(snapshots);
     }
 
-    @Cacheable(value = "dealSummary", key = "'all'")
+    @Cacheable(value = "dealSummary", key = "'all'", sync = true)
     public List<MatchDealSummaryDTO> getAllMatchSummaries() {
         log.debug("Fetching all match deal summaries");
         List<MatchDealSummary> summaries = matchDealSummaryRepository.findAllByOrderByLowestPriceAsc();
         return matchDealSummaryMapper.toDTOList(summaries);
     }
+
+    @Cacheable(value = "dealSummary", key = "'page_' + #size", condition = "#cursor == null", sync = true)
+    public CursorPageDTO<MatchDealSummaryDTO> getMatchSummaries(String cursor, int size) {
+        log.debug("Fetching {} match deal summaries after cursor {}", size, cursor);
+        int pageSize = clampPageSize(size);
+
+        List<MatchDealSummary> summaries;
+        if (cursor == null) {
+            summaries = matchDealSummaryRepository.findByLowestPriceFirstPage(pageSize + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            summaries = matchDealSummaryRepository.findByLowestPriceAfter(
+                    after.decimalSortValue(), after.id(), pageSize + 1);
+        }
+
+        String nextCursor = null;
+        if (summaries.size() > pageSize) {
+            summaries = summaries.subList(0, pageSize);
+            MatchDealSummary last = summaries.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getLowestPrice().toPlainString(), last.getId()).encode();
+        }
+
+        return CursorPageDTO.<MatchDealSummaryDTO>builder()
+                .items(matchDealSummaryMapper.toDTOList(summaries))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 }
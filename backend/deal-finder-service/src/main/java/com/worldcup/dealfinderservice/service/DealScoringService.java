@@ -27,9 +27,11 @@ public class DealScoringService {
     private final PriceSnapshotRepository priceSnapshotRepository;
     private final DealScoreRepository dealScoreRepository;
     private final MatchDealSummaryRepository matchDealSummaryRepository;
+    private final DataVersionService dataVersionService;
 
     @Transactional
-    @CacheEvict(value = {"dealComparison", "dealSummary", "topDeals"}, allEntries = true)
+    @CacheEvict(value = {"dealComparison", "dealSummary", "topDeals", "marketOverview", "trendingMatches", "priceDrops"},
+            allEntries = true)
     public void computeAllScores() {
         log.info("Computing deal scores for all matches");
         List<Long> matchIds = priceSnapshotRepository.findDistinctMatchIds();
@@ -170,6 +172,7 @@ public class DealScoringService {
             updateMatchSummary(matchId, "GENERAL", lowestPrice, highestPrice,
                     marketAverage, bestDeal, latestSnapshots.size());
         }
+        dataVersionService.matchUpdated(matchId);
     }
 
     private int computeDealScore(BigDecimal currentPrice, BigDecimal marketAverage) {
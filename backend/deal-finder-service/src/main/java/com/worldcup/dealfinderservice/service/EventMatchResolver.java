@@ -0,0 +1,246 @@
+package com.worldcup.dealfinderservice.service;
+
+import com.worldcup.dealfinderservice.client.MatchServiceClient;
+import com.worldcup.dealfinderservice.dto.ScheduledMatchDTO;
+import com.worldcup.dealfinderservice.entity.EventMatchMapping;
+import com.worldcup.dealfinderservice.entity.Provider;
+import com.worldcup.dealfinderservice.repository.EventMatchMappingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves provider events to match-service match ids.
+ * Provider events are matched against an in-memory index of the schedule by normalised team pair and date,
+ * falling back to date and venue city. Resolved mappings are persisted so each event is only resolved once.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventMatchResolver {
+
+    private static final Pattern VERSUS = Pattern.compile("\\s+(?:vs\\.?|v\\.?|versus)\\s+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SIDE_PREFIX = Pattern.compile(".*(?:\\s-\\s|:|\\|)");
+    private static final Pattern SIDE_SUFFIX = Pattern.compile("(?:\\s-\\s|:|\\||\\(|,).*");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]");
+    private static final int DATE_TOLERANCE_DAYS = 1;
+
+    private static final Map<String, String> TEAM_ALIASES = Map.of(
+            "unitedstatesofamerica", "unitedstates",
+            "us", "unitedstates",
+            "usmnt", "unitedstates",
+            "korearepublic", "southkorea",
+            "cotedivoire", "ivorycoast",
+            "czechrepublic", "czechia",
+            "iriran", "iran",
+            "turkiye", "turkey"
+    );
+
+    private final MatchServiceClient matchServiceClient;
+    private final EventMatchMappingRepository eventMatchMappingRepository;
+
+    private final Map<String, Long> resolvedEvents = new ConcurrentHashMap<>();
+    private final Set<String> unresolvedEvents = ConcurrentHashMap.newKeySet();
+    private volatile ScheduleIndex index;
+
+    /**
+     * Rebuilds the schedule index from match-service. Keeps the previous index if the schedule is unavailable.
+     */
+    public void refreshIndex() {
+        List<ScheduledMatchDTO> schedule = matchServiceClient.fetchSchedule();
+        if (schedule.isEmpty()) {
+            log.warn("Match schedule unavailable, keeping existing event resolution index");
+            return;
+        }
+
+        index = new ScheduleIndex(schedule);
+        unresolvedEvents.clear();
+        log.info("Event resolution index built: {} matches, {} team aliases",
+                schedule.size(), index.teamKeys.size());
+    }
+
+    /**
+     * Returns the match id for a provider event, or null if the event cannot be tied to a fixture.
+     */
+    public Long resolve(Provider provider, String eventId, String eventName, String eventDate, String venueCity) {
+        if (eventId == null || eventId.isBlank()) {
+            return null;
+        }
+
+        String cacheKey = provider.getId() + ":" + eventId;
+        Long cached = resolvedEvents.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        if (unresolvedEvents.contains(cacheKey)) {
+            return null;
+        }
+
+        Long persisted = eventMatchMappingRepository.findByProviderIdAndExternalEventId(provider.getId(), eventId)
+                .map(EventMatchMapping::getMatchId)
+                .orElse(null);
+        if (persisted != null) {
+            resolvedEvents.put(cacheKey, persisted);
+            return persisted;
+        }
+
+        if (index == null) {
+            refreshIndex();
+        }
+        ScheduleIndex current = index;
+        if (current == null) {
+            return null;
+        }
+
+        LocalDate date = parseDate(eventDate);
+        String resolvedBy = "TEAMS";
+        Long matchId = current.byTeams(eventName, date);
+        if (matchId == null) {
+            resolvedBy = "DATE_CITY";
+            matchId = current.byDateAndCity(date, venueCity);
+        }
+
+        if (matchId == null) {
+            log.debug("Could not resolve {} event {} ('{}')", provider.getName(), eventId, eventName);
+            unresolvedEvents.add(cacheKey);
+            return null;
+        }
+
+        eventMatchMappingRepository.save(EventMatchMapping.builder()
+                .provider(provider)
+                .externalEventId(eventId)
+                .matchId(matchId)
+                .eventName(eventName != null && eventName.length() > 300 ? eventName.substring(0, 300) : eventName)
+                .resolvedBy(resolvedBy)
+                .resolvedAt(LocalDateTime.now())
+                .build());
+        resolvedEvents.put(cacheKey, matchId);
+        log.debug("Resolved {} event {} to match {} by {}", provider.getName(), eventId, matchId, resolvedBy);
+        return matchId;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        String key = NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll("");
+        return TEAM_ALIASES.getOrDefault(key, key);
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.length() < 10) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.substring(0, 10));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String pairKey(long teamA, long teamB) {
+        return Math.min(teamA, teamB) + "|" + Math.max(teamA, teamB);
+    }
+
+    private static final class ScheduleIndex {
+
+        /** Normalised team name/country/code -> synthetic team key shared by all aliases of a team. */
+        private final Map<String, Long> teamKeys = new HashMap<>();
+        private final Map<String, List<ScheduledMatchDTO>> matchesByTeamPair = new HashMap<>();
+        private final Map<String, List<ScheduledMatchDTO>> matchesByDateAndCity = new HashMap<>();
+
+        private ScheduleIndex(List<ScheduledMatchDTO> schedule) {
+            for (ScheduledMatchDTO match : schedule) {
+                Long home = registerTeam(match.getHomeTeamNames());
+                Long away = registerTeam(match.getAwayTeamNames());
+                if (home != null && away != null) {
+                    matchesByTeamPair.computeIfAbsent(pairKey(home, away), k -> new ArrayList<>()).add(match);
+                }
+                if (match.getMatchDate() != null && match.getVenueCity() != null) {
+                    matchesByDateAndCity.computeIfAbsent(match.getMatchDate() + "|" + normalize(match.getVenueCity()),
+                            k -> new ArrayList<>()).add(match);
+                }
+            }
+        }
+
+        private Long registerTeam(List<String> names) {
+            if (names == null || names.isEmpty()) {
+                return null;
+            }
+            Long key = null;
+            for (String name : names) {
+                key = teamKeys.get(normalize(name));
+                if (key != null) {
+                    break;
+                }
+            }
+            if (key == null) {
+                key = (long) teamKeys.size() + 1;
+            }
+            for (String name : names) {
+                teamKeys.putIfAbsent(normalize(name), key);
+            }
+            return key;
+        }
+
+        private Long byTeams(String eventName, LocalDate date) {
+            if (eventName == null) {
+                return null;
+            }
+            String[] sides = VERSUS.split(eventName, 2);
+            if (sides.length < 2) {
+                return null;
+            }
+            Long teamA = teamKeys.get(normalize(SIDE_PREFIX.matcher(sides[0]).replaceFirst("")));
+            Long teamB = teamKeys.get(normalize(SIDE_SUFFIX.matcher(sides[1]).replaceFirst("")));
+            if (teamA == null || teamB == null) {
+                return null;
+            }
+
+            List<ScheduledMatchDTO> candidates = matchesByTeamPair.get(pairKey(teamA, teamB));
+            if (candidates == null) {
+                return null;
+            }
+            if (date == null) {
+                return candidates.size() == 1 ? candidates.get(0).getMatchId() : null;
+            }
+
+            ScheduledMatchDTO closest = null;
+            long closestDistance = Long.MAX_VALUE;
+            for (ScheduledMatchDTO candidate : candidates) {
+                if (candidate.getMatchDate() == null) {
+                    continue;
+                }
+                long distance = Math.abs(ChronoUnit.DAYS.between(candidate.getMatchDate(), date));
+                if (distance <= DATE_TOLERANCE_DAYS && distance < closestDistance) {
+                    closest = candidate;
+                    closestDistance = distance;
+                }
+            }
+            return closest != null ? closest.getMatchId() : null;
+        }
+
+        private Long byDateAndCity(LocalDate date, String venueCity) {
+            if (date == null || venueCity == null) {
+                return null;
+            }
+            List<ScheduledMatchDTO> candidates = matchesByDateAndCity.get(date + "|" + normalize(venueCity));
+            return candidates != null && candidates.size() == 1 ? candidates.get(0).getMatchId() : null;
+        }
+    }
+}
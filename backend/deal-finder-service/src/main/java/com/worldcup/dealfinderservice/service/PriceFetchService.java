@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +26,8 @@ public class PriceFetchService {
     private final PriceSnapshotRepository priceSnapshotRepository;
     private final ProviderRepository providerRepository;
     private final FetchLogRepository fetchLogRepository;
+    private final EventMatchResolver eventMatchResolver;
+    private final DataVersionService dataVersionService;
 
     private static final String[] SEARCH_KEYWORDS = {
             "FIFA World Cup 2026",
@@ -36,6 +39,7 @@ public class PriceFetchService {
     @CacheEvict(value = {"dealComparison", "dealSummary", "topDeals", "priceHistory"}, allEntries = true)
     public int fetchAllPrices() {
         log.info("Starting price fetch from all providers");
+        eventMatchResolver.refreshIndex();
         int totalFetched = 0;
 
         for (TicketProviderClient client : providerClients) {
@@ -59,6 +63,9 @@ public class PriceFetchService {
                 List<PriceSnapshot> snapshots = client.fetchPrices(keyword);
                 if (!snapshots.isEmpty()) {
                     priceSnapshotRepository.saveAll(snapshots);
+                    dataVersionService.matchesUpdated(snapshots.stream()
+                            .map(PriceSnapshot::getMatchId)
+                            .collect(Collectors.toSet()));
                     count += snapshots.size();
                 }
             }
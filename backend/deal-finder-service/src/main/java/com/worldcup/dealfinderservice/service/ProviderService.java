@@ -22,7 +22,7 @@ public class ProviderService {
     private final ProviderRepository providerRepository;
     private final ProviderMapper providerMapper;
 
-    @Cacheable(value = "providers", key = "'all_active'")
+    @Cacheable(value = "providers", key = "'all_active'", sync = true)
     public List<ProviderDTO> getAllActiveProviders() {
         log.debug("Fetching all active providers");
         List<Provider> providers = providerRepository.findByIsActiveTrueOrderByPriorityAsc();
@@ -0,0 +1,169 @@
+package com.worldcup.dealfinderservice.service;
+
+import com.worldcup.dealfinderservice.dto.*;
+import com.worldcup.dealfinderservice.mapper.DealScoreMapper;
+import com.worldcup.dealfinderservice.mapper.MatchDealSummaryMapper;
+import com.worldcup.dealfinderservice.mapper.PriceSnapshotMapper;
+import com.worldcup.dealfinderservice.repository.reactive.DealScoreReadRepository;
+import com.worldcup.dealfinderservice.repository.reactive.DealScoreRow;
+import com.worldcup.dealfinderservice.repository.reactive.MatchDealSummaryReadRepository;
+import com.worldcup.dealfinderservice.repository.reactive.MatchDealSummaryRow;
+import com.worldcup.dealfinderservice.repository.reactive.PriceSnapshotReadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Non-blocking counterpart of DealComparisonService's reads, served over R2DBC.
+ * It shares the same caches and keys, so either path can fill an entry for the other.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "reactive-reads.enabled", havingValue = "true")
+public class ReactiveDealReadService {
+
+    private final DealScoreReadRepository dealScoreReadRepository;
+    private final MatchDealSummaryReadRepository matchDealSummaryReadRepository;
+    private final PriceSnapshotReadRepository priceSnapshotReadRepository;
+    private final DealScoreMapper dealScoreMapper;
+    private final MatchDealSummaryMapper matchDealSummaryMapper;
+    private final PriceSnapshotMapper priceSnapshotMapper;
+    private final CacheManager cacheManager;
+
+    public Mono<DealComparisonDTO> getDealsForMatch(Long matchId) {
+        log.debug("Fetching deal comparison for match ID: {} (reactive)", matchId);
+        Mono<DealComparisonDTO> load = Mono.defer(() -> Mono.zip(
+                        dealScoreReadRepository.findByMatchIdOrderByPriceAsc(matchId).collectList(),
+                        matchDealSummaryReadRepository.findByMatchIdAndCategory(matchId, "GENERAL")
+                                .map(summary -> Optional.of(matchDealSummaryMapper.toDTO(summary)))
+                                .defaultIfEmpty(Optional.empty()))
+                .map(result -> {
+                    List<DealScoreRow> deals = result.getT1();
+                    LocalDateTime lastUpdated = deals.stream()
+                            .map(DealScoreRow::lastComputedAt)
+                            .max(LocalDateTime::compareTo)
+                            .orElse(null);
+                    return DealComparisonDTO.builder()
+                            .matchId(matchId)
+                            .summary(result.getT2().orElse(null))
+                            .deals(deals.stream().map(dealScoreMapper::toDTO).toList())
+                            .lastUpdated(lastUpdated)
+                            .build();
+                }));
+        return cached("dealComparison", matchId, load);
+    }
+
+    public Mono<DealScoreDTO> getCheapestDeal(Long matchId) {
+        log.debug("Fetching cheapest deal for match ID: {} (reactive)", matchId);
+        return dealScoreReadRepository.findCheapestByMatchId(matchId).map(dealScoreMapper::toDTO);
+    }
+
+    public Mono<CursorPageDTO<DealScoreDTO>> getTopDeals(String cursor, int limit) {
+        log.debug("Fetching top {} deals after cursor {} (reactive)", limit, cursor);
+        int pageSize = DealComparisonService.clampPageSize(limit);
+        if (cursor == null) {
+            return cached("topDeals", "top_" + limit, Mono.defer(() -> page(
+                    dealScoreReadRepository.findTopDealsFirstPage(pageSize + 1), pageSize,
+                    last -> new KeysetCursor(String.valueOf(last.dealScore()), last.id()),
+                    dealScoreMapper::toDTO)));
+        }
+        return Mono.defer(() -> {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            return page(
+                    dealScoreReadRepository.findTopDealsAfter(after.intSortValue(), after.id(), pageSize + 1), pageSize,
+                    last -> new KeysetCursor(String.valueOf(last.dealScore()), last.id()),
+                    dealScoreMapper::toDTO);
+        });
+    }
+
+    public Mono<List<PriceSnapshotDTO>> getPriceHistory(Long matchId) {
+        log.debug("Fetching price history for match ID: {} (reactive)", matchId);
+        Mono<List<PriceSnapshotDTO>> load = Mono.defer(() -> priceSnapshotReadRepository
+                .findWithProviderByMatchIdSince(matchId, LocalDateTime.now().minusDays(7))
+                .map(priceSnapshotMapper::toDTO)
+                .collectList());
+        return cached("priceHistory", matchId, load);
+    }
+
+    public Mono<List<MatchDealSummaryDTO>> getAllMatchSummaries() {
+        log.debug("Fetching all match deal summaries (reactive)");
+        Mono<List<MatchDealSummaryDTO>> load = Mono.defer(() -> matchDealSummaryReadRepository.findAllOrderByLowestPrice()
+                .map(matchDealSummaryMapper::toDTO)
+                .collectList());
+        return cached("dealSummary", "all", load);
+    }
+
+    public Mono<CursorPageDTO<MatchDealSummaryDTO>> getMatchSummaries(String cursor, int size) {
+        log.debug("Fetching {} match deal summaries after cursor {} (reactive)", size, cursor);
+        int pageSize = DealComparisonService.clampPageSize(size);
+        if (cursor == null) {
+            return cached("dealSummary", "page_" + size, Mono.defer(() -> page(
+                    matchDealSummaryReadRepository.findByLowestPriceFirstPage(pageSize + 1), pageSize,
+                    last -> new KeysetCursor(last.lowestPrice().toPlainString(), last.id()),
+                    matchDealSummaryMapper::toDTO)));
+        }
+        return Mono.defer(() -> {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            return page(
+                    matchDealSummaryReadRepository.findByLowestPriceAfter(
+                            after.decimalSortValue(), after.id(), pageSize + 1), pageSize,
+                    last -> new KeysetCursor(last.lowestPrice().toPlainString(), last.id()),
+                    matchDealSummaryMapper::toDTO);
+        });
+    }
+
+    /**
+     * Reads pageSize + 1 rows so the extra row tells whether a next page exists.
+     */
+    private <R, T> Mono<CursorPageDTO<T>> page(Flux<R> rows, int pageSize,
+                                              Function<R, KeysetCursor> cursorOf, Function<R, T> toDTO) {
+        return rows.collectList().map(list -> {
+            List<R> items = list;
+            String nextCursor = null;
+            if (items.size() > pageSize) {
+                items = items.subList(0, pageSize);
+                nextCursor = cursorOf.apply(items.get(pageSize - 1)).encode();
+            }
+            return CursorPageDTO.<T>builder()
+                    .items(items.stream().map(toDTO).toList())
+                    .nextCursor(nextCursor)
+                    .build();
+        });
+    }
+
+    /**
+     * Serves a hit from the cache the blocking path uses, otherwise loads and stores the result.
+     * The loader must be deferred, so building it does not already call the repository on a hit.
+     * Unlike @Cacheable(sync = true), concurrent misses for one key may each run the query.
+     * Cache reads and writes run on the bounded elastic scheduler: with the two-level manager a local miss
+     * goes to Redis, which blocks and must not hold an event loop thread.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> cached(String cacheName, Object key, Mono<T> loader) {
+        return Mono.defer(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                return loader;
+            }
+            return Mono.fromCallable(() -> Optional.ofNullable(cache.get(key)))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(hit -> hit.isPresent()
+                            ? Mono.justOrEmpty((T) hit.get().get())
+                            : loader.flatMap(value -> Mono.fromRunnable(() -> cache.put(key, value))
+                                    .subscribeOn(Schedulers.boundedElastic())
+                                    .thenReturn(value)));
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package com.worldcup.dealfinderservice;
+
+import com.worldcup.dealfinderservice.controller.DealController;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets for the deal read endpoints. Each endpoint runs against a small synthetic dataset with
+ * caches cleared, and fails if it issues more SQL statements than its budget (N+1 provider loads).
+ */
+@SpringBootTest(properties = {
+        "price-fetch.enabled=false",
+        "synthetic-data.enabled=true",
+        "synthetic-data.matches=20",
+        "synthetic-data.days=8"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class QueryCountTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("worldcup2026_db")
+            .withUsername("worldcup_user")
+            .withPassword("worldcup_password")
+            .withCopyFileToContainer(MountableFile.forHostPath("../../database/init/02-deal-finder-schema.sql"),
+                    "/docker-entrypoint-initdb.d/02-deal-finder-schema.sql");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&currentSchema=deal_finder_schema");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DealController dealController;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    void getDealsForMatch() {
+        // deal scores + summary, each with its provider joined
+        assertStatements("GET /api/deals/match/{id}", 2, () -> dealController.getDealsForMatch(1L, request()));
+    }
+
+    @Test
+    void getCheapestDeal() {
+        assertStatements("GET /api/deals/match/{id}/cheapest", 1, () -> dealController.getCheapestDeal(1L));
+    }
+
+    @Test
+    void getPriceHistory() {
+        assertStatements("GET /api/deals/match/{id}/history", 1, () -> dealController.getPriceHistory(1L, request()));
+    }
+
+    @Test
+    void getTopDeals() {
+        // keyset page + one batched provider load
+        assertStatements("GET /api/deals/top", 2, () -> dealController.getTopDeals(20, null));
+    }
+
+    @Test
+    void getAllSummaries() {
+        assertStatements("GET /api/deals/summaries", 1, () -> dealController.getAllSummaries(null, null, request()));
+    }
+
+    @Test
+    void getSummariesPage() {
+        // keyset page + one batched provider load
+        assertStatements("GET /api/deals/summaries?size=20", 2,
+                () -> dealController.getAllSummaries(20, null, request()));
+    }
+
+    @Test
+    void getProviders() {
+        assertStatements("GET /api/deals/providers", 1, () -> dealController.getProviders());
+    }
+
+    @Test
+    void getMarketOverview() {
+        // deal score stats + summaries + active providers
+        assertStatements("GET /api/deals/analytics/overview", 3, () -> dealController.getMarketOverview(request()));
+    }
+
+    @Test
+    void getTrendingMatches() {
+        assertStatements("GET /api/deals/analytics/trending", 2,
+                () -> dealController.getTrendingMatches(10, request()));
+    }
+
+    @Test
+    void getBiggestPriceDrops() {
+        assertStatements("GET /api/deals/analytics/price-drops", 2,
+                () -> dealController.getBiggestPriceDrops(10, request()));
+    }
+
+    private static WebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest());
+    }
+
+    private void assertStatements(String endpoint, int budget, Runnable call) {
+        long statements = queryCounter.count(call);
+        assertThat(statements)
+                .as("%s issued %d SQL statements, budget is %d", endpoint, statements, budget)
+                .isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,117 @@
+package com.worldcup.dealfinderservice.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two cache manager "instances" against one Redis to check that loads are shared and that an eviction
+ * on one instance clears the other's local level.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TwoLevelCacheManagerTest {
+
+    private static final String CACHE = "dealComparison";
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private final List<RedisMessageListenerContainer> listeners = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Callable<String> loader = () -> "deals-" + loads.incrementAndGet();
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.getConnection().serverCommands().flushAll();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer listener : listeners) {
+            listener.destroy();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void loadOnOneInstanceIsServedToAnother() {
+        Instance first = instance();
+        Instance second = instance();
+
+        assertThat(first.cache().get(42L, loader)).isEqualTo("deals-1");
+        assertThat(second.cache().get(42L, loader)).isEqualTo("deals-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictOnOneInstanceClearsTheOthersLocalCopy() throws InterruptedException {
+        Instance first = instance();
+        Instance second = instance();
+        first.cache().get(42L, loader);
+        second.cache().get(42L, loader);
+
+        first.cache().evict(42L);
+
+        assertEventually(() -> second.local().get(42L) == null);
+        assertThat(second.cache().get(42L, loader)).isEqualTo("deals-2");
+    }
+
+    @Test
+    void clearOnOneInstanceClearsTheOthersLocalCopies() throws InterruptedException {
+        Instance first = instance();
+        Instance second = instance();
+        first.cache().get(1L, loader);
+        first.cache().get(2L, loader);
+        second.cache().get(1L, loader);
+        second.cache().get(2L, loader);
+
+        first.cache().clear();
+
+        assertEventually(() -> second.local().get(1L) == null && second.local().get(2L) == null);
+        assertThat(second.cache().get(1L, loader)).isEqualTo("deals-3");
+    }
+
+    private Instance instance() {
+        CaffeineCacheManager local = new CaffeineCacheManager(CACHE);
+        TwoLevelCacheConfig config = new TwoLevelCacheConfig();
+        TwoLevelCacheManager manager = config.cacheManager(local, connectionFactory, "deal-finder-service",
+                Duration.ofMinutes(1));
+        RedisMessageListenerContainer listener = config.cacheInvalidationListener(connectionFactory, manager);
+        listener.afterPropertiesSet();
+        listener.start();
+        listeners.add(listener);
+        return new Instance(manager.getCache(CACHE), local.getCache(CACHE));
+    }
+
+    private static void assertEventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).as("condition met within 5s").isTrue();
+    }
+
+    private record Instance(Cache cache, Cache local) {
+    }
+}
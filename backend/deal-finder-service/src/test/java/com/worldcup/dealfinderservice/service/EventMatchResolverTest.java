@@ -0,0 +1,159 @@
+package com.worldcup.dealfinderservice.service;
+
+import com.worldcup.dealfinderservice.client.MatchServiceClient;
+import com.worldcup.dealfinderservice.dto.ScheduledMatchDTO;
+import com.worldcup.dealfinderservice.entity.EventMatchMapping;
+import com.worldcup.dealfinderservice.entity.Provider;
+import com.worldcup.dealfinderservice.repository.EventMatchMappingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Name normalisation, team-pair and date/city resolution, ambiguous and unknown events, and reuse of
+ * mappings resolved earlier, without a database or match-service.
+ */
+class EventMatchResolverTest {
+
+    private static final Provider PROVIDER = Provider.builder().id(7L).name("ticketsnow").build();
+
+    private final MatchServiceClient matchServiceClient = mock(MatchServiceClient.class);
+    private final EventMatchMappingRepository mappings = mock(EventMatchMappingRepository.class);
+    private final EventMatchResolver resolver = new EventMatchResolver(matchServiceClient, mappings);
+
+    @BeforeEach
+    void setUp() {
+        when(matchServiceClient.fetchSchedule()).thenReturn(List.of(
+                match(1L, "Mexico", "MEX", "South Africa", "RSA", "2026-06-11", "Mexico City"),
+                match(2L, "United States", "USA", "Paraguay", "PAR", "2026-06-12", "Los Angeles"),
+                match(3L, "Côte d'Ivoire", "CIV", "Ecuador", "ECU", "2026-06-14", "Philadelphia"),
+                match(4L, "South Korea", "KOR", "Czechia", "CZE", "2026-06-11", "Guadalajara"),
+                match(5L, "Mexico", "MEX", "South Africa", "RSA", "2026-07-04", "Houston"),
+                match(6L, "Brazil", "BRA", "Morocco", "MAR", "2026-06-20", "Toronto"),
+                match(7L, "Canada", "CAN", "Qatar", "QAT", "2026-06-20", "Toronto")));
+    }
+
+    @Test
+    void normalisesCaseAccentsPunctuationAndAliases() {
+        assertThat(EventMatchResolver.normalize("Côte d'Ivoire")).isEqualTo("ivorycoast");
+        assertThat(EventMatchResolver.normalize("Türkiye")).isEqualTo("turkey");
+        assertThat(EventMatchResolver.normalize("U.S.")).isEqualTo("unitedstates");
+        assertThat(EventMatchResolver.normalize("Korea Republic")).isEqualTo("southkorea");
+        assertThat(EventMatchResolver.normalize("  SOUTH-AFRICA ")).isEqualTo("southafrica");
+        assertThat(EventMatchResolver.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void resolvesByTeamsIgnoringEventDecorationsAndStoresTheMapping() {
+        Long matchId = resolver.resolve(PROVIDER, "ev-1", "FIFA World Cup 2026: USA vs. Paraguay - Match 4",
+                "2026-06-12T18:00:00", null);
+
+        assertThat(matchId).isEqualTo(2L);
+        ArgumentCaptor<EventMatchMapping> saved = ArgumentCaptor.forClass(EventMatchMapping.class);
+        verify(mappings).save(saved.capture());
+        assertThat(saved.getValue().getMatchId()).isEqualTo(2L);
+        assertThat(saved.getValue().getExternalEventId()).isEqualTo("ev-1");
+        assertThat(saved.getValue().getResolvedBy()).isEqualTo("TEAMS");
+    }
+
+    @Test
+    void resolvesAliasesEitherWayRoundAndWithinADayOfKickOff() {
+        assertThat(resolver.resolve(PROVIDER, "ev-2", "Czech Republic v Korea Republic", "2026-06-12", null))
+                .isEqualTo(4L);
+        assertThat(resolver.resolve(PROVIDER, "ev-3", "Ivory Coast versus Ecuador", "2026-06-14", null))
+                .isEqualTo(3L);
+    }
+
+    @Test
+    void fallsBackToDateAndCity() {
+        Long matchId = resolver.resolve(PROVIDER, "ev-4", "Match 12 - Lincoln Financial Field", "2026-06-14",
+                "PHILADELPHIA");
+
+        assertThat(matchId).isEqualTo(3L);
+        ArgumentCaptor<EventMatchMapping> saved = ArgumentCaptor.forClass(EventMatchMapping.class);
+        verify(mappings).save(saved.capture());
+        assertThat(saved.getValue().getResolvedBy()).isEqualTo("DATE_CITY");
+    }
+
+    @Test
+    void repeatedPairingNeedsADateToPickTheFixture() {
+        assertThat(resolver.resolve(PROVIDER, "ev-5", "Mexico vs South Africa", null, null)).isNull();
+        assertThat(resolver.resolve(PROVIDER, "ev-6", "South Africa vs Mexico", "2026-07-04", null)).isEqualTo(5L);
+        assertThat(resolver.resolve(PROVIDER, "ev-7", "Mexico vs South Africa", "2026-06-25", null)).isNull();
+    }
+
+    @Test
+    void ambiguousOrUnknownEventsStayUnresolved() {
+        assertThat(resolver.resolve(PROVIDER, "ev-8", "Toronto double header", "2026-06-20", "Toronto")).isNull();
+        assertThat(resolver.resolve(PROVIDER, "ev-9", "Italy vs Spain", "2026-06-20", null)).isNull();
+        assertThat(resolver.resolve(PROVIDER, "ev-10", "Stadium tour", "not a date", "Toronto")).isNull();
+        assertThat(resolver.resolve(PROVIDER, " ", "USA vs Paraguay", "2026-06-12", null)).isNull();
+        verify(mappings, never()).save(any());
+    }
+
+    @Test
+    void unresolvedEventIsNotLookedUpAgainUntilTheIndexIsRebuilt() {
+        resolver.resolve(PROVIDER, "ev-9", "Italy vs Spain", "2026-06-20", null);
+        resolver.resolve(PROVIDER, "ev-9", "Italy vs Spain", "2026-06-20", null);
+        verify(mappings, times(1)).findByProviderIdAndExternalEventId(7L, "ev-9");
+
+        resolver.refreshIndex();
+        resolver.resolve(PROVIDER, "ev-9", "Italy vs Spain", "2026-06-20", null);
+        verify(mappings, times(2)).findByProviderIdAndExternalEventId(7L, "ev-9");
+    }
+
+    @Test
+    void storedMappingIsReusedWithoutTheSchedule() {
+        when(mappings.findByProviderIdAndExternalEventId(7L, "ev-11"))
+                .thenReturn(Optional.of(EventMatchMapping.builder().externalEventId("ev-11").matchId(42L).build()));
+
+        assertThat(resolver.resolve(PROVIDER, "ev-11", "renamed event", null, null)).isEqualTo(42L);
+        assertThat(resolver.resolve(PROVIDER, "ev-11", "renamed event", null, null)).isEqualTo(42L);
+
+        verify(mappings, times(1)).findByProviderIdAndExternalEventId(7L, "ev-11");
+        verify(matchServiceClient, never()).fetchSchedule();
+        verify(mappings, never()).save(any());
+    }
+
+    @Test
+    void resolvedEventIsServedFromMemoryAfterwards() {
+        resolver.resolve(PROVIDER, "ev-1", "USA vs Paraguay", "2026-06-12", null);
+        resolver.resolve(PROVIDER, "ev-1", "USA vs Paraguay", "2026-06-12", null);
+
+        verify(mappings, times(1)).findByProviderIdAndExternalEventId(7L, "ev-1");
+        verify(mappings, times(1)).save(any());
+    }
+
+    @Test
+    void emptyScheduleKeepsThePreviousIndex() {
+        resolver.refreshIndex();
+        when(matchServiceClient.fetchSchedule()).thenReturn(List.of());
+
+        resolver.refreshIndex();
+
+        assertThat(resolver.resolve(PROVIDER, "ev-1", "USA vs Paraguay", "2026-06-12", null)).isEqualTo(2L);
+    }
+
+    private static ScheduledMatchDTO match(Long id, String home, String homeCode, String away, String awayCode,
+                                           String date, String city) {
+        return ScheduledMatchDTO.builder()
+                .matchId(id)
+                .homeTeamNames(List.of(home, homeCode))
+                .awayTeamNames(List.of(away, awayCode))
+                .matchDate(LocalDate.parse(date))
+                .venueCity(city)
+                .build();
+    }
+}
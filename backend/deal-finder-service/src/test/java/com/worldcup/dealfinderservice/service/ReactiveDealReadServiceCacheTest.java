@@ -0,0 +1,83 @@
+package com.worldcup.dealfinderservice.service;
+
+import com.worldcup.dealfinderservice.config.TwoLevelCacheManager;
+import com.worldcup.dealfinderservice.dto.MatchDealSummaryDTO;
+import com.worldcup.dealfinderservice.mapper.DealScoreMapper;
+import com.worldcup.dealfinderservice.mapper.MatchDealSummaryMapper;
+import com.worldcup.dealfinderservice.mapper.PriceSnapshotMapper;
+import com.worldcup.dealfinderservice.repository.reactive.DealScoreReadRepository;
+import com.worldcup.dealfinderservice.repository.reactive.MatchDealSummaryReadRepository;
+import com.worldcup.dealfinderservice.repository.reactive.PriceSnapshotReadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * With the two-level manager, the shared (Redis) level is only called from the bounded elastic scheduler,
+ * never from the non-blocking thread the request runs on.
+ */
+class ReactiveDealReadServiceCacheTest {
+
+    private static final String CACHE = "dealSummary";
+
+    private final Queue<String> sharedCalls = new ConcurrentLinkedQueue<>();
+    private final MatchDealSummaryReadRepository summaries = mock(MatchDealSummaryReadRepository.class);
+    private CaffeineCacheManager local;
+    private ReactiveDealReadService reactiveReads;
+
+    @BeforeEach
+    void setUp() {
+        local = new CaffeineCacheManager(CACHE);
+        SimpleCacheManager shared = new SimpleCacheManager();
+        shared.setCaches(List.of(new ConcurrentMapCache(CACHE) {
+            @Override
+            public ValueWrapper get(Object key) {
+                sharedCalls.add("get on " + Thread.currentThread().getName());
+                return super.get(key);
+            }
+
+            @Override
+            public void put(Object key, Object value) {
+                sharedCalls.add("put on " + Thread.currentThread().getName());
+                super.put(key, value);
+            }
+        }));
+        shared.afterPropertiesSet();
+        when(summaries.findAllOrderByLowestPrice()).thenReturn(Flux.empty());
+
+        reactiveReads = new ReactiveDealReadService(mock(DealScoreReadRepository.class), summaries,
+                mock(PriceSnapshotReadRepository.class), mock(DealScoreMapper.class),
+                mock(MatchDealSummaryMapper.class), mock(PriceSnapshotMapper.class),
+                new TwoLevelCacheManager(local, shared, null, "deal-finder-service"));
+    }
+
+    @Test
+    void sharedLevelIsNeverCalledOnANonBlockingThread() {
+        List<MatchDealSummaryDTO> loaded = reactiveReads.getAllMatchSummaries()
+                .subscribeOn(Schedulers.parallel())
+                .block();
+        local.getCache(CACHE).clear();
+        List<MatchDealSummaryDTO> fromShared = reactiveReads.getAllMatchSummaries()
+                .subscribeOn(Schedulers.parallel())
+                .block();
+
+        assertThat(loaded).isEmpty();
+        assertThat(fromShared).isEmpty();
+        assertThat(sharedCalls).hasSize(3).allMatch(call -> call.contains("boundedElastic"));
+        verify(summaries, times(1)).findAllOrderByLowestPrice();
+    }
+}
@@ -0,0 +1,119 @@
+package com.worldcup.dealfinderservice.service;
+
+import com.worldcup.dealfinderservice.dto.CursorPageDTO;
+import com.worldcup.dealfinderservice.dto.DealScoreDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The R2DBC read path must return exactly what the JPA path returns for the same data.
+ */
+@SpringBootTest(properties = {
+        "price-fetch.enabled=false",
+        "synthetic-data.enabled=true",
+        "synthetic-data.matches=20",
+        "synthetic-data.days=8",
+        "reactive-reads.enabled=true"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class ReactiveDealReadServiceTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("worldcup2026_db")
+            .withUsername("worldcup_user")
+            .withPassword("worldcup_password")
+            .withCopyFileToContainer(MountableFile.forHostPath("../../database/init/02-deal-finder-schema.sql"),
+                    "/docker-entrypoint-initdb.d/02-deal-finder-schema.sql");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&currentSchema=deal_finder_schema");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("reactive-reads.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+                + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+                + "/worldcup2026_db?schema=deal_finder_schema");
+    }
+
+    @Autowired
+    private ReactiveDealReadService reactiveReads;
+
+    @Autowired
+    private DealComparisonService blockingReads;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        clearCaches();
+    }
+
+    @Test
+    void dealsForMatch() {
+        assertSameAsBlocking(() -> blockingReads.getDealsForMatch(1L), () -> reactiveReads.getDealsForMatch(1L));
+    }
+
+    @Test
+    void cheapestDeal() {
+        assertSameAsBlocking(() -> blockingReads.getCheapestDeal(1L), () -> reactiveReads.getCheapestDeal(1L));
+    }
+
+    @Test
+    void priceHistory() {
+        assertSameAsBlocking(() -> blockingReads.getPriceHistory(1L), () -> reactiveReads.getPriceHistory(1L));
+    }
+
+    @Test
+    void topDealsAcrossPages() {
+        CursorPageDTO<DealScoreDTO> first = blockingReads.getTopDeals(null, 5);
+        assertThat(first.getNextCursor()).isNotNull();
+        assertSameAsBlocking(() -> first, () -> reactiveReads.getTopDeals(null, 5));
+        assertSameAsBlocking(() -> blockingReads.getTopDeals(first.getNextCursor(), 5),
+                () -> reactiveReads.getTopDeals(first.getNextCursor(), 5));
+    }
+
+    @Test
+    void summaries() {
+        assertSameAsBlocking(blockingReads::getAllMatchSummaries, reactiveReads::getAllMatchSummaries);
+        assertSameAsBlocking(() -> blockingReads.getMatchSummaries(null, 5), () -> reactiveReads.getMatchSummaries(null, 5));
+    }
+
+    @Test
+    void invalidCursorFailsTheMono() {
+        Mono<CursorPageDTO<DealScoreDTO>> page = reactiveReads.getTopDeals("not-a-cursor", 5);
+        assertThatThrownBy(page::block).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void reactiveLoadFillsTheSharedCache() {
+        reactiveReads.getDealsForMatch(2L).block();
+        assertThat(cacheManager.getCache("dealComparison").get(2L)).isNotNull();
+    }
+
+    private <T> void assertSameAsBlocking(Supplier<T> blocking, Supplier<Mono<T>> reactive) {
+        T expected = blocking.get();
+        clearCaches();
+        assertThat(reactive.get().block()).isEqualTo(expected);
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+}
@@ -0,0 +1,37 @@
+package com.worldcup.matchservice.client;
+
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * One fixture from an API-FOOTBALL /fixtures response, reduced to the columns we store
+ * Teams are referenced by their API-FOOTBALL ids and resolved to team rows at write time
+ * Group, stadium and venue country are null when the payload does not carry them; the upsert then
+ * keeps the stored values
+ */
+public record ApiFootballFixture(
+        String externalApiId,
+        String homeTeamExternalId,
+        String awayTeamExternalId,
+        LocalDate matchDate,
+        LocalTime matchTime,
+        MatchStatus status,
+        Integer homeScore,
+        Integer awayScore,
+        String round,
+        String groupName,
+        Long stadiumId,
+        String venueName,
+        String venueCity,
+        String venueCountry) {
+
+    /**
+     * Hash of the fields the fixture upsert writes, with teams by their API-FOOTBALL ids
+     */
+    public long contentHash() {
+        return ContentHash.of(externalApiId, homeTeamExternalId, awayTeamExternalId, matchDate, matchTime,
+                status, homeScore, awayScore, round, groupName, stadiumId, venueName, venueCity, venueCountry);
+    }
+}
@@ -0,0 +1,270 @@
+package com.worldcup.matchservice.client;
+
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming parser for API-FOOTBALL payloads
+ *
+ * Walks the token stream of the "response" array and keeps only the fields we store, so a
+ * response is never held as a JSON tree or a full DTO graph. Unknown sections are skipped
+ * without being materialised
+ * Parsers come from the application's JsonMapper, so they share its stream read constraints
+ */
+public final class ApiFootballParser {
+
+    /**
+     * API-FOOTBALL short status codes mapped to our match statuses; unknown codes count as scheduled
+     */
+    private static final Map<String, MatchStatus> STATUSES = Map.ofEntries(
+            Map.entry("TBD", MatchStatus.SCHEDULED),
+            Map.entry("NS", MatchStatus.SCHEDULED),
+            Map.entry("1H", MatchStatus.LIVE),
+            Map.entry("HT", MatchStatus.LIVE),
+            Map.entry("2H", MatchStatus.LIVE),
+            Map.entry("ET", MatchStatus.LIVE),
+            Map.entry("BT", MatchStatus.LIVE),
+            Map.entry("P", MatchStatus.LIVE),
+            Map.entry("SUSP", MatchStatus.LIVE),
+            Map.entry("INT", MatchStatus.LIVE),
+            Map.entry("LIVE", MatchStatus.LIVE),
+            Map.entry("FT", MatchStatus.FINISHED),
+            Map.entry("AET", MatchStatus.FINISHED),
+            Map.entry("PEN", MatchStatus.FINISHED),
+            Map.entry("PST", MatchStatus.POSTPONED),
+            Map.entry("CANC", MatchStatus.CANCELLED),
+            Map.entry("ABD", MatchStatus.CANCELLED),
+            Map.entry("AWD", MatchStatus.FINISHED),
+            Map.entry("WO", MatchStatus.FINISHED));
+
+    // Rounds of the form "Group A - 1" name the group; "Group Stage - 1" does not
+    private static final Pattern GROUP_ROUND = Pattern.compile("^(Group [A-Z])\\b");
+
+    private ApiFootballParser() {
+    }
+
+    /**
+     * Parse a /fixtures response body
+     */
+    public static List<ApiFootballFixture> parseFixtures(JsonMapper json, InputStream body) {
+        List<ApiFootballFixture> fixtures = new ArrayList<>();
+        try (JsonParser parser = json.createParser(body)) {
+            if (!seekResponseArray(parser)) {
+                return fixtures;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                ApiFootballFixture fixture = readFixture(parser);
+                if (fixture != null) {
+                    fixtures.add(fixture);
+                }
+            }
+        }
+        return fixtures;
+    }
+
+    /**
+     * Parse a /teams response body
+     */
+    public static List<ApiFootballTeam> parseTeams(JsonMapper json, InputStream body) {
+        List<ApiFootballTeam> teams = new ArrayList<>();
+        try (JsonParser parser = json.createParser(body)) {
+            if (!seekResponseArray(parser)) {
+                return teams;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                ApiFootballTeam team = readTeam(parser);
+                if (team != null) {
+                    teams.add(team);
+                }
+            }
+        }
+        return teams;
+    }
+
+    /**
+     * Map an API-FOOTBALL short status code to a match status
+     *
+     * @return the status, or null if the code is unknown
+     */
+    static MatchStatus statusOf(String shortCode) {
+        return shortCode != null ? STATUSES.get(shortCode) : null;
+    }
+
+    /**
+     * Position the parser on the START_ARRAY of the top-level "response" field
+     */
+    private static boolean seekResponseArray(JsonParser parser) {
+        return seekArray(parser, "response");
+    }
+
+    /**
+     * Position the parser on the START_ARRAY of the named top-level field
+     */
+    static boolean seekArray(JsonParser parser, String name) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static ApiFootballFixture readFixture(JsonParser parser) {
+        FixtureFields f = new FixtureFields();
+        forEachField(parser, (section, p) -> {
+            switch (section) {
+                case "fixture" -> forEachField(p, (field, q) -> {
+                    switch (field) {
+                        case "id" -> f.id = q.getValueAsString();
+                        case "date" -> f.date = q.getValueAsString();
+                        case "venue" -> forEachField(q, (venueField, r) -> {
+                            if ("name".equals(venueField)) {
+                                f.venueName = r.getValueAsString();
+                            } else if ("city".equals(venueField)) {
+                                f.venueCity = r.getValueAsString();
+                            } else if ("country".equals(venueField)) {
+                                f.venueCountry = r.getValueAsString();
+                            }
+                        });
+                        case "status" -> forEachField(q, (statusField, r) -> {
+                            if ("short".equals(statusField)) {
+                                f.status = r.getValueAsString();
+                            }
+                        });
+                        default -> { }
+                    }
+                });
+                case "league" -> forEachField(p, (field, q) -> {
+                    if ("round".equals(field)) {
+                        f.round = q.getValueAsString();
+                    }
+                });
+                case "teams" -> forEachField(p, (side, q) -> forEachField(q, (field, r) -> {
+                    if ("id".equals(field)) {
+                        if ("home".equals(side)) {
+                            f.homeTeamId = r.getValueAsString();
+                        } else if ("away".equals(side)) {
+                            f.awayTeamId = r.getValueAsString();
+                        }
+                    }
+                }));
+                case "goals" -> forEachField(p, (side, q) -> {
+                    Integer goals = q.currentToken() == JsonToken.VALUE_NUMBER_INT ? q.getIntValue() : null;
+                    if ("home".equals(side)) {
+                        f.homeGoals = goals;
+                    } else if ("away".equals(side)) {
+                        f.awayGoals = goals;
+                    }
+                });
+                default -> { }
+            }
+        });
+
+        if (f.id == null || f.date == null) {
+            return null;
+        }
+        OffsetDateTime kickOff = OffsetDateTime.parse(f.date);
+        MatchStatus status = statusOf(f.status);
+        return new ApiFootballFixture(
+                f.id,
+                f.homeTeamId,
+                f.awayTeamId,
+                kickOff.toLocalDate(),
+                kickOff.toLocalTime().truncatedTo(ChronoUnit.SECONDS),
+                status != null ? status : MatchStatus.SCHEDULED,
+                f.homeGoals,
+                f.awayGoals,
+                f.round,
+                groupOf(f.round),
+                null,
+                f.venueName,
+                f.venueCity,
+                f.venueCountry);
+    }
+
+    /**
+     * Group named by a round such as "Group A - 1", or null
+     */
+    public static String groupOf(String round) {
+        if (round == null) {
+            return null;
+        }
+        Matcher matcher = GROUP_ROUND.matcher(round);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static ApiFootballTeam readTeam(JsonParser parser) {
+        String[] team = new String[4];
+        forEachField(parser, (section, p) -> {
+            if ("team".equals(section)) {
+                forEachField(p, (field, q) -> {
+                    switch (field) {
+                        case "id" -> team[0] = q.getValueAsString();
+                        case "name" -> team[1] = q.getValueAsString();
+                        case "country" -> team[2] = q.getValueAsString();
+                        case "logo" -> team[3] = q.getValueAsString();
+                        default -> { }
+                    }
+                });
+            }
+        });
+
+        if (team[0] == null || team[1] == null) {
+            return null;
+        }
+        return new ApiFootballTeam(team[0], team[1], team[2] != null ? team[2] : team[1], team[3]);
+    }
+
+    /**
+     * Call the handler for each field of the object the parser is on, with the parser on the field's value
+     * Values the handler does not consume (nested objects or arrays) are skipped; null objects are ignored
+     */
+    static void forEachField(JsonParser parser, FieldHandler handler) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            handler.accept(field, parser);
+            parser.skipChildren();
+        }
+    }
+
+    @FunctionalInterface
+    interface FieldHandler {
+        void accept(String field, JsonParser parser);
+    }
+
+    private static final class FixtureFields {
+        private String id;
+        private String date;
+        private String status;
+        private String homeTeamId;
+        private String awayTeamId;
+        private Integer homeGoals;
+        private Integer awayGoals;
+        private String round;
+        private String venueName;
+        private String venueCity;
+        private String venueCountry;
+    }
+}
@@ -0,0 +1,18 @@
+package com.worldcup.matchservice.client;
+
+/**
+ * One team from an API-FOOTBALL /teams response, reduced to the columns we store
+ */
+public record ApiFootballTeam(
+        String externalApiId,
+        String name,
+        String country,
+        String logoUrl) {
+
+    /**
+     * Hash of the fields the team upsert writes
+     */
+    public long contentHash() {
+        return ContentHash.of(externalApiId, name, country, logoUrl);
+    }
+}
@@ -0,0 +1,169 @@
+package com.worldcup.matchservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Daily request ledger for the external football APIs, stored in the api_quota_ledger table
+ *
+ * Every request is counted against its provider's row for the current UTC day (the API-FOOTBALL quota
+ * resets at midnight UTC), so the count survives restarts and is shared by all instances
+ * The day is taken from the database clock
+ *
+ * When a response carries x-ratelimit-requests-remaining, the provider's own figure is stored too and
+ * the lower of the two estimates wins, which covers requests made outside this service with the same key
+ * Near the limit only critical calls are let through; see {@link #allows}
+ */
+@Component
+@Slf4j
+public class ApiQuotaLedger {
+
+    public static final String API_FOOTBALL = "api-football";
+    public static final String SPORTS_DB = "thesportsdb";
+
+    static final String REMAINING_HEADER = "x-ratelimit-requests-remaining";
+
+    private static final String RECORD =
+            "INSERT INTO match_service_schema.api_quota_ledger (provider, day, requests, last_request_at) "
+            + "VALUES (?, (now() AT TIME ZONE 'UTC')::date, 1, now()) "
+            + "ON CONFLICT (provider, day) DO UPDATE SET requests = api_quota_ledger.requests + 1, "
+            + "last_request_at = EXCLUDED.last_request_at";
+
+    private static final String RECORD_REMAINING =
+            "UPDATE match_service_schema.api_quota_ledger SET reported_remaining = ? "
+            + "WHERE provider = ? AND day = (now() AT TIME ZONE 'UTC')::date";
+
+    private static final String USAGE =
+            "SELECT requests, last_request_at, reported_remaining FROM match_service_schema.api_quota_ledger "
+            + "WHERE provider = ? AND day = (now() AT TIME ZONE 'UTC')::date";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int dailyQuota;
+    private final int reserve;
+
+    public ApiQuotaLedger(JdbcTemplate jdbcTemplate,
+                          @Value("${external.api.football.daily-quota:100}") int dailyQuota,
+                          @Value("${external.api.football.reserve:5}") int reserve) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dailyQuota = dailyQuota;
+        this.reserve = reserve;
+    }
+
+    /**
+     * Count one request to the provider
+     */
+    public void record(String provider) {
+        jdbcTemplate.update(RECORD, provider);
+    }
+
+    /**
+     * Store the provider's own count of requests left today
+     */
+    public void recordRemaining(String provider, int remaining) {
+        jdbcTemplate.update(RECORD_REMAINING, remaining, provider);
+    }
+
+    /**
+     * Requests made to the provider so far today
+     */
+    public Usage today(String provider) {
+        List<Usage> usage = jdbcTemplate.query(USAGE, (rs, rowNum) -> {
+            Timestamp last = rs.getTimestamp("last_request_at");
+            int reported = rs.getInt("reported_remaining");
+            return new Usage(rs.getInt("requests"), last != null ? last.toInstant() : null,
+                    rs.wasNull() ? null : reported);
+        }, provider);
+        return usage.isEmpty() ? new Usage(0, null, null) : usage.get(0);
+    }
+
+    /**
+     * API-FOOTBALL requests left today
+     */
+    public int remaining() {
+        return today(API_FOOTBALL).remaining(dailyQuota);
+    }
+
+    /**
+     * Whether an API-FOOTBALL call of the given priority may be made now
+     * Critical calls may use the whole quota; normal calls stop once only the reserve is left
+     */
+    public boolean allows(Priority priority) {
+        int remaining = remaining();
+        return priority == Priority.CRITICAL ? remaining > 0 : remaining > reserve;
+    }
+
+    public int getDailyQuota() {
+        return dailyQuota;
+    }
+
+    public int getReserve() {
+        return reserve;
+    }
+
+    /**
+     * WebClient filter that counts every request to the provider and stores the remaining count the
+     * provider reports, so no call can bypass the ledger
+     * The JDBC writes run on the bounded elastic scheduler, never on a Netty event loop
+     */
+    public ExchangeFilterFunction recordingFilter(String provider) {
+        return (request, next) -> Mono.fromRunnable(() -> record(provider))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(next.exchange(request))
+                .flatMap(response -> reportedRemaining(response)
+                        .map(remaining -> Mono.fromRunnable(() -> recordRemaining(provider, remaining))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .onErrorResume(e -> {
+                                    log.warn("Failed to store {} quota header: {}", provider, e.getMessage());
+                                    return Mono.empty();
+                                })
+                                .thenReturn(response))
+                        .orElseGet(() -> Mono.just(response)));
+    }
+
+    private static Optional<Integer> reportedRemaining(ClientResponse response) {
+        return response.headers().header(REMAINING_HEADER).stream()
+                .findFirst()
+                .flatMap(value -> {
+                    try {
+                        return Optional.of(Integer.parseInt(value.trim()));
+                    } catch (NumberFormatException e) {
+                        return Optional.empty();
+                    }
+                });
+    }
+
+    /**
+     * How much an API-FOOTBALL call matters when the quota is nearly spent
+     */
+    public enum Priority {
+        /** Needed to keep fixtures and teams correct; may use the reserve */
+        CRITICAL,
+        /** Can be deferred or served from a stale response */
+        NORMAL
+    }
+
+    /**
+     * Request count, time of the latest request and the provider-reported remaining count for one day
+     */
+    public record Usage(int requests, Instant lastRequestAt, Integer reportedRemaining) {
+
+        /**
+         * Requests left under the daily quota, by our count or the provider's, whichever is lower
+         */
+        public int remaining(int dailyQuota) {
+            int counted = Math.max(0, dailyQuota - requests);
+            return reportedRemaining != null ? Math.min(counted, reportedRemaining) : counted;
+        }
+    }
+}
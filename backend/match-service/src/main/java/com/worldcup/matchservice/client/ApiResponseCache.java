@@ -0,0 +1,163 @@
+package com.worldcup.matchservice.client;
+
+import com.worldcup.matchservice.exception.ApiErrorResponseException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * On-disk cache of raw API-FOOTBALL response bodies
+ *
+ * Bodies are streamed straight to a file and read back from it, so a cached payload is never held in
+ * memory. A payload is fresh for its endpoint's TTL; restarts and manual syncs within that time reuse it
+ * instead of spending quota. Stale payloads are kept, so a call refused by the quota ledger can still be
+ * answered from the last good response
+ * Files are written under a temporary name and moved into place, so readers never see a partial body
+ * API-FOOTBALL reports rate limit and token errors with status 200, so a body is only moved into place
+ * when its "errors" are empty and its "response" is an array; an error body never replaces a good one
+ */
+@Component
+@Slf4j
+public class ApiResponseCache {
+
+    private final Path directory;
+    private final Map<Endpoint, Duration> ttls;
+    private final JsonMapper jsonMapper;
+
+    public ApiResponseCache(JsonMapper jsonMapper,
+                            @Value("${external.api.football.cache.dir:${java.io.tmpdir}/worldcup-api-cache}") Path directory,
+                            @Value("${external.api.football.cache.ttl.fixtures:6h}") Duration fixturesTtl,
+                            @Value("${external.api.football.cache.ttl.teams:24h}") Duration teamsTtl,
+                            @Value("${external.api.football.cache.ttl.live:15s}") Duration liveTtl) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.ttls = Map.of(Endpoint.FIXTURES, fixturesTtl, Endpoint.TEAMS, teamsTtl, Endpoint.LIVE, liveTtl);
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Body cached for the request, if it is younger than the endpoint's TTL
+     */
+    public Optional<InputStream> fresh(Endpoint endpoint, String request) throws IOException {
+        Path file = file(endpoint, request);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        Instant written = Files.getLastModifiedTime(file).toInstant();
+        if (written.plus(ttls.get(endpoint)).isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(Files.newInputStream(file));
+    }
+
+    /**
+     * Body cached for the request, however old
+     */
+    public Optional<InputStream> stale(Endpoint endpoint, String request) throws IOException {
+        Path file = file(endpoint, request);
+        return Files.exists(file) ? Optional.of(Files.newInputStream(file)) : Optional.empty();
+    }
+
+    /**
+     * Write a response body to the cache as it arrives and open the cached copy
+     *
+     * @throws ApiErrorResponseException if the body reports errors or has no response array; nothing is cached
+     */
+    public InputStream store(Endpoint endpoint, String request, Flux<DataBuffer> body) throws IOException {
+        Path file = file(endpoint, request);
+        Path partial = Files.createTempFile(directory, file.getFileName().toString(), ".part");
+        try {
+            DataBufferUtils.write(body, partial).block();
+            String error = error(partial);
+            if (error != null) {
+                log.warn("Not caching {} response for {}: {}", endpoint, request, error);
+                throw new ApiErrorResponseException("API-FOOTBALL error response for " + request + ": " + error);
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (RuntimeException | IOException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        log.debug("Cached {} response for {}", endpoint, request);
+        return Files.newInputStream(file);
+    }
+
+    /**
+     * What is wrong with a body, or null when its "errors" are empty and its "response" is an array
+     * Only the top-level fields are read; the response array itself is skipped, not parsed
+     */
+    String error(Path body) {
+        boolean response = false;
+        try (JsonParser parser = jsonMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return "body is not a JSON object";
+            }
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("errors".equals(field) && (value == JsonToken.START_ARRAY || value == JsonToken.START_OBJECT)) {
+                    JsonNode errors = parser.readValueAsTree();
+                    if (!errors.isEmpty()) {
+                        return "errors " + errors;
+                    }
+                } else {
+                    response |= "response".equals(field) && value == JsonToken.START_ARRAY;
+                    parser.skipChildren();
+                }
+            }
+        }
+        return response ? null : "no response array";
+    }
+
+    private Path file(Endpoint endpoint, String request) {
+        return directory.resolve(endpoint.name().toLowerCase() + "-" + sha256(request) + ".json");
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Cached API-FOOTBALL endpoints, each with its own TTL and quota priority
+     */
+    public enum Endpoint {
+        FIXTURES(ApiQuotaLedger.Priority.CRITICAL),
+        TEAMS(ApiQuotaLedger.Priority.CRITICAL),
+        LIVE(ApiQuotaLedger.Priority.NORMAL);
+
+        private final ApiQuotaLedger.Priority priority;
+
+        Endpoint(ApiQuotaLedger.Priority priority) {
+            this.priority = priority;
+        }
+
+        public ApiQuotaLedger.Priority getPriority() {
+            return priority;
+        }
+    }
+}
@@ -1,103 +1,115 @@
 package com.worldcup.matchservice.client;
 
+import com.worldcup.matchservice.exception.ApiErrorResponseException;
+import com.worldcup.matchservice.exception.ApiQuotaExceededException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
 /**
  * Client for interacting with external football data APIs
  * Currently supports API-FOOTBALL via RapidAPI
  *
+ * API-FOOTBALL bodies go through the on-disk ApiResponseCache: a fresh cached body is served without a
+ * request, otherwise the response is streamed to the cache and read back from disk
+ * Every request is counted in the ApiQuotaLedger by a WebClient filter. Near the daily limit, calls the
+ * ledger does not allow are answered from a stale cached body when there is one, and refused otherwise
+ * Error bodies are never cached; the stale body answers those too when there is one
+ *
  * NOTE: This is a simplified version. Full implementation will include:
- * - Complete DTO models for API responses
  * - Proper error handling and retries
- * - Response parsing and mapping to internal entities
- * - Rate limiting logic
- * - Fallback to TheSportsDB
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class FootballApiClient {
 
+    private static final int STREAM_PREFETCH = 4;
+
     @Qualifier("footballApiWebClient")
     private final WebClient footballApiWebClient;
 
     @Qualifier("sportsDbWebClient")
     private final WebClient sportsDbWebClient;
 
+    private final ApiQuotaLedger quotaLedger;
+    private final ApiResponseCache responseCache;
+
+    @Value("${external.api.thesportsdb.api-key:1}")
+    private String sportsDbApiKey;
+
     /**
-     * Fetch World Cup 2026 fixtures from API
+     * Stream World Cup fixtures from API-FOOTBALL
      * Endpoint: /fixtures
-     * Query params: league=1 (FIFA World Cup), season=2026
+     * Query params: league (1 = FIFA World Cup), season
      *
-     * This is a placeholder method. Full implementation will:
-     * 1. Call the external API
-     * 2. Parse the JSON response
-     * 3. Map to internal Match and Team entities
-     * 4. Return structured data
+     * The caller must close the returned stream
      */
-    public Mono<String> fetchWorldCupFixtures() {
-        log.info("Fetching World Cup 2026 fixtures from API-FOOTBALL");
-
-        return footballApiWebClient
-                .get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/fixtures")
-                        .queryParam("league", "1")  // FIFA World Cup
-                        .queryParam("season", "2026")
-                        .build())
-                .retrieve()
-                .bodyToMono(String.class)
-                .doOnSuccess(response -> log.debug("Successfully fetched fixtures"))
-                .doOnError(error -> log.error("Error fetching fixtures: {}", error.getMessage()));
+    public InputStream streamWorldCupFixtures(Integer leagueId, Integer season) throws IOException {
+        log.info("Streaming World Cup {} fixtures from API-FOOTBALL", season);
+        return fetch(ApiResponseCache.Endpoint.FIXTURES, "/fixtures", Map.of("league", leagueId, "season", season));
     }
 
     /**
-     * Fetch team information from API
+     * Stream team information from API-FOOTBALL
      * Endpoint: /teams
      *
-     * Placeholder for team data sync
+     * The caller must close the returned stream
      */
-    public Mono<String> fetchTeams() {
-        log.info("Fetching team data from API-FOOTBALL");
-
-        return footballApiWebClient
-                .get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/teams")
-                        .queryParam("league", "1")
-                        .queryParam("season", "2026")
-                        .build())
-                .retrieve()
-                .bodyToMono(String.class)
-                .doOnSuccess(response -> log.debug("Successfully fetched teams"))
-                .doOnError(error -> log.error("Error fetching teams: {}", error.getMessage()));
+    public InputStream streamTeams(Integer leagueId, Integer season) throws IOException {
+        log.info("Streaming team data from API-FOOTBALL");
+        return fetch(ApiResponseCache.Endpoint.TEAMS, "/teams", Map.of("league", leagueId, "season", season));
     }
 
     /**
-     * Fetch live match scores
+     * Stream one day's World Cup fixtures from API-FOOTBALL, used for live scores
      * Endpoint: /fixtures
-     * Query params: live=all
+     * Query params: league, season, date (UTC)
+     *
+     * Unlike live=all this also returns matches that have just finished, so their final status is
+     * picked up without waiting for the daily sync; the caller must close the returned stream
      *
-     * Used to update scores for live matches
+     * @throws ApiQuotaExceededException if the quota is nearly spent and nothing is cached for the day
      */
-    public Mono<String> fetchLiveScores() {
-        log.info("Fetching live scores from API-FOOTBALL");
+    public InputStream streamFixturesOn(Integer leagueId, Integer season, LocalDate date) throws IOException {
+        log.debug("Streaming fixtures on {} from API-FOOTBALL", date);
+        return fetch(ApiResponseCache.Endpoint.LIVE, "/fixtures",
+                Map.of("league", leagueId, "season", season, "date", date));
+    }
 
-        return footballApiWebClient
+    /**
+     * Fallback: Stream one day's events for a league from TheSportsDB
+     * Endpoint: /{api-key}/eventsday.php
+     * Query params: d (date), l (TheSportsDB league id)
+     *
+     * Used for live scores when the API-FOOTBALL budget runs low; the caller must close the returned stream
+     */
+    public InputStream streamSportsDbEventsOn(LocalDate date, String leagueId) {
+        log.debug("Streaming events on {} from TheSportsDB (fallback)", date);
+        return stream(sportsDbWebClient
                 .get()
                 .uri(uriBuilder -> uriBuilder
-                        .path("/fixtures")
-                        .queryParam("live", "all")
-                        .build())
+                        .path("/{key}/eventsday.php")
+                        .queryParam("d", date)
+                        .queryParam("l", leagueId)
+                        .build(sportsDbApiKey))
                 .retrieve()
-                .bodyToMono(String.class)
-                .doOnSuccess(response -> log.debug("Successfully fetched live scores"))
-                .doOnError(error -> log.error("Error fetching live scores: {}", error.getMessage()));
+                .bodyToFlux(DataBuffer.class)
+                .doOnError(error -> log.error("Error fetching TheSportsDB events on {}: {}", date, error.getMessage())));
     }
 
     /**
@@ -117,12 +129,53 @@ public class FootballApiClient {
     }
 
     /**
-     * Check API quota/rate limit status
-     * Returns current usage information
+     * Serve an API-FOOTBALL request from the response cache when fresh, otherwise fetch it if the quota
+     * ledger allows the call, falling back to a stale cached body when it does not
+     */
+    private InputStream fetch(ApiResponseCache.Endpoint endpoint, String path, Map<String, Object> params)
+            throws IOException {
+        String request = path + "?" + new TreeMap<>(params);
+
+        Optional<InputStream> fresh = responseCache.fresh(endpoint, request);
+        if (fresh.isPresent()) {
+            log.debug("Serving {} from the response cache", request);
+            return fresh.get();
+        }
+
+        if (!quotaLedger.allows(endpoint.getPriority())) {
+            Optional<InputStream> stale = responseCache.stale(endpoint, request);
+            if (stale.isPresent()) {
+                log.warn("API-FOOTBALL quota nearly spent, serving stale {} from the response cache", request);
+                return stale.get();
+            }
+            throw new ApiQuotaExceededException("API-FOOTBALL quota nearly spent, deferring " + request);
+        }
+
+        try {
+            return responseCache.store(endpoint, request, footballApiWebClient
+                    .get()
+                    .uri(uriBuilder -> {
+                        uriBuilder.path(path);
+                        params.forEach((name, value) -> uriBuilder.queryParam(name, value));
+                        return uriBuilder.build();
+                    })
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class)
+                    .doOnError(error -> log.error("Error fetching {}: {}", request, error.getMessage())));
+        } catch (ApiErrorResponseException e) {
+            Optional<InputStream> stale = responseCache.stale(endpoint, request);
+            if (stale.isPresent()) {
+                log.warn("API-FOOTBALL returned an error for {}, serving the stale cached response", request);
+                return stale.get();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Adapt a body to a blocking InputStream that requests a few buffers at a time
      */
-    public void checkApiQuota() {
-        log.info("API-FOOTBALL free tier: 100 requests/day");
-        log.info("Current implementation uses database caching to minimize API calls");
-        log.info("Scheduled sync runs once daily at 3 AM");
+    private static InputStream stream(Flux<DataBuffer> body) {
+        return DataBufferUtils.subscriberInputStream(body, STREAM_PREFETCH);
     }
 }
@@ -0,0 +1,19 @@
+package com.worldcup.matchservice.client;
+
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+
+import java.time.LocalDate;
+
+/**
+ * One event from a TheSportsDB eventsday response, reduced to what a live-score update needs
+ * TheSportsDB ids are unrelated to API-FOOTBALL's, so events are matched to our fixtures by date and team
+ * Status and scores are null when the event does not report them
+ */
+public record SportsDbEvent(
+        LocalDate matchDate,
+        String homeTeam,
+        String awayTeam,
+        MatchStatus status,
+        Integer homeScore,
+        Integer awayScore) {
+}
@@ -0,0 +1,102 @@
+package com.worldcup.matchservice.client;
+
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming parser for TheSportsDB event lists
+ *
+ * Same approach as ApiFootballParser: only the "events" array is walked and only the fields a
+ * live-score update needs are kept. TheSportsDB sends scores as strings and "events": null on empty days
+ */
+public final class SportsDbParser {
+
+    /**
+     * Long-form statuses TheSportsDB uses alongside API-FOOTBALL style short codes
+     */
+    private static final Map<String, MatchStatus> LONG_STATUSES = Map.of(
+            "Not Started", MatchStatus.SCHEDULED,
+            "Time to be defined", MatchStatus.SCHEDULED,
+            "In Progress", MatchStatus.LIVE,
+            "Match Finished", MatchStatus.FINISHED,
+            "Match Postponed", MatchStatus.POSTPONED,
+            "Postponed", MatchStatus.POSTPONED,
+            "Match Cancelled", MatchStatus.CANCELLED,
+            "Cancelled", MatchStatus.CANCELLED,
+            "Match Abandoned", MatchStatus.CANCELLED);
+
+    private SportsDbParser() {
+    }
+
+    /**
+     * Parse an eventsday.php response body
+     */
+    public static List<SportsDbEvent> parseEvents(JsonMapper json, InputStream body) {
+        List<SportsDbEvent> events = new ArrayList<>();
+        try (JsonParser parser = json.createParser(body)) {
+            if (!ApiFootballParser.seekArray(parser, "events")) {
+                return events;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                SportsDbEvent event = readEvent(parser);
+                if (event != null) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    private static SportsDbEvent readEvent(JsonParser parser) {
+        String[] event = new String[6];
+        ApiFootballParser.forEachField(parser, (field, p) -> {
+            switch (field) {
+                case "dateEvent" -> event[0] = p.getValueAsString();
+                case "strHomeTeam" -> event[1] = p.getValueAsString();
+                case "strAwayTeam" -> event[2] = p.getValueAsString();
+                case "strStatus" -> event[3] = p.getValueAsString();
+                case "intHomeScore" -> event[4] = p.getValueAsString();
+                case "intAwayScore" -> event[5] = p.getValueAsString();
+                default -> { }
+            }
+        });
+
+        if (event[0] == null || event[1] == null || event[2] == null) {
+            return null;
+        }
+        return new SportsDbEvent(
+                LocalDate.parse(event[0]),
+                event[1],
+                event[2],
+                status(event[3]),
+                score(event[4]),
+                score(event[5]));
+    }
+
+    private static MatchStatus status(String status) {
+        if (status == null) {
+            return null;
+        }
+        MatchStatus longForm = LONG_STATUSES.get(status);
+        return longForm != null ? longForm : ApiFootballParser.statusOf(status);
+    }
+
+    private static Integer score(String score) {
+        if (score == null || score.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(score.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.worldcup.matchservice.config;
+
+import com.worldcup.matchservice.scheduler.JobLock;
+import com.worldcup.matchservice.scheduler.JobLockInterceptor;
+import com.worldcup.matchservice.scheduler.JobLockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Job lock configuration
+ * Applies JobLockInterceptor to every @JobLock method through the same auto-proxying used for
+ * @Transactional and @Cacheable, so no AspectJ dependency is needed
+ */
+@Configuration
+public class JobLockConfig {
+
+    /**
+     * Advisor for @JobLock methods
+     * Infrastructure role so the infrastructure auto-proxy creator picks it up
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor jobLockAdvisor(ObjectProvider<JobLockService> jobLockService,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(JobLock.class),
+                new JobLockInterceptor(jobLockService, meterRegistry));
+    }
+}
@@ -0,0 +1,216 @@
+package com.worldcup.matchservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Two-level cache manager: local Caffeine caches (L1) in front of shared Redis caches (L2)
+ * Reads fall through L1 to L2 before loading, and loads are written to both levels
+ * Evictions clear both levels and are published on a Redis channel so every other instance drops its L1 copy
+ * Redis failures are logged and degrade to L1-only caching instead of failing the request
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final CacheManager localCacheManager;
+    private final CacheManager sharedCacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String channel;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager localCacheManager, CacheManager sharedCacheManager,
+                                RedisTemplate<String, Object> redisTemplate, String channel) {
+        this.localCacheManager = localCacheManager;
+        this.sharedCacheManager = sharedCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache local = localCacheManager.getCache(name);
+        if (local == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoLevelCache(local, sharedCacheManager.getCache(n)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    /**
+     * Drop the local copy named by an invalidation published by another instance
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!(payload instanceof Invalidation invalidation) || instanceId.equals(invalidation.origin())) {
+            return;
+        }
+        Cache local = localCacheManager.getCache(invalidation.cacheName());
+        if (local == null) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            local.clear();
+        } else {
+            local.evict(invalidation.key());
+        }
+    }
+
+    private void publish(String cacheName, Object key) {
+        try {
+            redisTemplate.convertAndSend(channel, new Invalidation(instanceId, cacheName, key));
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast invalidation of {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * Invalidation broadcast; a null key means the whole cache was cleared
+     */
+    record Invalidation(String origin, String cacheName, Object key) implements Serializable {
+    }
+
+    /**
+     * Cache view that keeps the local and shared levels in step
+     */
+    private class TwoLevelCache implements Cache {
+
+        private final Cache local;
+        private final Cache shared;
+
+        TwoLevelCache(Cache local, Cache shared) {
+            this.local = local;
+            this.shared = shared;
+        }
+
+        @Override
+        public String getName() {
+            return local.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return local.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            ValueWrapper value = local.get(key);
+            if (value == null) {
+                value = shared("read", () -> shared.get(key));
+                if (value != null) {
+                    local.put(key, value.get());
+                }
+            }
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Class<T> type) {
+            ValueWrapper wrapper = get(key);
+            Object value = wrapper != null ? wrapper.get() : null;
+            if (value != null && type != null && !type.isInstance(value)) {
+                throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+            }
+            return (T) value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return local.get(key, () -> {
+                ValueWrapper cached = shared("read", () -> shared.get(key));
+                if (cached != null) {
+                    return (T) cached.get();
+                }
+                T value = valueLoader.call();
+                shared("write", () -> {
+                    shared.put(key, value);
+                    return null;
+                });
+                return value;
+            });
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            shared("write", () -> {
+                shared.put(key, value);
+                return null;
+            });
+            local.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            ValueWrapper existing = local.putIfAbsent(key, value);
+            if (existing == null) {
+                shared("write", () -> {
+                    shared.put(key, value);
+                    return null;
+                });
+            }
+            return existing;
+        }
+
+        @Override
+        public void evict(Object key) {
+            evictIfPresent(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            shared("evict", () -> shared.evictIfPresent(key));
+            boolean present = local.evictIfPresent(key);
+            publish(getName(), key);
+            return present;
+        }
+
+        @Override
+        public void clear() {
+            invalidate();
+        }
+
+        @Override
+        public boolean invalidate() {
+            shared("clear", shared::invalidate);
+            boolean present = local.invalidate();
+            publish(getName(), null);
+            return present;
+        }
+
+        /**
+         * Run an operation against the shared level, treating Redis errors as a miss
+         */
+        private <T> T shared(String operation, Supplier<T> action) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                log.warn("Shared cache {} failed for {}: {}", operation, getName(), e.getMessage());
+                return null;
+            }
+        }
+    }
+}
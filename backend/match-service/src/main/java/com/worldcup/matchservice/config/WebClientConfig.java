@@ -1,5 +1,6 @@
 package com.worldcup.matchservice.config;
 
+import com.worldcup.matchservice.client.ApiQuotaLedger;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -33,9 +34,10 @@ public class WebClientConfig {
 
     /**
      * WebClient for API-FOOTBALL (RapidAPI)
+     * Every request is counted in the quota ledger
      */
     @Bean(name = "footballApiWebClient")
-    public WebClient footballApiWebClient() {
+    public WebClient footballApiWebClient(ApiQuotaLedger quotaLedger) {
         HttpClient httpClient = HttpClient.create()
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
                 .responseTimeout(Duration.ofSeconds(10))
@@ -48,6 +50,7 @@ public class WebClientConfig {
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("x-rapidapi-key", footballApiKey)
                 .defaultHeader("x-rapidapi-host", footballApiHost)
+                .filter(quotaLedger.recordingFilter(ApiQuotaLedger.API_FOOTBALL))
                 .build();
     }
 
@@ -55,7 +58,7 @@ public class WebClientConfig {
      * WebClient for TheSportsDB (fallback)
      */
     @Bean(name = "sportsDbWebClient")
-    public WebClient sportsDbWebClient() {
+    public WebClient sportsDbWebClient(ApiQuotaLedger quotaLedger) {
         HttpClient httpClient = HttpClient.create()
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
                 .responseTimeout(Duration.ofSeconds(10))
@@ -66,6 +69,7 @@ public class WebClientConfig {
         return WebClient.builder()
                 .baseUrl(sportsDbBaseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(quotaLedger.recordingFilter(ApiQuotaLedger.SPORTS_DB))
                 .build();
     }
 }
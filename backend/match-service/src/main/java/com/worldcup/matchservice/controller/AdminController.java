@@ -1,5 +1,7 @@
 package com.worldcup.matchservice.controller;
 
+import com.worldcup.matchservice.client.ApiQuotaLedger;
+import com.worldcup.matchservice.exception.JobSkippedException;
 import com.worldcup.matchservice.scheduler.DataSyncScheduler;
 import com.worldcup.matchservice.service.MatchService;
 import com.worldcup.matchservice.service.TeamService;
@@ -33,13 +35,16 @@ public class AdminController {
 
     private final MatchService matchService;
     private final TeamService teamService;
+    private final ApiQuotaLedger quotaLedger;
     private final Optional<DataSyncScheduler> dataSyncScheduler;
 
     public AdminController(MatchService matchService,
                           TeamService teamService,
+                          ApiQuotaLedger quotaLedger,
                           @Autowired(required = false) DataSyncScheduler dataSyncScheduler) {
         this.matchService = matchService;
         this.teamService = teamService;
+        this.quotaLedger = quotaLedger;
         this.dataSyncScheduler = Optional.ofNullable(dataSyncScheduler);
     }
 
@@ -51,6 +56,7 @@ public class AdminController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Sync triggered successfully"),
             @ApiResponse(responseCode = "404", description = "Data sync not enabled"),
+            @ApiResponse(responseCode = "409", description = "Sync skipped: already running or just finished"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Map<String, String>> triggerDataSync() {
@@ -71,6 +77,14 @@ public class AdminController {
             response.put("message", "Data sync triggered successfully");
 
             return ResponseEntity.ok(response);
+        } catch (JobSkippedException e) {
+            log.info("Manual data sync skipped: {}", e.getMessage());
+
+            Map<String, String> response = new HashMap<>();
+            response.put("status", "skipped");
+            response.put("message", "Data sync skipped: " + e.getMessage());
+
+            return ResponseEntity.status(409).body(response);
         } catch (Exception e) {
             log.error("Error triggering data sync", e);
 
@@ -103,6 +117,10 @@ public class AdminController {
         status.put("liveMatchCount", matchService.countMatchesByStatus("LIVE"));
         status.put("finishedMatchCount", matchService.countMatchesByStatus("FINISHED"));
 
+        ApiQuotaLedger.Usage apiUsage = quotaLedger.today(ApiQuotaLedger.API_FOOTBALL);
+        status.put("apiRequestsToday", apiUsage.requests());
+        status.put("apiRequestsRemaining", apiUsage.remaining(quotaLedger.getDailyQuota()));
+
         return ResponseEntity.ok(status);
     }
 
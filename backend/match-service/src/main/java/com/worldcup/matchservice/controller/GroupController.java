@@ -0,0 +1,67 @@
+package com.worldcup.matchservice.controller;
+
+import com.worldcup.matchservice.dto.GroupStandingsDTO;
+import com.worldcup.matchservice.service.GroupStandingsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for group standings
+ * Base path: /api/groups
+ */
+@RestController
+@RequestMapping("/api/groups")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Groups", description = "Group stage standings for FIFA World Cup 2026")
+public class GroupController {
+
+    private final GroupStandingsService groupStandingsService;
+
+    /**
+     * Get the standings of every group
+     */
+    @GetMapping("/standings")
+    @Operation(summary = "Get all group standings", description = "Retrieve the table of every group, in group order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved standings",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupStandingsDTO.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<GroupStandingsDTO>> getAllStandings() {
+        log.info("GET /api/groups/standings - Get all group standings");
+        List<GroupStandingsDTO> standings = groupStandingsService.getAllStandings();
+        return ResponseEntity.ok(standings);
+    }
+
+    /**
+     * Get the standings of one group
+     */
+    @GetMapping("/{group}/standings")
+    @Operation(summary = "Get group standings",
+            description = "Retrieve one group's table, ranked by points, goal difference, goals scored and head-to-head")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved standings",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupStandingsDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Group not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<GroupStandingsDTO> getGroupStandings(
+            @Parameter(description = "Group letter or name", required = true, example = "A")
+            @PathVariable String group) {
+        log.info("GET /api/groups/{}/standings - Get group standings", group);
+        GroupStandingsDTO standings = groupStandingsService.getGroupStandings(group);
+        return ResponseEntity.ok(standings);
+    }
+}
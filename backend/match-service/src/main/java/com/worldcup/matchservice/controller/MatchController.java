@@ -1,7 +1,11 @@
 package com.worldcup.matchservice.controller;
 
+import com.worldcup.matchservice.config.SerializedResponseCache;
+import com.worldcup.matchservice.dto.LiveScoreEvent;
 import com.worldcup.matchservice.dto.MatchDTO;
 import com.worldcup.matchservice.dto.MatchDetailDTO;
+import com.worldcup.matchservice.dto.MatchUpdateDTO;
+import com.worldcup.matchservice.service.LiveScoreBroadcaster;
 import com.worldcup.matchservice.service.MatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,8 +20,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -34,6 +42,8 @@ import java.util.List;
 public class MatchController {
 
     private final MatchService matchService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final LiveScoreBroadcaster liveScoreBroadcaster;
 
     /**
      * Get all matches with pagination
@@ -55,6 +65,45 @@ public class MatchController {
         return ResponseEntity.ok(matches);
     }
 
+    /**
+     * Search matches by any combination of filters
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search matches", description = "Retrieve matches meeting every given filter (team, stadium, round, group, status, date range), paged and sorted by date")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved matches",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, date range or sort"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<Page<MatchDTO>> searchMatches(
+            @Parameter(description = "Team ID (home or away)", example = "1")
+            @RequestParam(required = false) Long teamId,
+            @Parameter(description = "Stadium ID", example = "1")
+            @RequestParam(required = false) Long stadiumId,
+            @Parameter(description = "Round name", example = "Group Stage")
+            @RequestParam(required = false) String round,
+            @Parameter(description = "Group name", example = "Group A")
+            @RequestParam(required = false) String groupName,
+            @Parameter(description = "Match status", example = "SCHEDULED")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Start date, inclusive (yyyy-MM-dd)", example = "2026-06-11")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date, inclusive (yyyy-MM-dd)", example = "2026-07-19")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Page number (0-indexed)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort order: matchDate, optionally followed by ,asc or ,desc", example = "matchDate,asc")
+            @RequestParam(defaultValue = "matchDate,asc") String sort) {
+        log.info("GET /api/matches/search - Search matches (team: {}, stadium: {}, round: {}, group: {}, status: {}, from {} to {})",
+                teamId, stadiumId, round, groupName, status, startDate, endDate);
+        Page<MatchDTO> matches = matchService.searchMatches(teamId, stadiumId, round, groupName, status,
+                startDate, endDate, page, size, sort);
+        return ResponseEntity.ok(matches);
+    }
+
     /**
      * Get match by ID
      */
@@ -84,10 +133,9 @@ public class MatchController {
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchDTO.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<MatchDTO>> getUpcomingMatches() {
+    public ResponseEntity<byte[]> getUpcomingMatches(WebRequest request) {
         log.info("GET /api/matches/upcoming - Get upcoming matches");
-        List<MatchDTO> matches = matchService.getUpcomingMatches();
-        return ResponseEntity.ok(matches);
+        return serializedResponseCache.respond("upcomingMatches", "all", request, matchService::getUpcomingMatches);
     }
 
     /**
@@ -218,6 +266,24 @@ public class MatchController {
         return ResponseEntity.ok(matches);
     }
 
+    /**
+     * Stream live score and status changes (Server-Sent Events)
+     * Each change is a live-score event; a reset event means missed changes are no longer buffered
+     * and the client should reload /api/matches/live
+     */
+    @GetMapping(value = "/live/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream live scores", description = "Push score and status changes as Server-Sent Events, resuming after Last-Event-ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened",
+                    content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = LiveScoreEvent.class)))
+    })
+    public Flux<ServerSentEvent<LiveScoreEvent>> streamLiveScores(
+            @Parameter(description = "Id of the last event received, sent by the browser on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("GET /api/matches/live/stream - Stream live scores (Last-Event-ID: {})", lastEventId);
+        return liveScoreBroadcaster.subscribe(lastEventId);
+    }
+
     /**
      * Get matches by status
      */
@@ -321,6 +387,26 @@ public class MatchController {
         return ResponseEntity.ok(updatedMatch);
     }
 
+    /**
+     * Update scores and statuses of several matches (Admin only)
+     */
+    @PatchMapping("/batch")
+    @Operation(summary = "Update matches in a batch",
+            description = "Apply score and status changes to several matches in one transaction (Admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matches updated successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = LiveScoreEvent.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid update"),
+            @ApiResponse(responseCode = "404", description = "Match not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<LiveScoreEvent>> updateMatches(
+            @RequestBody List<MatchUpdateDTO> updates) {
+        log.info("PATCH /api/matches/batch - Update {} matches", updates.size());
+        List<LiveScoreEvent> updatedMatches = matchService.updateMatches(updates);
+        return ResponseEntity.ok(updatedMatches);
+    }
+
     /**
      * Delete match (Admin only)
      */
@@ -0,0 +1,28 @@
+package com.worldcup.matchservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Table of one group, ranked by points, goal difference, goals scored, then head-to-head results
+ * Live matches count with their current score
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Standings of a World Cup group")
+public class GroupStandingsDTO implements Serializable {
+
+    @Schema(description = "Group name", example = "Group A")
+    private String group;
+
+    @Schema(description = "Teams in ranking order")
+    private List<StandingDTO> standings;
+}
@@ -0,0 +1,34 @@
+package com.worldcup.matchservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Score and status of one match after a change
+ * Published by MatchService when a score or status is updated and pushed to live stream subscribers
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Live score or status change for a match")
+public class LiveScoreEvent {
+
+    @Schema(description = "Match ID", example = "1")
+    private Long matchId;
+
+    @Schema(description = "Match status", example = "LIVE",
+            allowableValues = {"SCHEDULED", "LIVE", "FINISHED", "POSTPONED", "CANCELLED"})
+    private String status;
+
+    @Schema(description = "Home team score", example = "2")
+    private Integer homeScore;
+
+    @Schema(description = "Away team score", example = "1")
+    private Integer awayScore;
+}
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -23,7 +24,7 @@ import java.time.LocalTime;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Match information for FIFA World Cup 2026")
-public class MatchDTO {
+public class MatchDTO implements Serializable {
 
     @Schema(description = "Match ID", example = "1")
     private Long id;
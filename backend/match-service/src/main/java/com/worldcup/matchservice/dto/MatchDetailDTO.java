@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -22,7 +23,7 @@ import java.time.LocalTime;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Detailed match information for FIFA World Cup 2026")
-public class MatchDetailDTO {
+public class MatchDetailDTO implements Serializable {
 
     @Schema(description = "Match ID", example = "1")
     private Long id;
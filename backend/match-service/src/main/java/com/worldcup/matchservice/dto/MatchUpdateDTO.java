@@ -0,0 +1,32 @@
+package com.worldcup.matchservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One score and/or status change in a batch update
+ * Both scores, a status, or all three; a field left null is not changed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Score and status change for one match in a batch update")
+public class MatchUpdateDTO {
+
+    @Schema(description = "Match ID", example = "1", required = true)
+    private Long matchId;
+
+    @Schema(description = "Home team score", example = "2")
+    private Integer homeScore;
+
+    @Schema(description = "Away team score", example = "1")
+    private Integer awayScore;
+
+    @Schema(description = "New status", example = "LIVE",
+            allowableValues = {"SCHEDULED", "LIVE", "FINISHED", "POSTPONED", "CANCELLED"})
+    private String status;
+}
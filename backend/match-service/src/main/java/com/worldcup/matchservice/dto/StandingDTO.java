@@ -0,0 +1,50 @@
+package com.worldcup.matchservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * One team's row in a group table
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Team standing within a World Cup group")
+public class StandingDTO implements Serializable {
+
+    @Schema(description = "Position in the group, from 1", example = "1")
+    private int position;
+
+    @Schema(description = "Team")
+    private TeamDTO team;
+
+    @Schema(description = "Matches played", example = "2")
+    private int played;
+
+    @Schema(description = "Matches won", example = "1")
+    private int won;
+
+    @Schema(description = "Matches drawn", example = "1")
+    private int drawn;
+
+    @Schema(description = "Matches lost", example = "0")
+    private int lost;
+
+    @Schema(description = "Goals scored", example = "3")
+    private int goalsFor;
+
+    @Schema(description = "Goals conceded", example = "1")
+    private int goalsAgainst;
+
+    @Schema(description = "Goal difference", example = "2")
+    private int goalDifference;
+
+    @Schema(description = "Points: 3 per win, 1 per draw", example = "4")
+    private int points;
+}
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
@@ -21,7 +22,7 @@ import java.time.LocalDateTime;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Team information for FIFA World Cup 2026")
-public class TeamDTO {
+public class TeamDTO implements Serializable {
 
     @Schema(description = "Team ID", example = "1")
     private Long id;
@@ -38,11 +38,11 @@ public class Match {
     @Column(name = "external_api_id", unique = true, length = 50)
     private String externalApiId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "home_team_id", referencedColumnName = "id")
     private Team homeTeam;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "away_team_id", referencedColumnName = "id")
     private Team awayTeam;
 
@@ -80,6 +80,13 @@ public class Match {
     @Column(name = "venue_country", length = 100)
     private String venueCountry;
 
+    /**
+     * Hash of the API payload this row was last synced from
+     * Cleared on any JPA update, so a manual edit is overwritten by the next sync
+     */
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -88,6 +95,11 @@ public class Match {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @PreUpdate
+    void clearContentHash() {
+        contentHash = null;
+    }
+
     /**
      * Match Status Enum
      */
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,6 +16,7 @@ import java.time.LocalDateTime;
  * Team Entity - Represents a national team in FIFA World Cup 2026
  *
  * Stored in: match_service_schema.teams
+ * Cached in the Hibernate second-level cache (read-mostly reference data)
  */
 @Entity
 @Table(name = "teams", schema = "match_service_schema",
@@ -25,6 +28,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Team {
 
     @Id
@@ -46,6 +51,13 @@ public class Team {
     @Column(name = "fifa_ranking")
     private Integer fifaRanking;
 
+    /**
+     * Hash of the API payload this row was last synced from
+     * Cleared on any JPA update, so a manual edit is overwritten by the next sync
+     */
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -53,4 +65,9 @@ public class Team {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    @PreUpdate
+    void clearContentHash() {
+        contentHash = null;
+    }
 }
@@ -0,0 +1,12 @@
+package com.worldcup.matchservice.exception;
+
+/**
+ * Exception thrown when an external API answers successfully but the body reports errors or holds no
+ * response data, e.g. an API-FOOTBALL rate limit or token error sent with status 200
+ */
+public class ApiErrorResponseException extends RuntimeException {
+
+    public ApiErrorResponseException(String message) {
+        super(message);
+    }
+}
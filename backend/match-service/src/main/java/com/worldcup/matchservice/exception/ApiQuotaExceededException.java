@@ -0,0 +1,11 @@
+package com.worldcup.matchservice.exception;
+
+/**
+ * Exception thrown when an external API call is refused because the daily quota is nearly spent
+ */
+public class ApiQuotaExceededException extends RuntimeException {
+
+    public ApiQuotaExceededException(String message) {
+        super(message);
+    }
+}
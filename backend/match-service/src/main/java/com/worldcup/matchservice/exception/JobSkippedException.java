@@ -0,0 +1,12 @@
+package com.worldcup.matchservice.exception;
+
+/**
+ * Exception thrown when a job run on request is skipped because its cluster lock is held, either by a
+ * run in progress or for the minimum hold time after the last one
+ */
+public class JobSkippedException extends RuntimeException {
+
+    public JobSkippedException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.worldcup.matchservice.mapper;
 
+import com.worldcup.matchservice.dto.LiveScoreEvent;
 import com.worldcup.matchservice.dto.MatchDTO;
 import com.worldcup.matchservice.dto.MatchDetailDTO;
 import com.worldcup.matchservice.dto.TeamDTO;
@@ -89,6 +90,17 @@ public interface MatchMapper {
      */
     List<MatchDetailDTO> toMatchDetailDTOList(List<Match> matches);
 
+    // ========================================================================
+    // Live Score Mappings
+    // ========================================================================
+
+    /**
+     * Convert Match entity to the LiveScoreEvent pushed to live stream subscribers
+     */
+    @Mapping(target = "matchId", source = "id")
+    @Mapping(target = "status", source = "status", qualifiedByName = "statusToString")
+    LiveScoreEvent toLiveScoreEvent(Match match);
+
     // ========================================================================
     // Custom Mapping Methods
     // ========================================================================
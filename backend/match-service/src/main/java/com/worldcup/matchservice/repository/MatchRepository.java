@@ -4,12 +4,14 @@ import com.worldcup.matchservice.entity.Match;
 import com.worldcup.matchservice.entity.Match.MatchStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,65 +21,98 @@ import java.util.Optional;
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
 
+    /**
+     * Find match by ID with both teams loaded in the same query
+     */
+    @Override
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
+    Optional<Match> findById(Long id);
+
+    /**
+     * Find all matches with both teams loaded in the same query
+     * Used to build the in-memory match catalogue
+     */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
+    @Query("SELECT m FROM Match m")
+    List<Match> findAllWithTeams();
+
     /**
      * Find match by external API ID
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     Optional<Match> findByExternalApiId(String externalApiId);
 
     /**
      * Find all matches (paginated)
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     Page<Match> findAllByOrderByMatchDateAsc(Pageable pageable);
 
     /**
      * Find upcoming matches (scheduled status, future dates)
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     @Query("SELECT m FROM Match m WHERE m.status = 'SCHEDULED' AND m.matchDate >= :today ORDER BY m.matchDate ASC, m.matchTime ASC")
     List<Match> findUpcomingMatches(@Param("today") LocalDate today);
 
     /**
      * Find matches by date
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     List<Match> findByMatchDateOrderByMatchTimeAsc(LocalDate matchDate);
 
     /**
      * Find matches by date range
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     @Query("SELECT m FROM Match m WHERE m.matchDate BETWEEN :startDate AND :endDate ORDER BY m.matchDate ASC, m.matchTime ASC")
     List<Match> findByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     /**
      * Find matches by team (either home or away)
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     @Query("SELECT m FROM Match m WHERE m.homeTeam.id = :teamId OR m.awayTeam.id = :teamId ORDER BY m.matchDate ASC")
     List<Match> findByTeamId(@Param("teamId") Long teamId);
 
     /**
      * Find matches by stadium
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     List<Match> findByStadiumIdOrderByMatchDateAsc(Long stadiumId);
 
     /**
      * Find matches by round
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     List<Match> findByRoundOrderByMatchDateAsc(String round);
 
     /**
      * Find matches by group
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     List<Match> findByGroupNameOrderByMatchDateAsc(String groupName);
 
     /**
      * Find matches by status
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     List<Match> findByStatusOrderByMatchDateAsc(MatchStatus status);
 
     /**
      * Find live matches
      */
+    @EntityGraph(attributePaths = {"homeTeam", "awayTeam"})
     @Query("SELECT m FROM Match m WHERE m.status = 'LIVE' ORDER BY m.matchDate DESC")
     List<Match> findLiveMatches();
 
+    /**
+     * Find matches in the given statuses within a date range, without their teams
+     * Used to derive live-score polling windows from kickoff times
+     */
+    List<Match> findByStatusInAndMatchDateBetween(Collection<MatchStatus> statuses,
+                                                  LocalDate startDate, LocalDate endDate);
+
     /**
      * Count matches by status
      */
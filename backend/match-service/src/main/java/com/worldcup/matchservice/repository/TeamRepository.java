@@ -1,8 +1,11 @@
 package com.worldcup.matchservice.repository;
 
 import com.worldcup.matchservice.entity.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,11 +20,13 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     /**
      * Find team by external API ID
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Team> findByExternalApiId(String externalApiId);
 
     /**
      * Find team by country
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Team> findByCountry(String country);
 
     /**
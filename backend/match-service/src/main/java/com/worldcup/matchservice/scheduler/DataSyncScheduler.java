@@ -1,16 +1,22 @@
 package com.worldcup.matchservice.scheduler;
 
+import com.worldcup.matchservice.client.ApiFootballFixture;
+import com.worldcup.matchservice.client.ApiFootballParser;
+import com.worldcup.matchservice.client.ApiFootballTeam;
 import com.worldcup.matchservice.client.FootballApiClient;
-import com.worldcup.matchservice.service.MatchService;
-import com.worldcup.matchservice.service.TeamService;
+import com.worldcup.matchservice.service.FixtureIngestionService;
+import com.worldcup.matchservice.service.SyncChangeSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Scheduled data synchronization job
@@ -20,7 +26,7 @@ import java.time.LocalDateTime;
  * This minimizes API calls while keeping data fresh
  *
  * API-FOOTBALL free tier: 100 requests/day
- * Our usage: ~3 requests/day (well within limit)
+ * This job uses 2 requests/day; live scores are polled by LiveScoreScheduler within the remaining budget
  */
 @Component
 @RequiredArgsConstructor
@@ -29,8 +35,8 @@ import java.time.LocalDateTime;
 public class DataSyncScheduler {
 
     private final FootballApiClient footballApiClient;
-    private final MatchService matchService;
-    private final TeamService teamService;
+    private final FixtureIngestionService fixtureIngestionService;
+    private final JsonMapper jsonMapper;
 
     @Value("${data-sync.enabled:false}")
     private boolean syncEnabled;
@@ -52,8 +58,11 @@ public class DataSyncScheduler {
      * - Day of month: * (any)
      * - Month: * (any)
      * - Day of week: * (any)
+     *
+     * Runs on one instance per cluster
      */
     @Scheduled(cron = "${data-sync.cron:0 0 3 * * *}")
+    @JobLock(name = "data-sync", leaseTime = "PT1H")
     public void syncMatchData() {
         if (!syncEnabled) {
             log.debug("Data sync is disabled");
@@ -69,11 +78,9 @@ public class DataSyncScheduler {
             syncTeams();
 
             // Step 2: Sync match/fixture data
+            // Caches are evicted by CacheEvictionListener, only when rows changed
             syncMatches();
 
-            // Step 3: Clear caches to force reload
-            clearCaches();
-
             log.info("=================================================");
             log.info("Data sync completed successfully at {}", LocalDateTime.now());
             log.info("=================================================");
@@ -88,29 +95,27 @@ public class DataSyncScheduler {
 
     /**
      * Sync team data from external API
+     * The body is parsed as it streams in and written with one bulk upsert
      */
     private void syncTeams() {
         log.info("Syncing team data...");
+        long started = System.nanoTime();
 
         try {
-            // Fetch teams from API
-            String response = footballApiClient.fetchTeams().block();
-
-            if (response != null) {
-                log.info("Received team data from API");
-
-                // TODO: Parse response and save teams
-                // This requires:
-                // 1. JSON parsing (Jackson/Gson)
-                // 2. Mapping API response to Team entity
-                // 3. Using teamService.saveOrUpdateTeam()
+            List<ApiFootballTeam> teams;
+            try (InputStream body = footballApiClient.streamTeams(leagueId, season)) {
+                teams = ApiFootballParser.parseTeams(jsonMapper, body);
+            }
 
-                long teamCount = teamService.countTeams();
-                log.info("Current team count: {}", teamCount);
-            } else {
+            if (teams.isEmpty()) {
                 log.warn("No team data received from API");
+                return;
             }
 
+            SyncChangeSet changes = fixtureIngestionService.upsertTeams(teams);
+            log.info("Synced {} teams ({} inserted, {} updated, {} unchanged) in {} ms", teams.size(),
+                    changes.inserted(), changes.updated(), changes.unchanged(), elapsedMillis(started));
+
         } catch (Exception e) {
             log.error("Error syncing teams", e);
         }
@@ -118,73 +123,46 @@ public class DataSyncScheduler {
 
     /**
      * Sync match/fixture data from external API
+     * The body is parsed as it streams in, unchanged fixtures are recognised by content hash and the
+     * rest are written with one bulk upsert
      */
     private void syncMatches() {
         log.info("Syncing match data...");
+        long started = System.nanoTime();
 
         try {
-            // Fetch fixtures from API
-            String response = footballApiClient.fetchWorldCupFixtures().block();
-
-            if (response != null) {
-                log.info("Received fixture data from API");
-
-                // TODO: Parse response and save matches
-                // This requires:
-                // 1. JSON parsing
-                // 2. Mapping API response to Match entity
-                // 3. Using matchService.saveOrUpdateMatch()
+            List<ApiFootballFixture> fixtures;
+            try (InputStream body = footballApiClient.streamWorldCupFixtures(leagueId, season)) {
+                fixtures = ApiFootballParser.parseFixtures(jsonMapper, body);
+            }
 
-                long matchCount = matchService.countMatches();
-                log.info("Current match count: {}", matchCount);
-            } else {
+            if (fixtures.isEmpty()) {
                 log.warn("No fixture data received from API");
+                return;
             }
 
-        } catch (Exception e) {
-            log.error("Error syncing matches", e);
-        }
-    }
-
-    /**
-     * Sync live match scores (can be run more frequently)
-     * Runs every 5 minutes during World Cup period
-     */
-    @Scheduled(cron = "0 */5 * * * *")
-    public void syncLiveScores() {
-        if (!syncEnabled) {
-            return;
-        }
-
-        try {
-            log.debug("Checking for live match updates...");
-
-            String response = footballApiClient.fetchLiveScores().block();
-
-            if (response != null) {
-                // TODO: Parse and update live scores
-                log.debug("Live scores updated");
-            }
+            SyncChangeSet changes = fixtureIngestionService.upsertFixtures(fixtures);
+            log.info("Synced {} fixtures ({} inserted, {} updated, {} unchanged) in {} ms", fixtures.size(),
+                    changes.inserted(), changes.updated(), changes.unchanged(), elapsedMillis(started));
 
         } catch (Exception e) {
-            log.error("Error syncing live scores", e);
+            log.error("Error syncing matches", e);
         }
     }
 
-    /**
-     * Clear all caches after sync
-     */
-    private void clearCaches() {
-        log.info("Clearing caches...");
-        matchService.clearCache();
-        teamService.clearCache();
-        log.info("Caches cleared");
+    private static long elapsedMillis(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
     }
 
     /**
      * Manual trigger for data sync (via REST endpoint)
      * Can be called by admin to force immediate sync
+     * Shares the scheduled job's lock, so it is skipped while a sync is already running anywhere or
+     * within the lock's minimum hold time after one finished
+     *
+     * @throws com.worldcup.matchservice.exception.JobSkippedException if the sync was skipped
      */
+    @JobLock(name = "data-sync", leaseTime = "PT1H", failWhenSkipped = true)
     public void triggerManualSync() {
         log.info("Manual data sync triggered");
         syncMatchData();
@@ -0,0 +1,42 @@
+package com.worldcup.matchservice.scheduler;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Run the annotated job on at most one instance at a time
+ * Instances that cannot take the lock skip the run, so a cron job fires once per cluster rather than
+ * once per replica
+ * Durations are ISO-8601 (PT30M, PT30S)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JobLock {
+
+    /**
+     * Lock name, shared by every method that must not run concurrently
+     */
+    String name();
+
+    /**
+     * Lease on the lock; if the holder dies mid-run, another instance can take over once it expires
+     * Must be longer than the job normally takes
+     */
+    String leaseTime() default "PT30M";
+
+    /**
+     * Minimum time the lock stays held after the job returns, so a replica whose schedule fires a few
+     * seconds later still skips the run that has just finished
+     */
+    String minHoldTime() default "PT30S";
+
+    /**
+     * Throw JobSkippedException instead of returning null when the lock cannot be taken
+     * For runs requested by a caller who needs to know the job did not run
+     */
+    boolean failWhenSkipped() default false;
+}
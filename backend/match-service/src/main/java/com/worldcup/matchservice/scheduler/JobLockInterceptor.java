@@ -0,0 +1,73 @@
+package com.worldcup.matchservice.scheduler;
+
+import com.worldcup.matchservice.exception.JobSkippedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.time.Duration;
+
+/**
+ * Wraps @JobLock methods: runs the method only if the cluster-wide lock can be taken, otherwise skips it
+ * A skipped run returns null, or throws JobSkippedException when the method asks to fail when skipped
+ * Records scheduled.job.lock.held (time the job ran under the lock) and scheduled.job.lock.skipped
+ * (runs left to another instance), both tagged by job
+ * Dependencies are resolved on first use because this interceptor is created with the proxy infrastructure
+ */
+@Slf4j
+public class JobLockInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<JobLockService> jobLockService;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public JobLockInterceptor(ObjectProvider<JobLockService> jobLockService,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jobLockService = jobLockService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        JobLock jobLock = AnnotatedElementUtils.findMergedAnnotation(invocation.getMethod(), JobLock.class);
+        if (jobLock == null) {
+            return invocation.proceed();
+        }
+
+        JobLockService locks = jobLockService.getObject();
+        MeterRegistry registry = meterRegistry.getObject();
+        String name = jobLock.name();
+
+        if (!locks.tryAcquire(name, Duration.parse(jobLock.leaseTime()))) {
+            log.debug("Skipping job {}: lock held by another instance", name);
+            Counter.builder("scheduled.job.lock.skipped")
+                    .description("Job runs skipped because another instance held the lock")
+                    .tag("job", name)
+                    .register(registry)
+                    .increment();
+            if (jobLock.failWhenSkipped()) {
+                throw new JobSkippedException("Job " + name + " is already running or has just run");
+            }
+            return null;
+        }
+
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            return invocation.proceed();
+        } finally {
+            sample.stop(Timer.builder("scheduled.job.lock.held")
+                    .description("Time a job ran while holding its cluster lock")
+                    .tag("job", name)
+                    .register(registry));
+            try {
+                locks.release(name, Duration.parse(jobLock.minHoldTime()));
+            } catch (RuntimeException e) {
+                log.warn("Failed to release job lock {}; it expires with its lease: {}", name, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.worldcup.matchservice.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Lease-based job locks stored in the job_locks table
+ * A lock is taken by an upsert that only succeeds when the current lease has expired, and released by
+ * shortening the lease rather than deleting the row
+ * All times come from the database clock, so clock skew between instances does not matter
+ */
+@Service
+@Slf4j
+public class JobLockService {
+
+    private static final String ACQUIRE =
+            "INSERT INTO match_service_schema.job_locks (name, locked_by, locked_at, locked_until) "
+            + "VALUES (?, ?, now(), now() + ? * INTERVAL '1 millisecond') "
+            + "ON CONFLICT (name) DO UPDATE SET locked_by = EXCLUDED.locked_by, "
+            + "locked_at = EXCLUDED.locked_at, locked_until = EXCLUDED.locked_until "
+            + "WHERE job_locks.locked_until <= now()";
+
+    private static final String RELEASE =
+            "UPDATE match_service_schema.job_locks "
+            + "SET locked_until = GREATEST(now(), locked_at + ? * INTERVAL '1 millisecond') "
+            + "WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId;
+
+    public JobLockService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.instanceId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Try to take the named lock for the lease time
+     *
+     * @return true if this instance now holds the lock
+     */
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        return jdbcTemplate.update(ACQUIRE, name, instanceId, leaseTime.toMillis()) == 1;
+    }
+
+    /**
+     * Release a lock held by this instance, keeping it until at least minHoldTime after it was taken
+     * Does nothing if the lease already expired and another instance has taken the lock
+     */
+    public void release(String name, Duration minHoldTime) {
+        int updated = jdbcTemplate.update(RELEASE, minHoldTime.toMillis(), name, instanceId);
+        if (updated == 0) {
+            log.warn("Job lock {} was no longer held by {} on release; its lease may be too short", name, instanceId);
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
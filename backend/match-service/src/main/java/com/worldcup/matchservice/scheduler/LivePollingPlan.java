@@ -0,0 +1,33 @@
+package com.worldcup.matchservice.scheduler;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Outcome of one live-score planning step: what to poll now, if anything, and when to plan again
+ *
+ * @param source    provider to poll now, or NONE
+ * @param matchDate UTC match day to poll scores for
+ * @param nextCheck when the next planning step should run
+ * @param idle      true when no polling window is open
+ */
+public record LivePollingPlan(Source source, LocalDate matchDate, Instant nextCheck, boolean idle) {
+
+    public static LivePollingPlan poll(Source source, LocalDate matchDate, Instant nextCheck) {
+        return new LivePollingPlan(source, matchDate, nextCheck, false);
+    }
+
+    public static LivePollingPlan skip(Instant nextCheck) {
+        return new LivePollingPlan(Source.NONE, null, nextCheck, false);
+    }
+
+    public static LivePollingPlan idle(Instant nextCheck) {
+        return new LivePollingPlan(Source.NONE, null, nextCheck, true);
+    }
+
+    public enum Source {
+        NONE,
+        API_FOOTBALL,
+        SPORTS_DB
+    }
+}
@@ -0,0 +1,201 @@
+package com.worldcup.matchservice.scheduler;
+
+import com.worldcup.matchservice.client.ApiQuotaLedger;
+import com.worldcup.matchservice.entity.Match;
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+import com.worldcup.matchservice.repository.MatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Decides when and from where live scores are polled
+ *
+ * Polling windows come from kickoff times in matches (stored in UTC): a window opens lead-time before
+ * kickoff and closes match-duration after it, and stays open while the match is LIVE. Outside windows
+ * nothing is polled and the next check is the next window's start
+ *
+ * Inside a window the API-FOOTBALL budget left today (requests left per the ApiQuotaLedger, minus the
+ * reserve kept for critical calls such as the daily sync) is spread over the window time left today:
+ * - while the budget covers it, API-FOOTBALL is polled every fast-interval
+ * - when it does not, API-FOOTBALL polls are spaced out up to max-interval and TheSportsDB fills the gaps
+ * - once it is spent, TheSportsDB alone is polled every fast-interval
+ */
+@Component
+public class LivePollingPlanner {
+
+    private static final EnumSet<MatchStatus> POLLED_STATUSES = EnumSet.of(MatchStatus.SCHEDULED, MatchStatus.LIVE);
+
+    private final MatchRepository matchRepository;
+    private final ApiQuotaLedger quotaLedger;
+    private final Duration fastInterval;
+    private final Duration maxInterval;
+    private final Duration idleInterval;
+    private final Duration leadTime;
+    private final Duration matchDuration;
+    private final int dailyQuota;
+    private final int reserve;
+
+    public LivePollingPlanner(MatchRepository matchRepository,
+                              ApiQuotaLedger quotaLedger,
+                              @Value("${live-scores.fast-interval:30s}") Duration fastInterval,
+                              @Value("${live-scores.max-interval:10m}") Duration maxInterval,
+                              @Value("${live-scores.idle-interval:1h}") Duration idleInterval,
+                              @Value("${live-scores.lead-time:15m}") Duration leadTime,
+                              @Value("${live-scores.match-duration:150m}") Duration matchDuration,
+                              @Value("${external.api.football.daily-quota:100}") int dailyQuota,
+                              @Value("${external.api.football.reserve:5}") int reserve) {
+        this.matchRepository = matchRepository;
+        this.quotaLedger = quotaLedger;
+        this.fastInterval = fastInterval;
+        this.maxInterval = maxInterval;
+        this.idleInterval = idleInterval;
+        this.leadTime = leadTime;
+        this.matchDuration = matchDuration;
+        this.dailyQuota = dailyQuota;
+        this.reserve = reserve;
+    }
+
+    /**
+     * Plan the poll due now from today's matches and the quota ledger
+     */
+    public LivePollingPlan plan(Instant now) {
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        List<Window> windows = new ArrayList<>();
+        for (Match match : matchRepository.findByStatusInAndMatchDateBetween(
+                POLLED_STATUSES, today.minusDays(1), today.plusDays(1))) {
+            if (match.getMatchTime() != null) {
+                Instant kickoff = LocalDateTime.of(match.getMatchDate(), match.getMatchTime()).toInstant(ZoneOffset.UTC);
+                windows.add(new Window(kickoff, match.getMatchDate(), match.getStatus() == MatchStatus.LIVE));
+            }
+        }
+        return plan(now, windows,
+                quotaLedger.today(ApiQuotaLedger.API_FOOTBALL),
+                quotaLedger.today(ApiQuotaLedger.SPORTS_DB).lastRequestAt());
+    }
+
+    /**
+     * Pure planning step, separated from the queries
+     */
+    LivePollingPlan plan(Instant now, List<Window> windows, ApiQuotaLedger.Usage apiUsage, Instant lastFallbackAt) {
+        List<Window> active = windows.stream()
+                .filter(window -> isOpen(window, now))
+                .sorted(Comparator.comparing(Window::kickoff))
+                .toList();
+        if (active.isEmpty()) {
+            Instant nextOpen = windows.stream()
+                    .map(this::opensAt)
+                    .filter(opensAt -> opensAt.isAfter(now))
+                    .min(Comparator.naturalOrder())
+                    .orElse(now.plus(idleInterval));
+            Instant nextCheck = nextOpen.isBefore(now.plus(idleInterval)) ? nextOpen : now.plus(idleInterval);
+            return LivePollingPlan.idle(nextCheck);
+        }
+
+        LocalDate date = active.get(0).matchDate();
+        Instant nextCheck = now.plus(fastInterval);
+        Instant lastPollAt = latest(apiUsage.lastRequestAt(), lastFallbackAt);
+        boolean fastDue = lastPollAt == null || !now.isBefore(lastPollAt.plus(fastInterval).minus(slack()));
+
+        int budget = apiUsage.remaining(dailyQuota) - reserve;
+        if (budget <= 0) {
+            return fastDue ? LivePollingPlan.poll(LivePollingPlan.Source.SPORTS_DB, date, nextCheck)
+                    : LivePollingPlan.skip(nextCheck);
+        }
+
+        Duration apiInterval = apiInterval(now, windows, budget);
+        Instant apiDueAt = apiUsage.lastRequestAt() == null ? now : apiUsage.lastRequestAt().plus(apiInterval);
+        if (!now.isBefore(apiDueAt.minus(slack()))) {
+            return LivePollingPlan.poll(LivePollingPlan.Source.API_FOOTBALL, date, nextCheck);
+        }
+        if (fastDue && apiInterval.compareTo(fastInterval) > 0) {
+            return LivePollingPlan.poll(LivePollingPlan.Source.SPORTS_DB, date, nextCheck);
+        }
+        return LivePollingPlan.skip(nextCheck);
+    }
+
+    /**
+     * Spacing of API-FOOTBALL polls that makes the budget last for the window time left today,
+     * between fast-interval and max-interval
+     */
+    private Duration apiInterval(Instant now, List<Window> windows, int budget) {
+        Instant endOfDay = LocalDate.ofInstant(now, ZoneOffset.UTC).plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        Duration spread = remainingWindowTime(now, endOfDay, windows).dividedBy(budget);
+        if (spread.compareTo(fastInterval) < 0) {
+            return fastInterval;
+        }
+        return spread.compareTo(maxInterval) > 0 ? maxInterval : spread;
+    }
+
+    /**
+     * Total time between now and the end of the quota day covered by at least one window
+     */
+    private Duration remainingWindowTime(Instant now, Instant endOfDay, List<Window> windows) {
+        List<Window> sorted = windows.stream().sorted(Comparator.comparing(this::opensAt)).toList();
+        Duration total = Duration.ZERO;
+        Instant coveredUntil = now;
+        for (Window window : sorted) {
+            Instant start = max(opensAt(window), coveredUntil);
+            Instant end = min(closesAt(window, now), endOfDay);
+            if (end.isAfter(start)) {
+                total = total.plus(Duration.between(start, end));
+                coveredUntil = end;
+            }
+        }
+        return total.isZero() ? fastInterval : total;
+    }
+
+    /**
+     * Ticks drift by a few milliseconds, so an interval counts as elapsed slightly early
+     */
+    private Duration slack() {
+        return Duration.of(Math.min(1000, fastInterval.toMillis() / 10), ChronoUnit.MILLIS);
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null ? a : max(a, b);
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private Instant opensAt(Window window) {
+        return window.kickoff().minus(leadTime);
+    }
+
+    /**
+     * A LIVE match keeps its window open past match-duration (extra time, delays) until it is reported finished
+     */
+    private Instant closesAt(Window window, Instant now) {
+        Instant scheduledEnd = window.kickoff().plus(matchDuration);
+        return window.live() ? max(scheduledEnd, now.plus(fastInterval)) : scheduledEnd;
+    }
+
+    private boolean isOpen(Window window, Instant now) {
+        return !now.isBefore(opensAt(window)) && now.isBefore(closesAt(window, now));
+    }
+
+    /**
+     * Polling window around one kickoff
+     */
+    record Window(Instant kickoff, LocalDate matchDate, boolean live) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.worldcup.matchservice.scheduler;
+
+import com.worldcup.matchservice.client.ApiFootballFixture;
+import com.worldcup.matchservice.client.ApiFootballParser;
+import com.worldcup.matchservice.client.FootballApiClient;
+import com.worldcup.matchservice.client.SportsDbEvent;
+import com.worldcup.matchservice.client.SportsDbParser;
+import com.worldcup.matchservice.exception.ApiQuotaExceededException;
+import com.worldcup.matchservice.service.FixtureIngestionService;
+import com.worldcup.matchservice.service.SyncChangeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Fetches one day's scores from the provider chosen by LivePollingPlanner and writes what changed
+ * Changed matches are published as a SyncChangeSet, which evicts the match caches after commit
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveScorePoller {
+
+    private final FootballApiClient footballApiClient;
+    private final FixtureIngestionService fixtureIngestionService;
+    private final JsonMapper jsonMapper;
+
+    @Value("${data-sync.league-id:1}")
+    private Integer leagueId;
+
+    @Value("${data-sync.season:2026}")
+    private Integer season;
+
+    @Value("${live-scores.sportsdb-league-id:4429}")
+    private String sportsDbLeagueId;
+
+    /**
+     * Poll one provider for the given match day, on one instance per cluster
+     * The lease covers a slow response; the short hold lets the next tick run on any instance
+     */
+    @JobLock(name = "live-scores", leaseTime = "PT2M", minHoldTime = "PT5S")
+    public void poll(LivePollingPlan.Source source, LocalDate matchDate) throws IOException {
+        SyncChangeSet changes = switch (source) {
+            case API_FOOTBALL -> {
+                try {
+                    yield pollApiFootball(matchDate);
+                } catch (ApiQuotaExceededException e) {
+                    // Another instance or key user spent the budget since the plan was made
+                    log.warn("{}; polling TheSportsDB instead", e.getMessage());
+                    source = LivePollingPlan.Source.SPORTS_DB;
+                    yield pollSportsDb(matchDate);
+                }
+            }
+            case SPORTS_DB -> pollSportsDb(matchDate);
+            case NONE -> SyncChangeSet.empty(SyncChangeSet.Entity.MATCHES);
+        };
+        if (changes.hasChanges()) {
+            log.info("Live scores from {}: {} matches updated", source, changes.inserted() + changes.updated());
+        } else {
+            log.debug("Live scores from {}: no changes", source);
+        }
+    }
+
+    private SyncChangeSet pollApiFootball(LocalDate matchDate) throws IOException {
+        List<ApiFootballFixture> fixtures;
+        try (InputStream body = footballApiClient.streamFixturesOn(leagueId, season, matchDate)) {
+            fixtures = ApiFootballParser.parseFixtures(jsonMapper, body);
+        }
+        return fixtureIngestionService.upsertFixtures(fixtures);
+    }
+
+    private SyncChangeSet pollSportsDb(LocalDate matchDate) throws IOException {
+        List<SportsDbEvent> events;
+        try (InputStream body = footballApiClient.streamSportsDbEventsOn(matchDate, sportsDbLeagueId)) {
+            events = SportsDbParser.parseEvents(jsonMapper, body);
+        }
+        return fixtureIngestionService.applyLiveScores(events);
+    }
+}
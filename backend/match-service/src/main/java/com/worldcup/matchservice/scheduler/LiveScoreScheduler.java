@@ -0,0 +1,109 @@
+package com.worldcup.matchservice.scheduler;
+
+import com.worldcup.matchservice.service.SyncChangeSet;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive live-score polling
+ *
+ * Replaces the fixed 5-minute cron: each run asks LivePollingPlanner what to poll and when to look again,
+ * and schedules itself for that time. Outside match windows the service sleeps until the next window
+ * opens (re-checking at least every idle-interval); inside one it runs every fast-interval
+ * A sync that changes matches while idle wakes it early, since kickoff times may have moved
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "live-scores.enabled", havingValue = "true")
+public class LiveScoreScheduler {
+
+    private final LivePollingPlanner planner;
+    private final LiveScorePoller poller;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${live-scores.fast-interval:30s}")
+    private Duration fastInterval;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private ScheduledFuture<?> next;
+    private boolean idle = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduleAt(Instant.now(), true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSyncChanges(SyncChangeSet changes) {
+        if (changes.entity() == SyncChangeSet.Entity.MATCHES && changes.hasChanges() && idle) {
+            log.debug("Matches changed while idle, re-planning live-score polling");
+            scheduleAt(Instant.now(), true);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        lock.lock();
+        try {
+            if (next != null) {
+                next.cancel(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        lock.lock();
+        try {
+            idle = false;
+        } finally {
+            lock.unlock();
+        }
+
+        Instant now = Instant.now();
+        Instant nextCheck = now.plus(fastInterval);
+        boolean nextIdle = false;
+        try {
+            LivePollingPlan plan = planner.plan(now);
+            if (plan.source() != LivePollingPlan.Source.NONE) {
+                poller.poll(plan.source(), plan.matchDate());
+            }
+            nextCheck = plan.nextCheck();
+            nextIdle = plan.idle();
+            if (nextIdle) {
+                log.debug("No live-score window open, sleeping until {}", nextCheck);
+            }
+        } catch (Exception e) {
+            log.error("Error polling live scores", e);
+        }
+        scheduleAt(nextCheck, nextIdle);
+    }
+
+    private void scheduleAt(Instant when, boolean nextIdle) {
+        lock.lock();
+        try {
+            if (next != null) {
+                next.cancel(false);
+            }
+            idle = nextIdle;
+            next = taskScheduler.schedule(this::run, when);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.entity.Team;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Rebuilds the match catalogue and evicts caches after a sync or a match write commits, and only
+ * when something changed
+ *
+ * Match DTOs embed their teams, so a team change clears the match caches; changes to known matches
+ * evict only the keys holding them (see MatchCacheKeys)
+ * Group standings are updated from the rebuilt catalogue in the same step
+ * Team rows are written with plain SQL, bypassing the Hibernate second-level cache, so its Team
+ * region and query regions are evicted as well
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheEvictionListener {
+
+    private final MatchService matchService;
+    private final MatchCacheKeys matchCacheKeys;
+    private final GroupStandingsService groupStandingsService;
+    private final TeamService teamService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSyncChanges(SyncChangeSet changes) {
+        if (!changes.hasChanges()) {
+            log.debug("Sync left {} unchanged, keeping caches", changes.entity());
+            return;
+        }
+
+        if (changes.entity() == SyncChangeSet.Entity.TEAMS) {
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            cache.evictEntityData(Team.class);
+            cache.evictQueryRegions();
+            teamService.clearCache();
+            matchService.clearCache();
+            groupStandingsService.rebuild();
+        } else {
+            matchCacheKeys.evict(changes.changedIds());
+            groupStandingsService.update(changes.changedIds());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchDataChanged(MatchDataChanged change) {
+        if (change.affectsAll()) {
+            matchService.clearCache();
+            groupStandingsService.rebuild();
+        } else {
+            matchCacheKeys.evict(change.matchIds());
+            groupStandingsService.update(change.matchIds());
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.client.ApiFootballFixture;
+import com.worldcup.matchservice.client.ApiFootballTeam;
+import com.worldcup.matchservice.client.SportsDbEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bulk writes for the API-FOOTBALL team and fixture sync
+ *
+ * Every synced row stores a content hash of the payload it was written from. Records whose hash matches
+ * the stored one are classified as unchanged and never sent to the database, so an unchanged feed costs
+ * one lookup query and no writes
+ * The remaining records are written by a single INSERT ... ON CONFLICT (external_api_id) statement whose
+ * rows come from unnest() over one array parameter per column, so round trips do not grow with the feed
+ * Each call publishes a {@link SyncChangeSet} that is delivered once the transaction commits
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FixtureIngestionService {
+
+    // xmax is 0 only for a freshly inserted tuple, which tells inserts from updates in RETURNING
+    private static final String UPSERT_TEAMS =
+            "INSERT INTO match_service_schema.teams (external_api_id, name, country, logo_url, content_hash) "
+            + "SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::bigint[]) "
+            + "ON CONFLICT (external_api_id) DO UPDATE SET name = EXCLUDED.name, country = EXCLUDED.country, "
+            + "logo_url = COALESCE(EXCLUDED.logo_url, teams.logo_url), content_hash = EXCLUDED.content_hash, "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "WHERE teams.content_hash IS DISTINCT FROM EXCLUDED.content_hash "
+            + "RETURNING id, (xmax = 0) AS inserted";
+
+    // Group, stadium and venue country keep their stored values when the payload has none; a group stage
+    // fixture without a group takes the group of another group match of either team
+    private static final String UPSERT_MATCHES =
+            "INSERT INTO match_service_schema.matches (external_api_id, home_team_id, away_team_id, match_date, "
+            + "match_time, status, home_score, away_score, round, group_name, stadium_id, venue_name, venue_city, "
+            + "venue_country, content_hash) "
+            + "SELECT f.external_api_id, f.home_team_id, f.away_team_id, f.match_date, f.match_time, f.status, "
+            + "COALESCE(f.home_score, 0), COALESCE(f.away_score, 0), f.round, "
+            + "COALESCE(f.group_name, CASE WHEN f.round LIKE 'Group%' THEN (SELECT g.group_name "
+            + "FROM match_service_schema.matches g WHERE g.group_name LIKE 'Group %' "
+            + "AND (g.home_team_id IN (f.home_team_id, f.away_team_id) "
+            + "OR g.away_team_id IN (f.home_team_id, f.away_team_id)) LIMIT 1) END), "
+            + "f.stadium_id, f.venue_name, f.venue_city, f.venue_country, f.content_hash "
+            + "FROM unnest(?::varchar[], ?::bigint[], ?::bigint[], ?::date[], ?::time[], ?::varchar[], "
+            + "?::integer[], ?::integer[], ?::varchar[], ?::varchar[], ?::bigint[], ?::varchar[], ?::varchar[], "
+            + "?::varchar[], ?::bigint[]) "
+            + "AS f(external_api_id, home_team_id, away_team_id, match_date, match_time, status, "
+            + "home_score, away_score, round, group_name, stadium_id, venue_name, venue_city, venue_country, "
+            + "content_hash) "
+            + "ON CONFLICT (external_api_id) DO UPDATE SET home_team_id = EXCLUDED.home_team_id, "
+            + "away_team_id = EXCLUDED.away_team_id, match_date = EXCLUDED.match_date, "
+            + "match_time = EXCLUDED.match_time, status = EXCLUDED.status, home_score = EXCLUDED.home_score, "
+            + "away_score = EXCLUDED.away_score, round = EXCLUDED.round, "
+            + "group_name = COALESCE(EXCLUDED.group_name, matches.group_name), "
+            + "stadium_id = COALESCE(EXCLUDED.stadium_id, matches.stadium_id), "
+            + "venue_name = COALESCE(EXCLUDED.venue_name, matches.venue_name), "
+            + "venue_city = COALESCE(EXCLUDED.venue_city, matches.venue_city), "
+            + "venue_country = COALESCE(EXCLUDED.venue_country, matches.venue_country), "
+            + "content_hash = EXCLUDED.content_hash, updated_at = CURRENT_TIMESTAMP "
+            + "WHERE matches.content_hash IS DISTINCT FROM EXCLUDED.content_hash "
+            + "RETURNING id, (xmax = 0) AS inserted";
+
+    // Fallback scores come without API-FOOTBALL ids, so rows are found by date and team name or country
+    // The content hash is cleared, so the next API-FOOTBALL sync rewrites the row whatever it reports
+    private static final String APPLY_LIVE_SCORES =
+            "UPDATE match_service_schema.matches m SET home_score = COALESCE(e.home_score, m.home_score), "
+            + "away_score = COALESCE(e.away_score, m.away_score), status = COALESCE(e.status, m.status), "
+            + "content_hash = NULL, updated_at = CURRENT_TIMESTAMP "
+            + "FROM unnest(?::date[], ?::varchar[], ?::varchar[], ?::varchar[], ?::integer[], ?::integer[]) "
+            + "AS e(match_date, home_team, away_team, status, home_score, away_score), "
+            + "match_service_schema.teams h, match_service_schema.teams a "
+            + "WHERE m.match_date = e.match_date AND h.id = m.home_team_id AND a.id = m.away_team_id "
+            + "AND lower(e.home_team) IN (lower(h.name), lower(h.country)) "
+            + "AND lower(e.away_team) IN (lower(a.name), lower(a.country)) "
+            + "AND (m.home_score, m.away_score, m.status) IS DISTINCT FROM "
+            + "(COALESCE(e.home_score, m.home_score), COALESCE(e.away_score, m.away_score), COALESCE(e.status, m.status)) "
+            + "RETURNING m.id";
+
+    private static final String TEAM_ROWS =
+            "SELECT external_api_id, id, content_hash FROM match_service_schema.teams "
+            + "WHERE external_api_id IS NOT NULL";
+
+    private static final String MATCH_ROWS =
+            "SELECT external_api_id, id, content_hash FROM match_service_schema.matches "
+            + "WHERE external_api_id IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Insert new teams and update changed ones in one statement
+     */
+    @Transactional
+    public SyncChangeSet upsertTeams(List<ApiFootballTeam> teams) {
+        Collection<ApiFootballTeam> unique = dedupe(teams, ApiFootballTeam::externalApiId);
+        if (unique.isEmpty()) {
+            return SyncChangeSet.empty(SyncChangeSet.Entity.TEAMS);
+        }
+
+        Map<String, StoredRow> stored = storedRows(TEAM_ROWS);
+        List<Long> unchanged = new ArrayList<>();
+        List<ApiFootballTeam> changed = new ArrayList<>();
+        for (ApiFootballTeam team : unique) {
+            StoredRow row = stored.get(team.externalApiId());
+            if (row != null && row.matches(team.contentHash())) {
+                unchanged.add(row.id());
+            } else {
+                changed.add(team);
+            }
+        }
+
+        int n = changed.size();
+        String[] ids = new String[n];
+        String[] names = new String[n];
+        String[] countries = new String[n];
+        String[] logos = new String[n];
+        Long[] hashes = new Long[n];
+        for (int i = 0; i < n; i++) {
+            ApiFootballTeam team = changed.get(i);
+            ids[i] = team.externalApiId();
+            names[i] = team.name();
+            countries[i] = team.country();
+            logos[i] = team.logoUrl();
+            hashes[i] = team.contentHash();
+        }
+
+        return publish(write(SyncChangeSet.Entity.TEAMS, UPSERT_TEAMS, n, unchanged, ps -> {
+            bind(ps, 1, "varchar", ids);
+            bind(ps, 2, "varchar", names);
+            bind(ps, 3, "varchar", countries);
+            bind(ps, 4, "varchar", logos);
+            bind(ps, 5, "bigint", hashes);
+        }));
+    }
+
+    /**
+     * Insert new fixtures and update changed ones in one statement
+     * Teams are resolved from an in-memory map of external id to team id, loaded with one query
+     * Changed fixtures whose teams are not known yet (e.g. undecided knockout ties) are skipped
+     */
+    @Transactional
+    public SyncChangeSet upsertFixtures(List<ApiFootballFixture> fixtures) {
+        Collection<ApiFootballFixture> unique = dedupe(fixtures, ApiFootballFixture::externalApiId);
+        if (unique.isEmpty()) {
+            return SyncChangeSet.empty(SyncChangeSet.Entity.MATCHES);
+        }
+
+        Map<String, StoredRow> stored = storedRows(MATCH_ROWS);
+        Map<String, StoredRow> teams = storedRows(TEAM_ROWS);
+        List<Long> unchanged = new ArrayList<>();
+        List<ApiFootballFixture> changed = new ArrayList<>();
+        int unresolvable = 0;
+        for (ApiFootballFixture fixture : unique) {
+            StoredRow row = stored.get(fixture.externalApiId());
+            if (row != null && row.matches(fixture.contentHash())) {
+                unchanged.add(row.id());
+                continue;
+            }
+            StoredRow home = teams.get(fixture.homeTeamExternalId());
+            StoredRow away = teams.get(fixture.awayTeamExternalId());
+            if (home != null && away != null && !home.id().equals(away.id())) {
+                changed.add(fixture);
+            } else {
+                unresolvable++;
+            }
+        }
+        if (unresolvable > 0) {
+            log.warn("Skipping {} of {} fixtures whose teams are not synced yet", unresolvable, unique.size());
+        }
+
+        int n = changed.size();
+        String[] externalIds = new String[n];
+        Long[] homeTeamIds = new Long[n];
+        Long[] awayTeamIds = new Long[n];
+        String[] dates = new String[n];
+        String[] times = new String[n];
+        String[] statuses = new String[n];
+        Integer[] homeScores = new Integer[n];
+        Integer[] awayScores = new Integer[n];
+        String[] rounds = new String[n];
+        String[] groups = new String[n];
+        Long[] stadiumIds = new Long[n];
+        String[] venueNames = new String[n];
+        String[] venueCities = new String[n];
+        String[] venueCountries = new String[n];
+        Long[] hashes = new Long[n];
+        for (int i = 0; i < n; i++) {
+            ApiFootballFixture fixture = changed.get(i);
+            externalIds[i] = fixture.externalApiId();
+            homeTeamIds[i] = teams.get(fixture.homeTeamExternalId()).id();
+            awayTeamIds[i] = teams.get(fixture.awayTeamExternalId()).id();
+            dates[i] = fixture.matchDate().toString();
+            times[i] = fixture.matchTime() != null ? fixture.matchTime().toString() : null;
+            statuses[i] = fixture.status().name();
+            homeScores[i] = fixture.homeScore();
+            awayScores[i] = fixture.awayScore();
+            rounds[i] = fixture.round();
+            groups[i] = fixture.groupName();
+            stadiumIds[i] = fixture.stadiumId();
+            venueNames[i] = fixture.venueName();
+            venueCities[i] = fixture.venueCity();
+            venueCountries[i] = fixture.venueCountry();
+            hashes[i] = fixture.contentHash();
+        }
+
+        return publish(write(SyncChangeSet.Entity.MATCHES, UPSERT_MATCHES, n, unchanged, ps -> {
+            bind(ps, 1, "varchar", externalIds);
+            bind(ps, 2, "bigint", homeTeamIds);
+            bind(ps, 3, "bigint", awayTeamIds);
+            bind(ps, 4, "varchar", dates);
+            bind(ps, 5, "varchar", times);
+            bind(ps, 6, "varchar", statuses);
+            bind(ps, 7, "integer", homeScores);
+            bind(ps, 8, "integer", awayScores);
+            bind(ps, 9, "varchar", rounds);
+            bind(ps, 10, "varchar", groups);
+            bind(ps, 11, "bigint", stadiumIds);
+            bind(ps, 12, "varchar", venueNames);
+            bind(ps, 13, "varchar", venueCities);
+            bind(ps, 14, "varchar", venueCountries);
+            bind(ps, 15, "bigint", hashes);
+        }));
+    }
+
+    /**
+     * Apply fallback scores and statuses from TheSportsDB to existing matches in one statement
+     * Only matches whose score or status actually changes are touched; the change set lists them as
+     * updated and has no unchanged ids, since unmatched events cannot be told apart from unchanged ones
+     */
+    @Transactional
+    public SyncChangeSet applyLiveScores(List<SportsDbEvent> events) {
+        if (events.isEmpty()) {
+            return SyncChangeSet.empty(SyncChangeSet.Entity.MATCHES);
+        }
+
+        int n = events.size();
+        String[] dates = new String[n];
+        String[] homeTeams = new String[n];
+        String[] awayTeams = new String[n];
+        String[] statuses = new String[n];
+        Integer[] homeScores = new Integer[n];
+        Integer[] awayScores = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            SportsDbEvent event = events.get(i);
+            dates[i] = event.matchDate().toString();
+            homeTeams[i] = event.homeTeam();
+            awayTeams[i] = event.awayTeam();
+            statuses[i] = event.status() != null ? event.status().name() : null;
+            homeScores[i] = event.homeScore();
+            awayScores[i] = event.awayScore();
+        }
+
+        List<Long> updated = jdbcTemplate.query(APPLY_LIVE_SCORES, ps -> {
+            bind(ps, 1, "varchar", dates);
+            bind(ps, 2, "varchar", homeTeams);
+            bind(ps, 3, "varchar", awayTeams);
+            bind(ps, 4, "varchar", statuses);
+            bind(ps, 5, "integer", homeScores);
+            bind(ps, 6, "integer", awayScores);
+        }, (rs, rowNum) -> rs.getLong("id"));
+        return publish(new SyncChangeSet(SyncChangeSet.Entity.MATCHES, List.of(), updated, List.of()));
+    }
+
+    /**
+     * Run an upsert over the changed records, if any, and sort the returned ids into inserted and updated
+     */
+    private SyncChangeSet write(SyncChangeSet.Entity entity, String sql, int rows, List<Long> unchanged,
+                                PreparedStatementSetter binder) {
+        List<Long> inserted = new ArrayList<>();
+        List<Long> updated = new ArrayList<>();
+        if (rows > 0) {
+            jdbcTemplate.query(sql, binder, rs -> {
+                (rs.getBoolean("inserted") ? inserted : updated).add(rs.getLong("id"));
+            });
+        }
+        return new SyncChangeSet(entity, inserted, updated, unchanged);
+    }
+
+    private SyncChangeSet publish(SyncChangeSet changes) {
+        log.debug("Sync change set - {}", changes);
+        eventPublisher.publishEvent(changes);
+        return changes;
+    }
+
+    private Map<String, StoredRow> storedRows(String sql) {
+        Map<String, StoredRow> rows = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            long hash = rs.getLong("content_hash");
+            rows.put(rs.getString("external_api_id"),
+                    new StoredRow(rs.getLong("id"), rs.wasNull() ? null : hash));
+        });
+        return rows;
+    }
+
+    /**
+     * Keep the last record per external id; one statement cannot touch the same row twice
+     */
+    private static <T> Collection<T> dedupe(List<T> records, Function<T, String> key) {
+        Map<String, T> unique = new LinkedHashMap<>();
+        for (T record : records) {
+            String id = key.apply(record);
+            if (id != null) {
+                unique.put(id, record);
+            }
+        }
+        return unique.values();
+    }
+
+    private static void bind(PreparedStatement ps, int index, String type, Object[] values) throws SQLException {
+        ps.setArray(index, ps.getConnection().createArrayOf(type, values));
+    }
+
+    /**
+     * Id and content hash of a row already in the database; the hash is null until the row is synced
+     */
+    private record StoredRow(Long id, Long contentHash) {
+
+        boolean matches(long hash) {
+            return contentHash != null && contentHash == hash;
+        }
+    }
+}
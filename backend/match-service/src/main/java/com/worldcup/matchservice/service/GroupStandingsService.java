@@ -0,0 +1,347 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.dto.GroupStandingsDTO;
+import com.worldcup.matchservice.dto.MatchDTO;
+import com.worldcup.matchservice.dto.MatchDetailDTO;
+import com.worldcup.matchservice.dto.StandingDTO;
+import com.worldcup.matchservice.dto.TeamDTO;
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+import com.worldcup.matchservice.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Group tables kept in memory and updated match by match
+ *
+ * Each group keeps a running row per team (played, won, drawn, lost, goals for and against) and the
+ * result each of its matches currently contributes. A score or status change takes the match's old
+ * contribution off its two rows and adds the new one, so an update costs the same however many matches
+ * have been played. Only the changed groups are re-ranked, and the tables of every group are then
+ * republished together as one immutable snapshot, so readers never see a half-updated table
+ *
+ * A group match counts once it is LIVE or FINISHED with both scores set. Adding, removing or re-pairing
+ * a group match changes who is in the table, so that rebuilds every table from the match catalogue
+ * Fed by CacheEvictionListener once the catalogue has been rebuilt
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupStandingsService {
+
+    private static final String GROUP_PREFIX = "Group ";
+    private static final Set<String> COUNTED_STATUSES = Set.of(MatchStatus.LIVE.name(), MatchStatus.FINISHED.name());
+
+    private static final Comparator<Row> OVERALL = Comparator.comparingInt(Row::points)
+            .thenComparingInt(Row::goalDifference)
+            .thenComparingInt(Row::goalsFor)
+            .reversed();
+
+    private static final Comparator<Row> BY_NAME = Comparator.comparing((Row row) -> row.team.getName(),
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final MatchCatalogue matchCatalogue;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Fixture> fixtures = new HashMap<>();
+    private final Map<String, Table> tables = new HashMap<>();
+
+    private volatile Standings standings;
+
+    /**
+     * Get the table of one group, by full name ("Group A") or letter ("A")
+     */
+    public GroupStandingsDTO getGroupStandings(String group) {
+        GroupStandingsDTO table = current().byGroup().get(groupName(group));
+        if (table == null) {
+            throw new ResourceNotFoundException("Group not found: " + group);
+        }
+        return table;
+    }
+
+    /**
+     * Get the tables of all groups, in group order
+     */
+    public List<GroupStandingsDTO> getAllStandings() {
+        return current().all();
+    }
+
+    /**
+     * Apply the current state of the given matches, as read from the match catalogue
+     */
+    public void update(Collection<Long> matchIds) {
+        lock.lock();
+        try {
+            if (standings == null) {
+                rebuildTables();
+                return;
+            }
+            Set<String> changedGroups = new TreeSet<>();
+            for (Long id : matchIds) {
+                Fixture previous = fixtures.get(id);
+                Fixture fixture = matchCatalogue.detail(id).map(Fixture::of).orElse(null);
+                if (!Fixture.samePairing(previous, fixture)) {
+                    log.debug("Group match {} added, removed or re-paired, rebuilding standings", id);
+                    rebuildTables();
+                    return;
+                }
+                if (fixture != null) {
+                    Table table = tables.get(fixture.group());
+                    table.remove(previous);
+                    table.add(fixture);
+                    fixtures.put(id, fixture);
+                    changedGroups.add(fixture.group());
+                }
+            }
+            if (!changedGroups.isEmpty()) {
+                publish(standings.byGroup(), changedGroups);
+                log.debug("Standings updated for {}", changedGroups);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuild every table from the match catalogue
+     */
+    public void rebuild() {
+        lock.lock();
+        try {
+            rebuildTables();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Standings current() {
+        Standings current = standings;
+        if (current == null) {
+            rebuild();
+            current = standings;
+        }
+        return current;
+    }
+
+    private void rebuildTables() {
+        fixtures.clear();
+        tables.clear();
+        for (String group : matchCatalogue.groupNames()) {
+            for (MatchDTO match : matchCatalogue.byGroup(group)) {
+                Fixture fixture = Fixture.of(match);
+                if (fixture != null) {
+                    Table table = tables.computeIfAbsent(fixture.group(), Table::new);
+                    table.join(fixture.home());
+                    table.join(fixture.away());
+                    table.add(fixture);
+                    fixtures.put(fixture.matchId(), fixture);
+                }
+            }
+        }
+        publish(Map.of(), tables.keySet());
+        log.debug("Standings rebuilt for {} groups from {} matches", tables.size(), fixtures.size());
+    }
+
+    private void publish(Map<String, GroupStandingsDTO> unchanged, Collection<String> changedGroups) {
+        Map<String, GroupStandingsDTO> byGroup = new HashMap<>(unchanged);
+        changedGroups.forEach(group -> byGroup.put(group, tables.get(group).rank()));
+        List<GroupStandingsDTO> all = byGroup.values().stream()
+                .sorted(Comparator.comparing(GroupStandingsDTO::getGroup))
+                .toList();
+        standings = new Standings(Map.copyOf(byGroup), all);
+    }
+
+    private static String groupName(String group) {
+        String trimmed = group.trim();
+        if (trimmed.regionMatches(true, 0, GROUP_PREFIX, 0, GROUP_PREFIX.length())) {
+            trimmed = trimmed.substring(GROUP_PREFIX.length()).trim();
+        }
+        return GROUP_PREFIX + trimmed.toUpperCase();
+    }
+
+    /**
+     * Published tables; replaced as a whole, never modified
+     */
+    private record Standings(Map<String, GroupStandingsDTO> byGroup, List<GroupStandingsDTO> all) {
+    }
+
+    /**
+     * A group match and the result it contributes; goals are only used when counted
+     */
+    private record Fixture(Long matchId, String group, TeamDTO home, TeamDTO away,
+                           boolean counted, int homeGoals, int awayGoals) {
+
+        static Fixture of(MatchDTO match) {
+            return of(match.getId(), match.getGroupName(), match.getHomeTeam(), match.getAwayTeam(),
+                    match.getStatus(), match.getHomeScore(), match.getAwayScore());
+        }
+
+        static Fixture of(MatchDetailDTO match) {
+            return of(match.getId(), match.getGroupName(), match.getHomeTeam(), match.getAwayTeam(),
+                    match.getStatus(), match.getHomeScore(), match.getAwayScore());
+        }
+
+        /**
+         * Null unless the match is a group match between two known teams
+         */
+        private static Fixture of(Long matchId, String group, TeamDTO home, TeamDTO away, String status,
+                                  Integer homeScore, Integer awayScore) {
+            if (group == null || !group.startsWith(GROUP_PREFIX) || home == null || away == null
+                    || home.getId() == null || away.getId() == null) {
+                return null;
+            }
+            boolean counted = COUNTED_STATUSES.contains(status) && homeScore != null && awayScore != null;
+            return new Fixture(matchId, group, home, away, counted,
+                    counted ? homeScore : 0, counted ? awayScore : 0);
+        }
+
+        static boolean samePairing(Fixture previous, Fixture current) {
+            if (previous == null || current == null) {
+                return previous == current;
+            }
+            return previous.group().equals(current.group())
+                    && Objects.equals(previous.home().getId(), current.home().getId())
+                    && Objects.equals(previous.away().getId(), current.away().getId());
+        }
+    }
+
+    /**
+     * One group's running rows and the counted results behind them, used for head-to-head
+     */
+    private static final class Table {
+        private final String group;
+        private final Map<Long, Row> rows = new LinkedHashMap<>();
+        private final Map<Long, Fixture> results = new HashMap<>();
+
+        Table(String group) {
+            this.group = group;
+        }
+
+        void join(TeamDTO team) {
+            rows.computeIfAbsent(team.getId(), id -> new Row(team));
+        }
+
+        void add(Fixture fixture) {
+            if (fixture.counted()) {
+                results.put(fixture.matchId(), fixture);
+                record(rows, fixture, 1);
+            }
+        }
+
+        void remove(Fixture fixture) {
+            if (fixture.counted()) {
+                results.remove(fixture.matchId());
+                record(rows, fixture, -1);
+            }
+        }
+
+        GroupStandingsDTO rank() {
+            List<Row> ranked = new ArrayList<>(rows.values());
+            ranked.sort(OVERALL.thenComparing(BY_NAME));
+            // Teams still level on points, goal difference and goals scored are ordered by their matches
+            // against each other
+            int from = 0;
+            while (from < ranked.size()) {
+                int to = from + 1;
+                while (to < ranked.size() && OVERALL.compare(ranked.get(from), ranked.get(to)) == 0) {
+                    to++;
+                }
+                if (to - from > 1) {
+                    headToHead(ranked.subList(from, to));
+                }
+                from = to;
+            }
+
+            List<StandingDTO> standings = new ArrayList<>(ranked.size());
+            for (Row row : ranked) {
+                standings.add(row.toStanding(standings.size() + 1));
+            }
+            return GroupStandingsDTO.builder().group(group).standings(List.copyOf(standings)).build();
+        }
+
+        private void headToHead(List<Row> tied) {
+            Map<Long, Row> miniTable = new HashMap<>();
+            tied.forEach(row -> miniTable.put(row.team.getId(), new Row(row.team)));
+            results.values().stream()
+                    .filter(fixture -> miniTable.containsKey(fixture.home().getId())
+                            && miniTable.containsKey(fixture.away().getId()))
+                    .forEach(fixture -> record(miniTable, fixture, 1));
+            // Stable sort: teams level on head-to-head too keep their name order
+            tied.sort(Comparator.comparing((Row row) -> miniTable.get(row.team.getId()), OVERALL));
+        }
+
+        private static void record(Map<Long, Row> rows, Fixture fixture, int sign) {
+            rows.get(fixture.home().getId()).record(fixture.homeGoals(), fixture.awayGoals(), sign);
+            rows.get(fixture.away().getId()).record(fixture.awayGoals(), fixture.homeGoals(), sign);
+        }
+    }
+
+    /**
+     * Running totals for one team; a sign of -1 takes a result back off
+     */
+    private static final class Row {
+        private final TeamDTO team;
+        private int played;
+        private int won;
+        private int drawn;
+        private int lost;
+        private int goalsFor;
+        private int goalsAgainst;
+
+        Row(TeamDTO team) {
+            this.team = team;
+        }
+
+        void record(int scored, int conceded, int sign) {
+            played += sign;
+            goalsFor += sign * scored;
+            goalsAgainst += sign * conceded;
+            if (scored > conceded) {
+                won += sign;
+            } else if (scored == conceded) {
+                drawn += sign;
+            } else {
+                lost += sign;
+            }
+        }
+
+        int points() {
+            return 3 * won + drawn;
+        }
+
+        int goalDifference() {
+            return goalsFor - goalsAgainst;
+        }
+
+        int goalsFor() {
+            return goalsFor;
+        }
+
+        StandingDTO toStanding(int position) {
+            return StandingDTO.builder()
+                    .position(position)
+                    .team(team)
+                    .played(played)
+                    .won(won)
+                    .drawn(drawn)
+                    .lost(lost)
+                    .goalsFor(goalsFor)
+                    .goalsAgainst(goalsAgainst)
+                    .goalDifference(goalDifference())
+                    .points(points())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.dto.LiveScoreEvent;
+import com.worldcup.matchservice.mapper.MatchMapper;
+import com.worldcup.matchservice.repository.MatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Pushes live score and status changes to every open /api/matches/live/stream connection
+ *
+ * Changes are appended to one in-memory ring buffer after their transaction commits, from
+ * MatchService score/status updates and from sync change sets. Each change gets a sequence number,
+ * sent as the SSE id "<boot epoch>-<sequence>"
+ *
+ * Subscribers do not get a copy of each event: one sink only signals that the buffer has moved on,
+ * and each subscriber reads from its own cursor when it is ready to write. A slow connection
+ * therefore holds at most one pending wake-up instead of a queue, and the buffer is shared by all
+ * - a reconnect with Last-Event-ID replays the events it missed
+ * - if those events have left the buffer, or the id is from an earlier process, a reset event
+ *   tells the client to reload the live matches instead
+ * - a shared heartbeat sends a comment to idle connections, so proxies keep them open
+ * - connections are closed after max-duration; the client reconnects and resumes from its last id
+ */
+@Component
+@Slf4j
+public class LiveScoreBroadcaster {
+
+    static final String SCORE_EVENT = "live-score";
+    static final String RESET_EVENT = "reset";
+
+    private static final long HEARTBEAT = -1L;
+
+    private final MatchRepository matchRepository;
+    private final MatchMapper matchMapper;
+    private final Duration maxDuration;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final LiveScoreEvent[] buffer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long lastSequence;
+
+    private final Sinks.Many<Long> wakeUps = Sinks.many().multicast().directBestEffort();
+    private final Flux<Long> heartbeats;
+    private final Scheduler writers;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public LiveScoreBroadcaster(MatchRepository matchRepository,
+                                MatchMapper matchMapper,
+                                @Value("${live-stream.buffer-size:1024}") int bufferSize,
+                                @Value("${live-stream.heartbeat:15s}") Duration heartbeat,
+                                @Value("${live-stream.max-duration:30m}") Duration maxDuration,
+                                @Value("${live-stream.writer-threads:8}") int writerThreads) {
+        this.matchRepository = matchRepository;
+        this.matchMapper = matchMapper;
+        this.maxDuration = maxDuration;
+        this.buffer = new LiveScoreEvent[bufferSize];
+        this.heartbeats = Flux.interval(heartbeat).map(tick -> HEARTBEAT).share();
+        this.writers = Schedulers.newBoundedElastic(writerThreads, Integer.MAX_VALUE, "live-stream");
+    }
+
+    /**
+     * Score or status changed through MatchService
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLiveScore(LiveScoreEvent event) {
+        publish(List.of(event));
+    }
+
+    /**
+     * Matches changed by a sync, including the live-score fallback
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSyncChanges(SyncChangeSet changes) {
+        if (changes.entity() != SyncChangeSet.Entity.MATCHES || !changes.hasChanges()) {
+            return;
+        }
+        publish(matchRepository.findAllById(changes.changedIds()).stream()
+                .map(matchMapper::toLiveScoreEvent)
+                .toList());
+    }
+
+    /**
+     * Append events to the buffer and wake subscribers
+     */
+    void publish(List<LiveScoreEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long sequence;
+        lock.writeLock().lock();
+        try {
+            for (LiveScoreEvent event : events) {
+                lastSequence++;
+                buffer[index(lastSequence)] = event;
+            }
+            sequence = lastSequence;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        wakeUps.emitNext(sequence, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+        log.debug("Broadcast {} live score event(s) up to {} to {} connection(s)", events.size(), sequence, connections.get());
+    }
+
+    /**
+     * Event stream for one connection, resuming after lastEventId when it is still buffered
+     */
+    public Flux<ServerSentEvent<LiveScoreEvent>> subscribe(String lastEventId) {
+        return Flux.defer(() -> {
+            Cursor cursor = resume(lastEventId);
+            // Wake-ups are subscribed before the first drain, so nothing appended in between is missed
+            return Flux.merge(wakeUps.asFlux(), Flux.just(HEARTBEAT), heartbeats)
+                    .onBackpressureLatest()
+                    .publishOn(writers, 1)
+                    .concatMapIterable(tick -> drain(cursor, tick == HEARTBEAT))
+                    .take(maxDuration)
+                    .doOnSubscribe(subscription -> connections.incrementAndGet())
+                    .doFinally(signal -> connections.decrementAndGet());
+        });
+    }
+
+    /**
+     * Open stream connections on this instance
+     */
+    public int getConnections() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        wakeUps.tryEmitComplete();
+        writers.dispose();
+    }
+
+    private Cursor resume(String lastEventId) {
+        lock.readLock().lock();
+        try {
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return new Cursor(lastSequence, false);
+            }
+            int separator = lastEventId.lastIndexOf('-');
+            if (separator > 0 && lastEventId.substring(0, separator).equals(epoch)) {
+                try {
+                    long sequence = Long.parseLong(lastEventId.substring(separator + 1));
+                    if (sequence <= lastSequence && sequence >= oldestSequence() - 1) {
+                        return new Cursor(sequence, false);
+                    }
+                } catch (NumberFormatException e) {
+                    // Not one of our ids, handled as a reset below
+                }
+            }
+            return new Cursor(lastSequence, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Events after the cursor, a reset if the cursor fell out of the buffer, or a heartbeat comment
+     * when there is nothing to send on a heartbeat tick
+     */
+    private List<ServerSentEvent<LiveScoreEvent>> drain(Cursor cursor, boolean heartbeat) {
+        List<ServerSentEvent<LiveScoreEvent>> out = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (cursor.position < oldestSequence() - 1) {
+                cursor.position = lastSequence;
+                cursor.reset = true;
+            }
+            if (cursor.reset) {
+                out.add(ServerSentEvent.<LiveScoreEvent>builder().event(RESET_EVENT).id(id(cursor.position)).build());
+                cursor.reset = false;
+            }
+            for (long sequence = cursor.position + 1; sequence <= lastSequence; sequence++) {
+                out.add(ServerSentEvent.<LiveScoreEvent>builder(buffer[index(sequence)])
+                        .event(SCORE_EVENT)
+                        .id(id(sequence))
+                        .build());
+            }
+            cursor.position = lastSequence;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (out.isEmpty() && heartbeat) {
+            out.add(ServerSentEvent.<LiveScoreEvent>builder().comment("heartbeat").build());
+        }
+        return out;
+    }
+
+    private long oldestSequence() {
+        return Math.max(1, lastSequence - buffer.length + 1);
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % buffer.length);
+    }
+
+    private String id(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * Last sequence sent on one connection; only touched by that connection's writer
+     */
+    private static final class Cursor {
+        private long position;
+        private boolean reset;
+
+        private Cursor(long position, boolean reset) {
+            this.position = position;
+            this.reset = reset;
+        }
+    }
+}
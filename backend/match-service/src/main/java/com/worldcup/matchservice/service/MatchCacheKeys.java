@@ -0,0 +1,194 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.config.SerializedResponseCache;
+import com.worldcup.matchservice.dto.MatchDTO;
+import com.worldcup.matchservice.dto.MatchDetailDTO;
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Keyed eviction of the match caches for writes that name the matches they changed
+ *
+ * Detail, live and date keys follow from the match itself. Pages do not, so every cached page is
+ * recorded here with the ids it holds, a reverse index from match id to page keys
+ * For each changed match, the catalogue before and after the rebuild gives its old and new date and status:
+ * - detail_{id} is always evicted
+ * - live only when the match was or is live, the upcoming list only when it was or is scheduled
+ * - matchesByDate for the old and new date
+ * - the pages holding the match, or every tracked page when a match was added, removed or moved in
+ *   kickoff order, since page boundaries and totals shift then
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchCacheKeys {
+
+    // Page keys are client-chosen; past this many the index is dropped and the next eviction clears the cache
+    static final int MAX_TRACKED_PAGES = 1_000;
+
+    private final MatchCatalogue matchCatalogue;
+    private final CacheManager cacheManager;
+    private final SerializedResponseCache serializedResponseCache;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, List<Long>> matchIdsByPage = new HashMap<>();
+    private final Map<Long, Set<String>> pagesByMatchId = new HashMap<>();
+    private boolean overflowed;
+
+    /**
+     * Cache key of one page of getAllMatches, as built by its @Cacheable key expression
+     */
+    public static String pageKey(int page, int size) {
+        return "page_" + page + "_size_" + size;
+    }
+
+    /**
+     * Record the matches on a page that is about to be cached
+     * Empty pages are recorded too: an added match can land on them
+     */
+    public void trackPage(String pageKey, List<MatchDTO> matches) {
+        lock.lock();
+        try {
+            if (!matchIdsByPage.containsKey(pageKey) && matchIdsByPage.size() >= MAX_TRACKED_PAGES) {
+                // Not evicted here: this runs inside the page's cache load, which must not modify the cache
+                log.debug("More than {} match pages cached, clearing the matches cache on the next change",
+                        MAX_TRACKED_PAGES);
+                forgetPages();
+                overflowed = true;
+            }
+            untrack(pageKey);
+            List<Long> ids = matches.stream().map(MatchDTO::getId).toList();
+            matchIdsByPage.put(pageKey, ids);
+            ids.forEach(id -> pagesByMatchId.computeIfAbsent(id, k -> new HashSet<>()).add(pageKey));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuild the match catalogue and evict only the cache keys holding the given matches
+     * The keys are evicted after the rebuild, so they cannot be refilled from the previous version
+     */
+    public void evict(Collection<Long> matchIds) {
+        Map<Long, MatchDetailDTO> before = details(matchIds);
+        matchCatalogue.refresh();
+        Map<Long, MatchDetailDTO> after = details(matchIds);
+
+        Cache matches = cache("matches");
+        Cache matchesByDate = cache("matchesByDate");
+        Set<LocalDate> dates = new HashSet<>();
+        boolean reordered = false;
+        boolean live = false;
+        boolean upcoming = false;
+        for (Long id : matchIds) {
+            MatchDetailDTO previous = before.get(id);
+            MatchDetailDTO current = after.get(id);
+            matches.evict("detail_" + id);
+            reordered |= previous == null || current == null
+                    || !Objects.equals(previous.getMatchDate(), current.getMatchDate())
+                    || !Objects.equals(previous.getMatchTime(), current.getMatchTime());
+            for (MatchDetailDTO match : Stream.of(previous, current).filter(Objects::nonNull).toList()) {
+                dates.add(match.getMatchDate());
+                live |= MatchStatus.LIVE.name().equals(match.getStatus());
+                upcoming |= MatchStatus.SCHEDULED.name().equals(match.getStatus());
+            }
+        }
+
+        if (live) {
+            matches.evict("live");
+        }
+        if (upcoming) {
+            serializedResponseCache.evict("upcomingMatches", "all");
+        }
+        dates.stream().filter(Objects::nonNull).forEach(matchesByDate::evict);
+        int pages = evictPages(matches, matchIds, reordered);
+        log.debug("Evicted cache keys for matches {}: {} page(s), {} date(s), live={}, upcoming={}",
+                matchIds, pages, dates.size(), live, upcoming);
+    }
+
+    /**
+     * Drop the reverse index; called when the match caches are cleared outright
+     */
+    public void forget() {
+        lock.lock();
+        try {
+            forgetPages();
+            overflowed = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int evictPages(Cache matches, Collection<Long> matchIds, boolean all) {
+        lock.lock();
+        try {
+            if (overflowed) {
+                matches.clear();
+                forgetPages();
+                overflowed = false;
+                log.debug("Match page index overflowed, cleared the matches cache");
+                return 0;
+            }
+            Set<String> keys = new HashSet<>();
+            if (all) {
+                keys.addAll(matchIdsByPage.keySet());
+            } else {
+                matchIds.forEach(id -> keys.addAll(pagesByMatchId.getOrDefault(id, Set.of())));
+            }
+            keys.forEach(key -> {
+                untrack(key);
+                matches.evict(key);
+            });
+            return keys.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void untrack(String pageKey) {
+        List<Long> ids = matchIdsByPage.remove(pageKey);
+        if (ids != null) {
+            ids.forEach(id -> {
+                Set<String> pages = pagesByMatchId.get(id);
+                pages.remove(pageKey);
+                if (pages.isEmpty()) {
+                    pagesByMatchId.remove(id);
+                }
+            });
+        }
+    }
+
+    private void forgetPages() {
+        matchIdsByPage.clear();
+        pagesByMatchId.clear();
+    }
+
+    private Map<Long, MatchDetailDTO> details(Collection<Long> matchIds) {
+        Map<Long, MatchDetailDTO> details = new HashMap<>();
+        matchIds.forEach(id -> matchCatalogue.detail(id).ifPresent(detail -> details.put(id, detail)));
+        return details;
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Unknown cache: " + name);
+        }
+        return cache;
+    }
+}
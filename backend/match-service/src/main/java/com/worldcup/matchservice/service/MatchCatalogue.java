@@ -0,0 +1,420 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.dto.MatchDTO;
+import com.worldcup.matchservice.dto.MatchDetailDTO;
+import com.worldcup.matchservice.entity.Match;
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+import com.worldcup.matchservice.mapper.MatchMapper;
+import com.worldcup.matchservice.repository.MatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Immutable in-memory copy of every match, indexed for the read endpoints
+ *
+ * The tournament has a small fixed set of fixtures, so the whole table is loaded and mapped to DTOs
+ * once per version, and reads never touch Postgres. Each version holds:
+ * - all matches in kickoff order with a parallel date array, binary-searched for date and range queries
+ * - match details by id
+ * - lists by team (home or away), stadium, round, group and status, each in kickoff order, with
+ *   bitsets of kickoff positions for multi-criteria search
+ *
+ * Versions are rebuilt copy-on-write: a new snapshot is built next to the current one and swapped in,
+ * so readers always see one consistent version. A rebuild follows every committed write and sync
+ * (see CacheEvictionListener); writes from other instances and the date change behind isUpcoming are
+ * picked up by a cheap check every check-interval. The check compares each match's updated_at, so a
+ * remote score update is reported as a change to that match alone and evicts only its cache keys
+ */
+@Component
+@Slf4j
+public class MatchCatalogue {
+
+    private static final BitSet NO_POSITIONS = new BitSet();
+
+    private static final Comparator<Match> KICKOFF_ORDER = Comparator.comparing(Match::getMatchDate)
+            .thenComparing(Match::getMatchTime, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Match::getId);
+
+    // One row per match: missing, new or re-stamped ids are the matches changed by another writer
+    private static final String MATCH_VERSIONS = "SELECT id, updated_at FROM match_service_schema.matches";
+
+    // Teams are embedded in every match, so any team change affects them all; the row count catches deletes
+    private static final String TEAMS_FINGERPRINT =
+            "SELECT count(*) || ':' || coalesce(max(updated_at)::text, '') FROM match_service_schema.teams";
+
+    private final MatchRepository matchRepository;
+    private final MatchMapper matchMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+    private long lastVersion;
+
+    public MatchCatalogue(MatchRepository matchRepository,
+                          MatchMapper matchMapper,
+                          JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          ApplicationEventPublisher eventPublisher) {
+        this.matchRepository = matchRepository;
+        this.matchMapper = matchMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        // Read-write, so the rebuild reads the primary and never a lagging replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Match catalogue not loaded at startup, loading on first read: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Build a new version from the database and swap it in
+     */
+    public void refresh() {
+        rebuildLock.lock();
+        try {
+            snapshot = transactionTemplate.execute(status -> build(lastVersion + 1));
+            lastVersion = snapshot.version();
+            log.debug("Match catalogue version {} built with {} matches", snapshot.version(), snapshot.byKickoff().size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Publish a change when the tables moved on without this instance, or the day changed
+     */
+    @Scheduled(fixedDelayString = "${match-catalogue.check-interval:PT5S}")
+    public void checkForChanges() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        if (!current.builtOn().equals(LocalDate.now())
+                || !current.teamsFingerprint().equals(jdbcTemplate.queryForObject(TEAMS_FINGERPRINT, String.class))) {
+            log.debug("Match data changed outside this instance since catalogue version {}", current.version());
+            eventPublisher.publishEvent(MatchDataChanged.all());
+            return;
+        }
+        List<Long> changed = changedIds(current.matchVersions(), matchVersions());
+        if (!changed.isEmpty()) {
+            log.debug("Matches {} changed outside this instance since catalogue version {}", changed, current.version());
+            eventPublisher.publishEvent(new MatchDataChanged(changed));
+        }
+    }
+
+    public long version() {
+        return current().version();
+    }
+
+    public Page<MatchDTO> page(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<MatchDTO> all = current().byKickoff();
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + size, all.size());
+        return new PageImpl<>(all.subList(from, to), pageable, all.size());
+    }
+
+    public Optional<MatchDetailDTO> detail(Long id) {
+        return Optional.ofNullable(current().details().get(id));
+    }
+
+    /**
+     * Scheduled matches from the given date on
+     */
+    public List<MatchDTO> upcoming(LocalDate from) {
+        Snapshot current = current();
+        return current.byKickoff().subList(current.firstOnOrAfter(from), current.byKickoff().size()).stream()
+                .filter(match -> MatchStatus.SCHEDULED.name().equals(match.getStatus()))
+                .toList();
+    }
+
+    /**
+     * Matches between the two dates, both inclusive
+     */
+    public List<MatchDTO> between(LocalDate startDate, LocalDate endDate) {
+        Snapshot current = current();
+        int from = current.firstOnOrAfter(startDate);
+        int to = Math.max(from, current.firstOnOrAfter(endDate.plusDays(1)));
+        return List.copyOf(current.byKickoff().subList(from, to));
+    }
+
+    public List<MatchDTO> byTeam(Long teamId) {
+        return current().byTeam().get(teamId);
+    }
+
+    public List<MatchDTO> byStadium(Long stadiumId) {
+        return current().byStadium().get(stadiumId);
+    }
+
+    public List<MatchDTO> byRound(String round) {
+        return current().byRound().get(round);
+    }
+
+    public List<MatchDTO> byGroup(String groupName) {
+        return current().byGroup().get(groupName);
+    }
+
+    /**
+     * Distinct group names, sorted
+     */
+    public List<String> groupNames() {
+        return current().byGroup().matches().keySet().stream().sorted().toList();
+    }
+
+    public List<MatchDTO> byStatus(MatchStatus status) {
+        return current().byStatus().get(status);
+    }
+
+    /**
+     * Live matches, latest kickoff first
+     */
+    public List<MatchDTO> live() {
+        return List.copyOf(byStatus(MatchStatus.LIVE).reversed());
+    }
+
+    /**
+     * Matches meeting every given criterion, one page in kickoff order (descending if the sort asks for it)
+     *
+     * Each criterion is an index lookup giving a bitset of kickoff positions; the date range is the
+     * interval found by binary search. The plan starts from the most selective bitset and intersects
+     * the others into it, most selective first, stopping once nothing is left
+     */
+    public Page<MatchDTO> search(MatchSearchCriteria criteria, Pageable pageable) {
+        Snapshot current = current();
+        int size = current.byKickoff().size();
+
+        List<Step> plan = new ArrayList<>();
+        if (criteria.teamId() != null) {
+            plan.add(new Step("team", current.byTeam().positions(criteria.teamId())));
+        }
+        if (criteria.stadiumId() != null) {
+            plan.add(new Step("stadium", current.byStadium().positions(criteria.stadiumId())));
+        }
+        if (criteria.round() != null) {
+            plan.add(new Step("round", current.byRound().positions(criteria.round())));
+        }
+        if (criteria.groupName() != null) {
+            plan.add(new Step("group", current.byGroup().positions(criteria.groupName())));
+        }
+        if (criteria.status() != null) {
+            plan.add(new Step("status", current.byStatus().positions(criteria.status())));
+        }
+        if (criteria.startDate() != null || criteria.endDate() != null) {
+            int from = criteria.startDate() != null ? current.firstOnOrAfter(criteria.startDate()) : 0;
+            int to = criteria.endDate() != null ? current.firstOnOrAfter(criteria.endDate().plusDays(1)) : size;
+            BitSet range = new BitSet(size);
+            if (to > from) {
+                range.set(from, to);
+            }
+            plan.add(new Step("date", range));
+        }
+        plan.sort(Comparator.comparingInt(step -> step.positions().cardinality()));
+
+        BitSet hits = new BitSet(size);
+        if (plan.isEmpty()) {
+            hits.set(0, size);
+        } else {
+            hits.or(plan.get(0).positions());
+            for (int i = 1; i < plan.size() && !hits.isEmpty(); i++) {
+                hits.and(plan.get(i).positions());
+            }
+        }
+        log.debug("Match search {} planned as {}: {} hit(s)", criteria, plan, hits.cardinality());
+
+        Sort.Order order = pageable.getSort().getOrderFor("matchDate");
+        boolean descending = order != null && order.isDescending();
+        List<MatchDTO> content = new ArrayList<>(pageable.getPageSize());
+        long skip = pageable.getOffset();
+        for (int position = descending ? hits.previousSetBit(size - 1) : hits.nextSetBit(0);
+             position >= 0 && content.size() < pageable.getPageSize();
+             position = descending ? hits.previousSetBit(position - 1) : hits.nextSetBit(position + 1)) {
+            if (skip > 0) {
+                skip--;
+            } else {
+                content.add(current.byKickoff().get(position));
+            }
+        }
+        return new PageImpl<>(content, pageable, hits.cardinality());
+    }
+
+    public long count() {
+        return current().byKickoff().size();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private Map<Long, LocalDateTime> matchVersions() {
+        Map<Long, LocalDateTime> versions = new HashMap<>();
+        jdbcTemplate.query(MATCH_VERSIONS, rs -> {
+            versions.put(rs.getLong("id"), rs.getObject("updated_at", LocalDateTime.class));
+        });
+        return versions;
+    }
+
+    private static List<Long> changedIds(Map<Long, LocalDateTime> before, Map<Long, LocalDateTime> after) {
+        Set<Long> changed = new TreeSet<>();
+        after.forEach((id, updatedAt) -> {
+            if (!before.containsKey(id) || !Objects.equals(before.get(id), updatedAt)) {
+                changed.add(id);
+            }
+        });
+        before.keySet().stream().filter(id -> !after.containsKey(id)).forEach(changed::add);
+        return List.copyOf(changed);
+    }
+
+    private Snapshot build(long version) {
+        // Versions first: a write landing during the load shows up as a change on the next check
+        String teamsFingerprint = jdbcTemplate.queryForObject(TEAMS_FINGERPRINT, String.class);
+        Map<Long, LocalDateTime> matchVersions = Collections.unmodifiableMap(matchVersions());
+        List<Match> matches = new ArrayList<>(matchRepository.findAllWithTeams());
+        matches.sort(KICKOFF_ORDER);
+
+        List<MatchDTO> byKickoff = new ArrayList<>(matches.size());
+        LocalDate[] dates = new LocalDate[matches.size()];
+        Map<Long, MatchDetailDTO> details = new HashMap<>();
+        IndexBuilder<Long> byTeam = new IndexBuilder<>();
+        IndexBuilder<Long> byStadium = new IndexBuilder<>();
+        IndexBuilder<String> byRound = new IndexBuilder<>();
+        IndexBuilder<String> byGroup = new IndexBuilder<>();
+        IndexBuilder<MatchStatus> byStatus = new IndexBuilder<>();
+        for (Match match : matches) {
+            int position = byKickoff.size();
+            MatchDTO dto = matchMapper.toMatchDTO(match);
+            dates[position] = match.getMatchDate();
+            byKickoff.add(dto);
+            details.put(match.getId(), matchMapper.toMatchDetailDTO(match));
+            if (match.getHomeTeam() != null) {
+                byTeam.add(match.getHomeTeam().getId(), position, dto);
+            }
+            if (match.getAwayTeam() != null) {
+                byTeam.add(match.getAwayTeam().getId(), position, dto);
+            }
+            byStadium.add(match.getStadiumId(), position, dto);
+            byRound.add(match.getRound(), position, dto);
+            byGroup.add(match.getGroupName(), position, dto);
+            byStatus.add(match.getStatus(), position, dto);
+        }
+        return new Snapshot(version, LocalDate.now(), teamsFingerprint, matchVersions, List.copyOf(byKickoff), dates,
+                Map.copyOf(details), byTeam.build(), byStadium.build(), byRound.build(), byGroup.build(), byStatus.build());
+    }
+
+    /**
+     * One catalogue version; never modified after it is built
+     */
+    private record Snapshot(long version,
+                            LocalDate builtOn,
+                            String teamsFingerprint,
+                            Map<Long, LocalDateTime> matchVersions,
+                            List<MatchDTO> byKickoff,
+                            LocalDate[] dates,
+                            Map<Long, MatchDetailDTO> details,
+                            Index<Long> byTeam,
+                            Index<Long> byStadium,
+                            Index<String> byRound,
+                            Index<String> byGroup,
+                            Index<MatchStatus> byStatus) {
+
+        /**
+         * Index of the first match on or after the date (binary search on the kickoff-ordered dates)
+         */
+        int firstOnOrAfter(LocalDate date) {
+            int low = 0;
+            int high = dates.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dates[mid].isBefore(date)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Matches by one attribute: kickoff-ordered lists for lookups and position bitsets for search
+     * The bitsets are shared by all readers and must not be modified
+     */
+    private record Index<K>(Map<K, List<MatchDTO>> matches, Map<K, BitSet> bits) {
+
+        List<MatchDTO> get(K key) {
+            return matches.getOrDefault(key, List.of());
+        }
+
+        BitSet positions(K key) {
+            return bits.getOrDefault(key, NO_POSITIONS);
+        }
+    }
+
+    private static final class IndexBuilder<K> {
+        private final Map<K, List<MatchDTO>> matches = new HashMap<>();
+        private final Map<K, BitSet> bits = new HashMap<>();
+
+        void add(K key, int position, MatchDTO dto) {
+            if (key != null) {
+                matches.computeIfAbsent(key, k -> new ArrayList<>()).add(dto);
+                bits.computeIfAbsent(key, k -> new BitSet()).set(position);
+            }
+        }
+
+        Index<K> build() {
+            Map<K, List<MatchDTO>> frozen = new HashMap<>();
+            matches.forEach((key, list) -> frozen.put(key, List.copyOf(list)));
+            return new Index<>(Map.copyOf(frozen), Map.copyOf(bits));
+        }
+    }
+
+    /**
+     * One planned index lookup, shown in the debug log as name(matches)
+     */
+    private record Step(String index, BitSet positions) {
+
+        @Override
+        public String toString() {
+            return index + "(" + positions.cardinality() + ")";
+        }
+    }
+}
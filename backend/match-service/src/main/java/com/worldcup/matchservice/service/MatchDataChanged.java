@@ -0,0 +1,29 @@
+package com.worldcup.matchservice.service;
+
+import java.util.List;
+
+/**
+ * Matches written outside a sync: through MatchService, through TeamService, or by another instance
+ *
+ * Published as an application event; listeners act once the transaction commits, so the match
+ * catalogue is never rebuilt from uncommitted rows
+ * A null id list means any match may be affected, as with a team edit (teams are embedded in every match)
+ */
+public record MatchDataChanged(List<Long> matchIds) {
+
+    public MatchDataChanged {
+        matchIds = matchIds != null ? List.copyOf(matchIds) : null;
+    }
+
+    public static MatchDataChanged of(Long matchId) {
+        return new MatchDataChanged(List.of(matchId));
+    }
+
+    public static MatchDataChanged all() {
+        return new MatchDataChanged(null);
+    }
+
+    public boolean affectsAll() {
+        return matchIds == null;
+    }
+}
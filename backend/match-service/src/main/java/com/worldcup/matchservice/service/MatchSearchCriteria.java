@@ -0,0 +1,19 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Filters for a match search; null fields are not filtered on
+ * The date range is inclusive at both ends and may be open at either
+ */
+public record MatchSearchCriteria(
+        Long teamId,
+        Long stadiumId,
+        String round,
+        String groupName,
+        MatchStatus status,
+        LocalDate startDate,
+        LocalDate endDate) {
+}
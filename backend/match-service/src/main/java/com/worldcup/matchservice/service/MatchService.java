@@ -1,7 +1,9 @@
 package com.worldcup.matchservice.service;
 
+import com.worldcup.matchservice.dto.LiveScoreEvent;
 import com.worldcup.matchservice.dto.MatchDTO;
 import com.worldcup.matchservice.dto.MatchDetailDTO;
+import com.worldcup.matchservice.dto.MatchUpdateDTO;
 import com.worldcup.matchservice.entity.Match;
 import com.worldcup.matchservice.entity.Match.MatchStatus;
 import com.worldcup.matchservice.exception.ResourceNotFoundException;
@@ -11,69 +13,92 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service layer for Match operations
  * Handles business logic, caching, and data validation
+ * Reads are served from the in-memory MatchCatalogue, so they open no transaction
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class MatchService {
 
+    static final int MAX_BATCH_SIZE = 500;
+
+    // One statement for the whole batch; a null score or status leaves the column as it is, and scores
+    // on a scheduled match start it, as in updateMatchScore. The content hash is cleared as for any manual edit
+    private static final String UPDATE_MATCHES =
+            "UPDATE match_service_schema.matches m SET home_score = COALESCE(u.home_score, m.home_score), "
+            + "away_score = COALESCE(u.away_score, m.away_score), "
+            + "status = COALESCE(u.status, CASE WHEN m.status = 'SCHEDULED' AND u.home_score + u.away_score > 0 "
+            + "THEN 'LIVE' ELSE m.status END), "
+            + "content_hash = NULL, updated_at = CURRENT_TIMESTAMP "
+            + "FROM unnest(?::bigint[], ?::integer[], ?::integer[], ?::varchar[]) "
+            + "AS u(id, home_score, away_score, status) "
+            + "WHERE m.id = u.id "
+            + "RETURNING m.id, m.status, m.home_score, m.away_score";
+
     private final MatchRepository matchRepository;
+    private final MatchCatalogue matchCatalogue;
+    private final MatchCacheKeys matchCacheKeys;
     private final MatchMapper matchMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * Get all matches with pagination
      */
-    @Cacheable(value = "matches", key = "'page_' + #page + '_size_' + #size")
+    @Cacheable(value = "matches",
+            key = "T(com.worldcup.matchservice.service.MatchCacheKeys).pageKey(#page, #size)", sync = true)
     public Page<MatchDTO> getAllMatches(int page, int size) {
         log.debug("Fetching matches - page: {}, size: {}", page, size);
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Match> matchPage = matchRepository.findAllByOrderByMatchDateAsc(pageable);
-        return matchPage.map(matchMapper::toMatchDTO);
+        Page<MatchDTO> matches = matchCatalogue.page(page, size);
+        matchCacheKeys.trackPage(MatchCacheKeys.pageKey(page, size), matches.getContent());
+        return matches;
     }
 
     /**
      * Get match by ID with full details
      */
-    @Cacheable(value = "matches", key = "'detail_' + #id")
+    @Cacheable(value = "matches", key = "'detail_' + #id", sync = true)
     public MatchDetailDTO getMatchById(Long id) {
         log.debug("Fetching match by ID: {}", id);
-        Match match = matchRepository.findById(id)
+        return matchCatalogue.detail(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Match not found with ID: " + id));
-        return matchMapper.toMatchDetailDTO(match);
     }
 
     /**
      * Get upcoming matches (scheduled, future dates)
      */
-    @Cacheable(value = "upcomingMatches", key = "'all'")
+    @Cacheable(value = "upcomingMatches", key = "'all'", sync = true)
     public List<MatchDTO> getUpcomingMatches() {
         log.debug("Fetching upcoming matches");
-        LocalDate today = LocalDate.now();
-        List<Match> matches = matchRepository.findUpcomingMatches(today);
-        return matchMapper.toMatchDTOList(matches);
+        return matchCatalogue.upcoming(LocalDate.now());
     }
 
     /**
      * Get matches by specific date
      */
-    @Cacheable(value = "matchesByDate", key = "#date")
+    @Cacheable(value = "matchesByDate", key = "#date", sync = true)
     public List<MatchDTO> getMatchesByDate(LocalDate date) {
         log.debug("Fetching matches by date: {}", date);
-        List<Match> matches = matchRepository.findByMatchDateOrderByMatchTimeAsc(date);
-        return matchMapper.toMatchDTOList(matches);
+        return matchCatalogue.between(date, date);
     }
 
     /**
@@ -81,8 +106,7 @@ public class MatchService {
      */
     public List<MatchDTO> getMatchesByDateRange(LocalDate startDate, LocalDate endDate) {
         log.debug("Fetching matches from {} to {}", startDate, endDate);
-        List<Match> matches = matchRepository.findByDateRange(startDate, endDate);
-        return matchMapper.toMatchDTOList(matches);
+        return matchCatalogue.between(startDate, endDate);
     }
 
     /**
@@ -90,8 +114,7 @@ public class MatchService {
      */
     public List<MatchDTO> getMatchesByTeam(Long teamId) {
         log.debug("Fetching matches for team ID: {}", teamId);
-        List<Match> matches = matchRepository.findByTeamId(teamId);
-        return matchMapper.toMatchDTOList(matches);
+        return matchCatalogue.byTeam(teamId);
     }
 
     /**
@@ -99,8 +122,7 @@ public class MatchService {
      */
     public List<MatchDTO> getMatchesByStadium(Long stadiumId) {
         log.debug("Fetching matches for stadium ID: {}", stadiumId);
-        List<Match> matches = matchRepository.findByStadiumIdOrderByMatchDateAsc(stadiumId);
-        return matchMapper.toMatchDTOList(matches);
+        return matchCatalogue.byStadium(stadiumId);
     }
 
     /**
@@ -108,8 +130,7 @@ public class MatchService {
      */
     public List<MatchDTO> getMatchesByRound(String round) {
         log.debug("Fetching matches for round: {}", round);
-        List<Match> matches = matchRepository.findByRoundOrderByMatchDateAsc(round);
-        return matchMapper.toMatchDTOList(matches);
+        return matchCatalogue.byRound(round);
     }
 
     /**
@@ -117,18 +138,16 @@ public class MatchService {
      */
     public List<MatchDTO> getMatchesByGroup(String groupName) {
         log.debug("Fetching matches for group: {}", groupName);
-        List<Match> matches = matchRepository.findByGroupNameOrderByMatchDateAsc(groupName);
-        return matchMapper.toMatchDTOList(matches);
+        return matchCatalogue.byGroup(groupName);
     }
 
     /**
      * Get live matches
      */
-    @Cacheable(value = "matches", key = "'live'")
+    @Cacheable(value = "matches", key = "'live'", sync = true)
     public List<MatchDTO> getLiveMatches() {
         log.debug("Fetching live matches");
-        List<Match> matches = matchRepository.findLiveMatches();
-        return matchMapper.toMatchDTOList(matches);
+        return matchCatalogue.live();
     }
 
     /**
@@ -138,18 +157,39 @@ public class MatchService {
         log.debug("Fetching matches with status: {}", status);
         try {
             MatchStatus matchStatus = MatchStatus.valueOf(status.toUpperCase());
-            List<Match> matches = matchRepository.findByStatusOrderByMatchDateAsc(matchStatus);
-            return matchMapper.toMatchDTOList(matches);
+            return matchCatalogue.byStatus(matchStatus);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid match status: " + status);
         }
     }
 
+    /**
+     * Search matches by any combination of team, stadium, round, group, status and date range
+     * Sort is matchDate with an optional direction, e.g. "matchDate,desc"
+     */
+    public Page<MatchDTO> searchMatches(Long teamId, Long stadiumId, String round, String groupName, String status,
+                                        LocalDate startDate, LocalDate endDate, int page, int size, String sort) {
+        MatchStatus matchStatus = null;
+        if (status != null) {
+            try {
+                matchStatus = MatchStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid match status: " + status);
+            }
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        MatchSearchCriteria criteria = new MatchSearchCriteria(teamId, stadiumId, round, groupName, matchStatus,
+                startDate, endDate);
+        log.debug("Searching matches: {}", criteria);
+        return matchCatalogue.search(criteria, PageRequest.of(page, size, parseSort(sort)));
+    }
+
     /**
      * Create new match
      */
     @Transactional
-    @CacheEvict(value = {"matches", "upcomingMatches", "matchesByDate"}, allEntries = true)
     public MatchDTO createMatch(MatchDTO matchDTO) {
         log.info("Creating new match: {} vs {}",
                 matchDTO.getHomeTeam().getName(),
@@ -163,6 +203,7 @@ public class MatchService {
         Match match = matchMapper.toMatchEntity(matchDTO);
         Match savedMatch = matchRepository.save(match);
         log.info("Match created successfully with ID: {}", savedMatch.getId());
+        eventPublisher.publishEvent(MatchDataChanged.of(savedMatch.getId()));
 
         return matchMapper.toMatchDTO(savedMatch);
     }
@@ -171,7 +212,6 @@ public class MatchService {
      * Update existing match
      */
     @Transactional
-    @CacheEvict(value = {"matches", "upcomingMatches", "matchesByDate"}, allEntries = true)
     public MatchDTO updateMatch(Long id, MatchDTO matchDTO) {
         log.info("Updating match with ID: {}", id);
 
@@ -181,6 +221,7 @@ public class MatchService {
         matchMapper.updateMatchFromDTO(matchDTO, existingMatch);
         Match updatedMatch = matchRepository.save(existingMatch);
         log.info("Match updated successfully with ID: {}", updatedMatch.getId());
+        eventPublisher.publishEvent(MatchDataChanged.of(id));
 
         return matchMapper.toMatchDTO(updatedMatch);
     }
@@ -189,7 +230,6 @@ public class MatchService {
      * Update match score
      */
     @Transactional
-    @CacheEvict(value = {"matches", "upcomingMatches", "matchesByDate"}, allEntries = true)
     public MatchDTO updateMatchScore(Long id, Integer homeScore, Integer awayScore) {
         log.info("Updating score for match ID: {} - {}:{}", id, homeScore, awayScore);
 
@@ -207,6 +247,8 @@ public class MatchService {
         }
 
         Match updatedMatch = matchRepository.save(match);
+        eventPublisher.publishEvent(MatchDataChanged.of(id));
+        eventPublisher.publishEvent(matchMapper.toLiveScoreEvent(updatedMatch));
         return matchMapper.toMatchDTO(updatedMatch);
     }
 
@@ -214,7 +256,6 @@ public class MatchService {
      * Update match status
      */
     @Transactional
-    @CacheEvict(value = {"matches", "upcomingMatches", "matchesByDate"}, allEntries = true)
     public MatchDTO updateMatchStatus(Long id, String status) {
         log.info("Updating status for match ID: {} to {}", id, status);
 
@@ -225,6 +266,8 @@ public class MatchService {
             MatchStatus matchStatus = MatchStatus.valueOf(status.toUpperCase());
             match.setStatus(matchStatus);
             Match updatedMatch = matchRepository.save(match);
+            eventPublisher.publishEvent(MatchDataChanged.of(id));
+            eventPublisher.publishEvent(matchMapper.toLiveScoreEvent(updatedMatch));
             return matchMapper.toMatchDTO(updatedMatch);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid match status: " + status);
@@ -232,57 +275,100 @@ public class MatchService {
     }
 
     /**
-     * Delete match
+     * Update scores and statuses of many matches in one transaction and one UPDATE statement
+     * The last change per match wins; if any match does not exist, nothing is updated
+     * The caches are invalidated once for the whole batch, and only for the changed matches
      */
     @Transactional
-    @CacheEvict(value = {"matches", "upcomingMatches", "matchesByDate"}, allEntries = true)
-    public void deleteMatch(Long id) {
-        log.info("Deleting match with ID: {}", id);
+    public List<LiveScoreEvent> updateMatches(List<MatchUpdateDTO> updates) {
+        if (updates.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " match updates per batch");
+        }
+        Map<Long, MatchUpdateDTO> unique = new LinkedHashMap<>();
+        for (MatchUpdateDTO update : updates) {
+            if (update.getMatchId() == null) {
+                throw new IllegalArgumentException("Match ID is required");
+            }
+            if ((update.getHomeScore() == null) != (update.getAwayScore() == null)) {
+                throw new IllegalArgumentException("Both scores are required for match ID: " + update.getMatchId());
+            }
+            if (update.getHomeScore() == null && update.getStatus() == null) {
+                throw new IllegalArgumentException("Nothing to update for match ID: " + update.getMatchId());
+            }
+            unique.put(update.getMatchId(), update);
+        }
+        if (unique.isEmpty()) {
+            return List.of();
+        }
+        log.info("Updating {} matches in one batch", unique.size());
+
+        int n = unique.size();
+        Long[] ids = new Long[n];
+        Integer[] homeScores = new Integer[n];
+        Integer[] awayScores = new Integer[n];
+        String[] statuses = new String[n];
+        int i = 0;
+        for (MatchUpdateDTO update : unique.values()) {
+            ids[i] = update.getMatchId();
+            homeScores[i] = update.getHomeScore();
+            awayScores[i] = update.getAwayScore();
+            if (update.getStatus() != null) {
+                try {
+                    statuses[i] = MatchStatus.valueOf(update.getStatus().toUpperCase()).name();
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid match status: " + update.getStatus());
+                }
+            }
+            i++;
+        }
 
-        if (!matchRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Match not found with ID: " + id);
+        Map<Long, LiveScoreEvent> applied = new HashMap<>();
+        jdbcTemplate.query(UPDATE_MATCHES, ps -> {
+            bind(ps, 1, "bigint", ids);
+            bind(ps, 2, "integer", homeScores);
+            bind(ps, 3, "integer", awayScores);
+            bind(ps, 4, "varchar", statuses);
+        }, rs -> {
+            applied.put(rs.getLong("id"), LiveScoreEvent.builder()
+                    .matchId(rs.getLong("id"))
+                    .status(rs.getString("status"))
+                    .homeScore(rs.getObject("home_score", Integer.class))
+                    .awayScore(rs.getObject("away_score", Integer.class))
+                    .build());
+        });
+        if (applied.size() < n) {
+            List<Long> missing = unique.keySet().stream().filter(id -> !applied.containsKey(id)).toList();
+            throw new ResourceNotFoundException("Matches not found with IDs: " + missing);
         }
 
-        matchRepository.deleteById(id);
-        log.info("Match deleted successfully with ID: {}", id);
+        List<Long> matchIds = List.copyOf(unique.keySet());
+        eventPublisher.publishEvent(new MatchDataChanged(matchIds));
+        List<LiveScoreEvent> changes = matchIds.stream().map(applied::get).toList();
+        changes.forEach(eventPublisher::publishEvent);
+        return changes;
     }
 
     /**
-     * Save or update match (used by data sync)
+     * Delete match
      */
     @Transactional
-    public Match saveOrUpdateMatch(Match match) {
-        // Check if match exists by external API ID
-        if (match.getExternalApiId() != null) {
-            return matchRepository.findByExternalApiId(match.getExternalApiId())
-                    .map(existingMatch -> {
-                        // Update existing match
-                        existingMatch.setMatchDate(match.getMatchDate());
-                        existingMatch.setMatchTime(match.getMatchTime());
-                        existingMatch.setStatus(match.getStatus());
-                        existingMatch.setHomeScore(match.getHomeScore());
-                        existingMatch.setAwayScore(match.getAwayScore());
-                        existingMatch.setHomeTeam(match.getHomeTeam());
-                        existingMatch.setAwayTeam(match.getAwayTeam());
-                        existingMatch.setStadiumId(match.getStadiumId());
-                        existingMatch.setRound(match.getRound());
-                        existingMatch.setGroupName(match.getGroupName());
-                        existingMatch.setVenueName(match.getVenueName());
-                        existingMatch.setVenueCity(match.getVenueCity());
-                        existingMatch.setVenueCountry(match.getVenueCountry());
-                        return matchRepository.save(existingMatch);
-                    })
-                    .orElseGet(() -> matchRepository.save(match));
+    public void deleteMatch(Long id) {
+        log.info("Deleting match with ID: {}", id);
+
+        if (!matchRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Match not found with ID: " + id);
         }
 
-        return matchRepository.save(match);
+        matchRepository.deleteById(id);
+        log.info("Match deleted successfully with ID: {}", id);
+        eventPublisher.publishEvent(MatchDataChanged.of(id));
     }
 
     /**
      * Count total matches
      */
     public long countMatches() {
-        return matchRepository.count();
+        return matchCatalogue.count();
     }
 
     /**
@@ -291,17 +377,37 @@ public class MatchService {
     public long countMatchesByStatus(String status) {
         try {
             MatchStatus matchStatus = MatchStatus.valueOf(status.toUpperCase());
-            return matchRepository.countByStatus(matchStatus);
+            return matchCatalogue.byStatus(matchStatus).size();
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid match status: " + status);
         }
     }
 
     /**
-     * Clear match cache
+     * Rebuild the match catalogue and clear the match caches
+     * The caches are cleared after the rebuild, so they cannot be refilled from the previous version
      */
     @CacheEvict(value = {"matches", "upcomingMatches", "matchesByDate"}, allEntries = true)
     public void clearCache() {
+        matchCatalogue.refresh();
+        matchCacheKeys.forget();
         log.info("Match cache cleared");
     }
+
+    private static void bind(PreparedStatement ps, int index, String type, Object[] values) throws SQLException {
+        ps.setArray(index, ps.getConnection().createArrayOf(type, values));
+    }
+
+    private Sort parseSort(String sort) {
+        String[] parts = sort.split(",");
+        if (parts.length > 2 || !parts[0].trim().equals("matchDate")) {
+            throw new IllegalArgumentException("Invalid sort: " + sort + " (only matchDate is supported)");
+        }
+        try {
+            Sort.Direction direction = parts.length == 2 ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+            return Sort.by(direction, "matchDate");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sort direction: " + sort);
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package com.worldcup.matchservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of one bulk sync of teams or matches, by row id
+ *
+ * Published as an application event once the sync transaction commits, so cache eviction and
+ * notifications only react to rows that were actually inserted or changed
+ */
+public record SyncChangeSet(
+        Entity entity,
+        List<Long> insertedIds,
+        List<Long> updatedIds,
+        List<Long> unchangedIds) {
+
+    public SyncChangeSet {
+        insertedIds = List.copyOf(insertedIds);
+        updatedIds = List.copyOf(updatedIds);
+        unchangedIds = List.copyOf(unchangedIds);
+    }
+
+    public static SyncChangeSet empty(Entity entity) {
+        return new SyncChangeSet(entity, List.of(), List.of(), List.of());
+    }
+
+    public int inserted() {
+        return insertedIds.size();
+    }
+
+    public int updated() {
+        return updatedIds.size();
+    }
+
+    public int unchanged() {
+        return unchangedIds.size();
+    }
+
+    public boolean hasChanges() {
+        return !insertedIds.isEmpty() || !updatedIds.isEmpty();
+    }
+
+    /**
+     * Ids of inserted and updated rows
+     */
+    public List<Long> changedIds() {
+        List<Long> changed = new ArrayList<>(insertedIds.size() + updatedIds.size());
+        changed.addAll(insertedIds);
+        changed.addAll(updatedIds);
+        return changed;
+    }
+
+    @Override
+    public String toString() {
+        return entity + ": " + inserted() + " inserted, " + updated() + " updated, " + unchanged() + " unchanged";
+    }
+
+    public enum Entity {
+        TEAMS,
+        MATCHES
+    }
+}
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,11 +27,12 @@ public class TeamService {
 
     private final TeamRepository teamRepository;
     private final MatchMapper matchMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all teams ordered by FIFA ranking
      */
-    @Cacheable(value = "teams", key = "'all'")
+    @Cacheable(value = "teams", key = "'all'", sync = true)
     public List<TeamDTO> getAllTeams() {
         log.debug("Fetching all teams from database");
         List<Team> teams = teamRepository.findAllOrderedByRanking();
@@ -40,7 +42,7 @@ public class TeamService {
     /**
      * Get team by ID
      */
-    @Cacheable(value = "teams", key = "#id")
+    @Cacheable(value = "teams", key = "#id", sync = true)
     public TeamDTO getTeamById(Long id) {
         log.debug("Fetching team by ID: {}", id);
         Team team = teamRepository.findById(id)
@@ -51,7 +53,7 @@ public class TeamService {
     /**
      * Get team by country
      */
-    @Cacheable(value = "teams", key = "'country_' + #country")
+    @Cacheable(value = "teams", key = "'country_' + #country", sync = true)
     public TeamDTO getTeamByCountry(String country) {
         log.debug("Fetching team by country: {}", country);
         Team team = teamRepository.findByCountry(country)
@@ -62,7 +64,7 @@ public class TeamService {
     /**
      * Get team by external API ID
      */
-    @Cacheable(value = "teams", key = "'external_' + #externalApiId")
+    @Cacheable(value = "teams", key = "'external_' + #externalApiId", sync = true)
     public TeamDTO getTeamByExternalApiId(String externalApiId) {
         log.debug("Fetching team by external API ID: {}", externalApiId);
         Team team = teamRepository.findByExternalApiId(externalApiId)
@@ -105,6 +107,8 @@ public class TeamService {
         matchMapper.updateTeamFromDTO(teamDTO, existingTeam);
         Team updatedTeam = teamRepository.save(existingTeam);
         log.info("Team updated successfully with ID: {}", updatedTeam.getId());
+        // Matches embed their teams
+        eventPublisher.publishEvent(MatchDataChanged.all());
 
         return matchMapper.toTeamDTO(updatedTeam);
     }
@@ -123,28 +127,7 @@ public class TeamService {
 
         teamRepository.deleteById(id);
         log.info("Team deleted successfully with ID: {}", id);
-    }
-
-    /**
-     * Save or update team (used by data sync)
-     */
-    @Transactional
-    public Team saveOrUpdateTeam(Team team) {
-        // Check if team exists by external API ID
-        if (team.getExternalApiId() != null) {
-            return teamRepository.findByExternalApiId(team.getExternalApiId())
-                    .map(existingTeam -> {
-                        // Update existing team
-                        existingTeam.setName(team.getName());
-                        existingTeam.setCountry(team.getCountry());
-                        existingTeam.setLogoUrl(team.getLogoUrl());
-                        existingTeam.setFifaRanking(team.getFifaRanking());
-                        return teamRepository.save(existingTeam);
-                    })
-                    .orElseGet(() -> teamRepository.save(team));
-        }
-
-        return teamRepository.save(team);
+        eventPublisher.publishEvent(MatchDataChanged.all());
     }
 
     /**
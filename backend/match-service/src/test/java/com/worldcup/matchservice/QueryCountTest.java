@@ -0,0 +1,144 @@
+package com.worldcup.matchservice;
+
+import com.worldcup.matchservice.controller.GroupController;
+import com.worldcup.matchservice.controller.MatchController;
+import com.worldcup.matchservice.controller.TeamController;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets for the match read endpoints
+ * Runs each endpoint against the seeded schema with caches cleared and fails if it issues more SQL
+ * statements than its budget, which catches N+1 loads of the team associations
+ * Match reads are served from the in-memory MatchCatalogue and must not issue any
+ */
+@SpringBootTest(properties = "data-sync.enabled=false")
+@Testcontainers(disabledWithoutDocker = true)
+class QueryCountTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("worldcup2026_db")
+            .withUsername("worldcup_user")
+            .withPassword("worldcup_password")
+            .withCopyFileToContainer(MountableFile.forHostPath("../../database/init/01-create-schemas.sql"),
+                    "/docker-entrypoint-initdb.d/01-create-schemas.sql");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&currentSchema=match_service_schema");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private MatchController matchController;
+
+    @Autowired
+    private TeamController teamController;
+
+    @Autowired
+    private GroupController groupController;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    void getAllMatches() {
+        assertStatements("GET /api/matches", 0, () -> matchController.getAllMatches(0, 20));
+    }
+
+    @Test
+    void getMatchById() {
+        assertStatements("GET /api/matches/{id}", 0, () -> matchController.getMatchById(2L));
+    }
+
+    @Test
+    void getUpcomingMatches() {
+        assertStatements("GET /api/matches/upcoming", 0,
+                () -> matchController.getUpcomingMatches(new ServletWebRequest(new MockHttpServletRequest())));
+    }
+
+    @Test
+    void getMatchesByDate() {
+        assertStatements("GET /api/matches/by-date/{date}", 0,
+                () -> matchController.getMatchesByDate(LocalDate.of(2026, 6, 12)));
+    }
+
+    @Test
+    void getMatchesByDateRange() {
+        assertStatements("GET /api/matches/by-date-range", 0,
+                () -> matchController.getMatchesByDateRange(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 7, 31)));
+    }
+
+    @Test
+    void getMatchesByTeam() {
+        assertStatements("GET /api/matches/by-team/{teamId}", 0, () -> matchController.getMatchesByTeam(6L));
+    }
+
+    @Test
+    void getMatchesByRound() {
+        assertStatements("GET /api/matches/by-round/{round}", 0, () -> matchController.getMatchesByRound("Group Stage"));
+    }
+
+    @Test
+    void getMatchesByGroup() {
+        assertStatements("GET /api/matches/by-group/{groupName}", 0, () -> matchController.getMatchesByGroup("Group A"));
+    }
+
+    @Test
+    void getMatchesByStatus() {
+        assertStatements("GET /api/matches/by-status/{status}", 0, () -> matchController.getMatchesByStatus("SCHEDULED"));
+    }
+
+    @Test
+    void searchMatches() {
+        assertStatements("GET /api/matches/search", 0, () -> matchController.searchMatches(6L, null, "Group Stage", null,
+                "SCHEDULED", LocalDate.of(2026, 6, 1), LocalDate.of(2026, 7, 31), 0, 20, "matchDate,asc"));
+    }
+
+    @Test
+    void getGroupStandings() {
+        assertStatements("GET /api/groups/{group}/standings", 0, () -> groupController.getGroupStandings("A"));
+        assertStatements("GET /api/groups/standings", 0, () -> groupController.getAllStandings());
+    }
+
+    @Test
+    void getAllTeams() {
+        assertStatements("GET /api/teams", 1, () -> teamController.getAllTeams());
+    }
+
+    private void assertStatements(String endpoint, int budget, Runnable call) {
+        long statements = queryCounter.count(call);
+        assertThat(statements)
+                .as("%s issued %d SQL statements, budget is %d", endpoint, statements, budget)
+                .isLessThanOrEqualTo(budget);
+    }
+}
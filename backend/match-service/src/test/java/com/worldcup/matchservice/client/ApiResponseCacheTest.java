@@ -0,0 +1,89 @@
+package com.worldcup.matchservice.client;
+
+import com.worldcup.matchservice.exception.ApiErrorResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Only bodies with empty errors and a response array are cached; error bodies leave no file behind
+ */
+class ApiResponseCacheTest {
+
+    private static final String REQUEST = "/fixtures?{league=1, season=2026}";
+    private static final String GOOD = """
+            {"get": "fixtures", "errors": [], "results": 1, "response": [{"fixture": {"id": 9001}}]}
+            """;
+
+    @TempDir
+    Path directory;
+
+    private ApiResponseCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new ApiResponseCache(JsonMapper.builder().build(), directory, Duration.ofHours(6), Duration.ofHours(24), Duration.ofSeconds(15));
+    }
+
+    @Test
+    void cachesAGoodBody() throws IOException {
+        try (InputStream stored = cache.store(ApiResponseCache.Endpoint.FIXTURES, REQUEST, body(GOOD))) {
+            assertThat(new String(stored.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(GOOD);
+        }
+
+        assertThat(read(cache.fresh(ApiResponseCache.Endpoint.FIXTURES, REQUEST))).isEqualTo(GOOD);
+    }
+
+    @Test
+    void errorBodyIsNotCachedAndKeepsThePreviousOne() throws IOException {
+        cache.store(ApiResponseCache.Endpoint.FIXTURES, REQUEST, body(GOOD)).close();
+        String rateLimited = """
+                {"get": "fixtures", "errors": {"rateLimit": "Too many requests"}, "results": 0, "response": []}
+                """;
+
+        assertThatThrownBy(() -> cache.store(ApiResponseCache.Endpoint.FIXTURES, REQUEST, body(rateLimited)))
+                .isInstanceOf(ApiErrorResponseException.class)
+                .hasMessageContaining("Too many requests");
+
+        assertThat(read(cache.stale(ApiResponseCache.Endpoint.FIXTURES, REQUEST))).isEqualTo(GOOD);
+        try (var files = Files.list(directory)) {
+            assertThat(files).noneMatch(file -> file.toString().endsWith(".part"));
+        }
+    }
+
+    @Test
+    void bodyWithoutAResponseArrayIsNotCached() {
+        assertThatThrownBy(() -> cache.store(ApiResponseCache.Endpoint.TEAMS, REQUEST,
+                body("{\"errors\": [], \"response\": null}")))
+                .isInstanceOf(ApiErrorResponseException.class)
+                .hasMessageContaining("no response array");
+
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    private static Flux<DataBuffer> body(String json) {
+        return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String read(Optional<InputStream> body) throws IOException {
+        assertThat(body).isPresent();
+        try (InputStream stream = body.get()) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
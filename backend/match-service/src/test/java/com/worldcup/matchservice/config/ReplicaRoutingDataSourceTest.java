@@ -0,0 +1,80 @@
+package com.worldcup.matchservice.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionExecution;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing by replica lag, and the read-your-writes window after a local read-write commit
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(200);
+
+    private final DataSource replica = mock(DataSource.class);
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet lag = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(lag);
+        when(lag.next()).thenReturn(true);
+        when(lag.getDouble(1)).thenReturn(0.5);
+
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), replica, Duration.ofSeconds(5),
+                Duration.ofSeconds(5), WINDOW, new SimpleMeterRegistry());
+        routing.checkLag();
+    }
+
+    @Test
+    void readsGoToTheReplicaWhileItsLagIsLow() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    void readsGoToThePrimaryRightAfterAWriteCommitsAndBackToTheReplicaAfterTheWindow() throws InterruptedException {
+        routing.beforeCommit(transaction(false));
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+        Thread.sleep(WINDOW.toMillis() + 50);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyCommitsKeepReadsOnTheReplica() {
+        routing.beforeCommit(transaction(true));
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToThePrimary() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        routing.checkLag();
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    private static TransactionExecution transaction(boolean readOnly) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(readOnly);
+        return transaction;
+    }
+}
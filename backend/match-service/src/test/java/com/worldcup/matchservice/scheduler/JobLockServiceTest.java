@@ -0,0 +1,149 @@
+package com.worldcup.matchservice.scheduler;
+
+import com.worldcup.matchservice.exception.JobSkippedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Lease semantics of the job lock table, with two services standing in for two instances, and how
+ * the @JobLock interceptor reports a skipped run
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JobLockServiceTest {
+
+    private static final String JOB = "data-sync";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("worldcup2026_db")
+            .withUsername("worldcup_user")
+            .withPassword("worldcup_password")
+            .withCopyFileToContainer(MountableFile.forHostPath("../../database/init/01-create-schemas.sql"),
+                    "/docker-entrypoint-initdb.d/01-create-schemas.sql");
+
+    private JobLockService first;
+    private JobLockService second;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.update("DELETE FROM match_service_schema.job_locks");
+        first = new JobLockService(jdbcTemplate);
+        second = new JobLockService(jdbcTemplate);
+    }
+
+    @Test
+    void heldLockCannotBeTakenByAnotherInstance() {
+        assertThat(first.tryAcquire(JOB, LEASE)).isTrue();
+        assertThat(second.tryAcquire(JOB, LEASE)).isFalse();
+        assertThat(first.tryAcquire(JOB, LEASE)).isFalse();
+    }
+
+    @Test
+    void releasedLockCanBeTakenAgain() {
+        assertThat(first.tryAcquire(JOB, LEASE)).isTrue();
+        first.release(JOB, Duration.ZERO);
+
+        assertThat(second.tryAcquire(JOB, LEASE)).isTrue();
+    }
+
+    @Test
+    void minHoldTimeKeepsLockAfterRelease() {
+        assertThat(first.tryAcquire(JOB, LEASE)).isTrue();
+        first.release(JOB, Duration.ofMinutes(1));
+
+        assertThat(second.tryAcquire(JOB, LEASE)).isFalse();
+    }
+
+    @Test
+    void expiredLeaseCanBeTakenOver() throws InterruptedException {
+        assertThat(first.tryAcquire(JOB, Duration.ofMillis(1))).isTrue();
+        Thread.sleep(50);
+
+        assertThat(second.tryAcquire(JOB, LEASE)).isTrue();
+        // The stale holder's release must not free the new holder's lock
+        first.release(JOB, Duration.ZERO);
+        assertThat(first.tryAcquire(JOB, LEASE)).isFalse();
+    }
+
+    @Test
+    void locksAreIndependentPerJob() {
+        assertThat(first.tryAcquire(JOB, LEASE)).isTrue();
+        assertThat(second.tryAcquire("live-scores", LEASE)).isTrue();
+    }
+
+    @Test
+    void scheduledRunIsSkippedQuietly() {
+        assertThat(second.tryAcquire(JOB, LEASE)).isTrue();
+        Jobs target = new Jobs();
+        Jobs jobs = locked(target, first);
+
+        jobs.scheduledSync();
+
+        assertThat(target.runs.get()).isZero();
+    }
+
+    @Test
+    void requestedRunFailsWhileAnotherInstanceHoldsTheLock() {
+        assertThat(second.tryAcquire(JOB, LEASE)).isTrue();
+        Jobs target = new Jobs();
+        Jobs jobs = locked(target, first);
+
+        assertThatThrownBy(jobs::manualSync).isInstanceOf(JobSkippedException.class).hasMessageContaining(JOB);
+        assertThat(target.runs.get()).isZero();
+    }
+
+    @Test
+    void requestedRunFailsWithinTheMinHoldTime() {
+        Jobs target = new Jobs();
+        Jobs jobs = locked(target, first);
+        jobs.manualSync();
+
+        assertThatThrownBy(jobs::manualSync).isInstanceOf(JobSkippedException.class);
+        assertThat(target.runs.get()).isEqualTo(1);
+    }
+
+    // Counters are read from the target: a class proxy does not share the target's fields
+    private static Jobs locked(Jobs target, JobLockService locks) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("jobLockService", locks);
+        beans.addBean("meterRegistry", new SimpleMeterRegistry());
+        ProxyFactory proxy = new ProxyFactory(target);
+        proxy.setProxyTargetClass(true);
+        proxy.addAdvice(new JobLockInterceptor(beans.getBeanProvider(JobLockService.class),
+                beans.getBeanProvider(MeterRegistry.class)));
+        return (Jobs) proxy.getProxy();
+    }
+
+    static class Jobs {
+        final AtomicInteger runs = new AtomicInteger();
+
+        @JobLock(name = JOB)
+        public void scheduledSync() {
+            runs.incrementAndGet();
+        }
+
+        @JobLock(name = JOB, failWhenSkipped = true)
+        public void manualSync() {
+            runs.incrementAndGet();
+        }
+    }
+}
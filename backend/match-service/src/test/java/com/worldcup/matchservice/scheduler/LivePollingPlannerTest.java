@@ -0,0 +1,122 @@
+package com.worldcup.matchservice.scheduler;
+
+import com.worldcup.matchservice.client.ApiQuotaLedger;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Planning decisions for live-score polling: windows, quota budgeting and the TheSportsDB fallback
+ */
+class LivePollingPlannerTest {
+
+    private static final Instant KICKOFF = Instant.parse("2026-06-11T19:00:00Z");
+    private static final LocalDate MATCH_DAY = LocalDate.parse("2026-06-11");
+
+    private final LivePollingPlanner planner = new LivePollingPlanner(null, null,
+            Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofHours(1),
+            Duration.ofMinutes(15), Duration.ofMinutes(150), 100, 5);
+
+    @Test
+    void sleepsUntilTheNextWindowOpens() {
+        Instant now = KICKOFF.minus(Duration.ofMinutes(45));
+
+        LivePollingPlan plan = planner.plan(now, List.of(window(KICKOFF, false)), usage(0, null), null);
+
+        assertThat(plan.idle()).isTrue();
+        assertThat(plan.source()).isEqualTo(LivePollingPlan.Source.NONE);
+        assertThat(plan.nextCheck()).isEqualTo(KICKOFF.minus(Duration.ofMinutes(15)));
+    }
+
+    @Test
+    void sleepsAtMostTheIdleIntervalOnEmptyDays() {
+        Instant now = KICKOFF;
+
+        LivePollingPlan plan = planner.plan(now, List.of(), usage(0, null), null);
+
+        assertThat(plan.idle()).isTrue();
+        assertThat(plan.nextCheck()).isEqualTo(now.plus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void pollsApiFootballAtTheFastIntervalWhenTheBudgetCoversTheWindow() {
+        // 10 minutes of window left is 20 polls at 30s, well inside the 85 requests left
+        Instant now = KICKOFF.plus(Duration.ofMinutes(140));
+        Instant lastPoll = now.minus(Duration.ofSeconds(30));
+
+        LivePollingPlan plan = planner.plan(now, List.of(window(KICKOFF, false)), usage(10, lastPoll), null);
+
+        assertThat(plan.source()).isEqualTo(LivePollingPlan.Source.API_FOOTBALL);
+        assertThat(plan.matchDate()).isEqualTo(MATCH_DAY);
+        assertThat(plan.nextCheck()).isEqualTo(now.plus(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void spacesApiFootballOutAndFillsGapsFromTheSportsDbWhenTheBudgetIsTight() {
+        // 2h45m of window left with 35 requests to spend: API-FOOTBALL every ~4.7 minutes
+        Instant now = KICKOFF.minus(Duration.ofMinutes(15));
+        Instant lastApiPoll = now.minus(Duration.ofMinutes(1));
+
+        LivePollingPlan plan = planner.plan(now, List.of(window(KICKOFF, false)), usage(60, lastApiPoll), null);
+
+        assertThat(plan.source()).isEqualTo(LivePollingPlan.Source.SPORTS_DB);
+
+        LivePollingPlan later = planner.plan(now.plus(Duration.ofMinutes(4)), List.of(window(KICKOFF, false)),
+                usage(60, lastApiPoll), now);
+        assertThat(later.source()).isEqualTo(LivePollingPlan.Source.API_FOOTBALL);
+    }
+
+    @Test
+    void skipsWhenAPollRanLessThanTheFastIntervalAgo() {
+        Instant now = KICKOFF.plus(Duration.ofMinutes(10));
+
+        LivePollingPlan plan = planner.plan(now, List.of(window(KICKOFF, false)),
+                usage(60, now.minus(Duration.ofMinutes(2))), now.minus(Duration.ofSeconds(10)));
+
+        assertThat(plan.source()).isEqualTo(LivePollingPlan.Source.NONE);
+        assertThat(plan.idle()).isFalse();
+    }
+
+    @Test
+    void fallsBackToTheSportsDbOnceTheBudgetIsSpent() {
+        Instant now = KICKOFF.plus(Duration.ofMinutes(30));
+
+        LivePollingPlan plan = planner.plan(now, List.of(window(KICKOFF, false)), usage(95, now.minusSeconds(40)), null);
+
+        assertThat(plan.source()).isEqualTo(LivePollingPlan.Source.SPORTS_DB);
+    }
+
+    @Test
+    void trustsTheProviderWhenItReportsFewerRequestsLeft() {
+        Instant now = KICKOFF.plus(Duration.ofMinutes(30));
+        ApiQuotaLedger.Usage usage = new ApiQuotaLedger.Usage(10, now.minusSeconds(40), 5);
+
+        LivePollingPlan plan = planner.plan(now, List.of(window(KICKOFF, false)), usage, null);
+
+        assertThat(plan.source()).isEqualTo(LivePollingPlan.Source.SPORTS_DB);
+    }
+
+    @Test
+    void keepsPollingALiveMatchPastItsScheduledWindow() {
+        Instant now = KICKOFF.plus(Duration.ofMinutes(170));
+
+        LivePollingPlan live = planner.plan(now, List.of(window(KICKOFF, true)), usage(10, null), null);
+        LivePollingPlan scheduled = planner.plan(now, List.of(window(KICKOFF, false)), usage(10, null), null);
+
+        assertThat(live.source()).isEqualTo(LivePollingPlan.Source.API_FOOTBALL);
+        assertThat(scheduled.idle()).isTrue();
+    }
+
+    private static LivePollingPlanner.Window window(Instant kickoff, boolean live) {
+        return new LivePollingPlanner.Window(kickoff, MATCH_DAY, live);
+    }
+
+    private static ApiQuotaLedger.Usage usage(int requests, Instant lastRequestAt) {
+        return new ApiQuotaLedger.Usage(requests, lastRequestAt, null);
+    }
+}
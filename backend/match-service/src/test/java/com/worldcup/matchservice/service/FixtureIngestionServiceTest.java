@@ -0,0 +1,195 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.client.ApiFootballFixture;
+import com.worldcup.matchservice.client.ApiFootballParser;
+import com.worldcup.matchservice.client.ApiFootballTeam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Parses sample API-FOOTBALL payloads and writes them through the bulk upserts, checking that
+ * unchanged records are recognised by content hash and reported in the change set
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FixtureIngestionServiceTest {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private static final String TEAMS = """
+            {"get": "teams", "errors": [], "results": 2, "response": [
+              {"team": {"id": 16, "name": "Mexico", "country": "Mexico", "logo": "https://logo/16.png"},
+               "venue": {"id": 1, "name": "Estadio Azteca"}},
+              {"team": {"id": 1118, "name": "Netherlands", "country": "Netherlands", "logo": null}, "venue": null}
+            ]}
+            """;
+
+    private static final String FIXTURES = """
+            {"get": "fixtures", "errors": [], "response": [
+              {"fixture": {"id": 9001, "date": "2026-06-11T19:00:00+00:00",
+                           "venue": {"id": 1, "name": "Estadio Azteca", "city": "Mexico City"},
+                           "status": {"long": "Match Finished", "short": "FT", "elapsed": 90}},
+               "league": {"id": 1, "round": "Group Stage - 1"},
+               "teams": {"home": {"id": 16, "name": "Mexico"}, "away": {"id": 1118, "name": "Netherlands"}},
+               "goals": {"home": 2, "away": 1},
+               "score": {"halftime": {"home": 1, "away": 0}}},
+              {"fixture": {"id": 9002, "date": "2026-07-19T19:00:00+00:00", "venue": {"name": null, "city": null},
+                           "status": {"short": "TBD"}},
+               "league": {"round": "Final"},
+               "teams": {"home": {"id": null}, "away": {"id": null}},
+               "goals": {"home": null, "away": null}}
+            ]}
+            """;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("worldcup2026_db")
+            .withUsername("worldcup_user")
+            .withPassword("worldcup_password")
+            .withCopyFileToContainer(MountableFile.forHostPath("../../database/init/01-create-schemas.sql"),
+                    "/docker-entrypoint-initdb.d/01-create-schemas.sql");
+
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private FixtureIngestionService ingestion;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.update("DELETE FROM match_service_schema.matches WHERE external_api_id IS NOT NULL");
+        jdbcTemplate.update("DELETE FROM match_service_schema.teams WHERE external_api_id IN ('16', '1118')");
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        ingestion = new FixtureIngestionService(jdbcTemplate, eventPublisher);
+    }
+
+    @Test
+    void parsesOnlyTheStoredFields() {
+        List<ApiFootballFixture> fixtures = ApiFootballParser.parseFixtures(JSON, stream(FIXTURES));
+
+        assertThat(fixtures).hasSize(2);
+        ApiFootballFixture opener = fixtures.get(0);
+        assertThat(opener.externalApiId()).isEqualTo("9001");
+        assertThat(opener.homeTeamExternalId()).isEqualTo("16");
+        assertThat(opener.awayTeamExternalId()).isEqualTo("1118");
+        assertThat(opener.matchDate()).hasToString("2026-06-11");
+        assertThat(opener.matchTime()).hasToString("19:00");
+        assertThat(opener.status().name()).isEqualTo("FINISHED");
+        assertThat(opener.homeScore()).isEqualTo(2);
+        assertThat(opener.venueCity()).isEqualTo("Mexico City");
+        assertThat(fixtures.get(1).homeScore()).isNull();
+    }
+
+    @Test
+    void upsertsTeamsAndFixturesAndSkipsUnchangedRows() {
+        List<ApiFootballTeam> teams = ApiFootballParser.parseTeams(JSON, stream(TEAMS));
+        List<ApiFootballFixture> fixtures = ApiFootballParser.parseFixtures(JSON, stream(FIXTURES));
+
+        SyncChangeSet teamChanges = ingestion.upsertTeams(teams);
+        assertThat(teamChanges.inserted()).isEqualTo(2);
+        assertThat(teamChanges.hasChanges()).isTrue();
+        // The final has no teams yet and is skipped
+        SyncChangeSet matchChanges = ingestion.upsertFixtures(fixtures);
+        assertThat(matchChanges.inserted()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(matchChanges);
+
+        Map<String, Object> stored = jdbcTemplate.queryForMap(
+                "SELECT id, status, home_score, away_score, round, venue_name FROM match_service_schema.matches "
+                + "WHERE external_api_id = '9001'");
+        assertThat(stored).containsEntry("status", "FINISHED")
+                .containsEntry("home_score", 2)
+                .containsEntry("away_score", 1)
+                .containsEntry("round", "Group Stage - 1")
+                .containsEntry("venue_name", "Estadio Azteca");
+        assertThat(matchChanges.insertedIds()).containsExactly((Long) stored.get("id"));
+
+        // Same payload again: every synced row is unchanged and nothing is written
+        SyncChangeSet teamsAgain = ingestion.upsertTeams(teams);
+        assertThat(teamsAgain.hasChanges()).isFalse();
+        assertThat(teamsAgain.unchanged()).isEqualTo(2);
+        SyncChangeSet fixturesAgain = ingestion.upsertFixtures(fixtures);
+        assertThat(fixturesAgain.hasChanges()).isFalse();
+        assertThat(fixturesAgain.unchangedIds()).containsExactly((Long) stored.get("id"));
+    }
+
+    @Test
+    void changedFixtureIsReportedAsUpdated() {
+        ingestion.upsertTeams(ApiFootballParser.parseTeams(JSON, stream(TEAMS)));
+        ingestion.upsertFixtures(ApiFootballParser.parseFixtures(JSON, stream(FIXTURES)));
+
+        SyncChangeSet changes = ingestion.upsertFixtures(
+                ApiFootballParser.parseFixtures(JSON, stream(FIXTURES.replace("\"away\": 1}", "\"away\": 2}"))));
+
+        assertThat(changes.inserted()).isZero();
+        assertThat(changes.updated()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT away_score FROM match_service_schema.matches "
+                + "WHERE external_api_id = '9001'", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void manualEditClearsTheHashSoTheNextSyncRewritesTheRow() {
+        ingestion.upsertTeams(ApiFootballParser.parseTeams(JSON, stream(TEAMS)));
+        List<ApiFootballFixture> fixtures = ApiFootballParser.parseFixtures(JSON, stream(FIXTURES));
+        ingestion.upsertFixtures(fixtures);
+        jdbcTemplate.update("UPDATE match_service_schema.matches SET home_score = 5, content_hash = NULL "
+                + "WHERE external_api_id = '9001'");
+
+        assertThat(ingestion.upsertFixtures(fixtures).updated()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT home_score FROM match_service_schema.matches "
+                + "WHERE external_api_id = '9001'", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void groupStadiumAndCountrySurviveASync() {
+        ingestion.upsertTeams(ApiFootballParser.parseTeams(JSON, stream(TEAMS)));
+        ingestion.upsertFixtures(ApiFootballParser.parseFixtures(JSON, stream(FIXTURES)));
+        jdbcTemplate.update("UPDATE match_service_schema.matches SET group_name = 'Group A', stadium_id = 1, "
+                + "venue_country = 'Mexico' WHERE external_api_id = '9001'");
+
+        SyncChangeSet changes = ingestion.upsertFixtures(
+                ApiFootballParser.parseFixtures(JSON, stream(FIXTURES.replace("\"away\": 1}", "\"away\": 2}"))));
+
+        assertThat(changes.updated()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForMap("SELECT group_name, stadium_id, venue_country, away_score "
+                + "FROM match_service_schema.matches WHERE external_api_id = '9001'"))
+                .containsEntry("group_name", "Group A")
+                .containsEntry("stadium_id", 1L)
+                .containsEntry("venue_country", "Mexico")
+                .containsEntry("away_score", 2);
+    }
+
+    @Test
+    void groupComesFromTheRoundOrFromTheTeamsOtherGroupMatches() {
+        ingestion.upsertTeams(ApiFootballParser.parseTeams(JSON, stream(TEAMS)));
+        ingestion.upsertFixtures(ApiFootballParser.parseFixtures(JSON,
+                stream(FIXTURES.replace("Group Stage - 1", "Group A - 1"))));
+        String rematch = FIXTURES.replace("9001", "9003").replace("Group Stage - 1", "Group Stage - 2");
+
+        ingestion.upsertFixtures(ApiFootballParser.parseFixtures(JSON, stream(rematch)));
+
+        assertThat(jdbcTemplate.queryForList("SELECT group_name FROM match_service_schema.matches "
+                + "WHERE external_api_id IN ('9001', '9003')", String.class)).containsExactly("Group A", "Group A");
+        assertThat(ApiFootballParser.groupOf("Group Stage - 1")).isNull();
+        assertThat(ApiFootballParser.groupOf("Group L - 3")).isEqualTo("Group L");
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
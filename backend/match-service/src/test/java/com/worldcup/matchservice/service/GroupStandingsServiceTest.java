@@ -0,0 +1,119 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.dto.GroupStandingsDTO;
+import com.worldcup.matchservice.dto.MatchDTO;
+import com.worldcup.matchservice.dto.MatchDetailDTO;
+import com.worldcup.matchservice.dto.StandingDTO;
+import com.worldcup.matchservice.dto.TeamDTO;
+import com.worldcup.matchservice.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ranking and tiebreaks, incremental updates and snapshot republication, without a database
+ */
+class GroupStandingsServiceTest {
+
+    private static final TeamDTO BRAZIL = team(1L, "Brazil");
+    private static final TeamDTO ARGENTINA = team(2L, "Argentina");
+    private static final TeamDTO CANADA = team(3L, "Canada");
+    private static final TeamDTO DENMARK = team(4L, "Denmark");
+    private static final TeamDTO ECUADOR = team(5L, "Ecuador");
+    private static final TeamDTO FRANCE = team(6L, "France");
+
+    private final MatchCatalogue catalogue = mock(MatchCatalogue.class);
+    private final GroupStandingsService service = new GroupStandingsService(catalogue);
+
+    @BeforeEach
+    void setUp() {
+        when(catalogue.groupNames()).thenReturn(List.of("Group A", "Group B", "N/A"));
+        when(catalogue.byGroup("Group A")).thenReturn(List.of(
+                match(101L, "Group A", BRAZIL, ARGENTINA, "FINISHED", 2, 1),
+                match(102L, "Group A", CANADA, DENMARK, "SCHEDULED", 0, 0),
+                match(103L, "Group A", BRAZIL, CANADA, "FINISHED", 0, 1),
+                match(104L, "Group A", ARGENTINA, DENMARK, "FINISHED", 1, 0)));
+        when(catalogue.byGroup("Group B")).thenReturn(List.of(
+                match(201L, "Group B", ECUADOR, FRANCE, "LIVE", 1, 0)));
+        when(catalogue.byGroup("N/A")).thenReturn(List.of(
+                match(301L, "N/A", BRAZIL, ECUADOR, "SCHEDULED", 0, 0)));
+    }
+
+    @Test
+    void ranksByPointsThenGoalsThenHeadToHead() {
+        List<StandingDTO> table = service.getGroupStandings("Group A").getStandings();
+
+        // Brazil and Argentina are level on points, goal difference and goals; Brazil won their match
+        assertThat(table).extracting(standing -> standing.getTeam().getName())
+                .containsExactly("Canada", "Brazil", "Argentina", "Denmark");
+        assertThat(table.get(1)).extracting(StandingDTO::getPosition, StandingDTO::getPlayed, StandingDTO::getWon,
+                        StandingDTO::getLost, StandingDTO::getGoalsFor, StandingDTO::getGoalDifference, StandingDTO::getPoints)
+                .containsExactly(2, 2, 1, 1, 2, 0, 3);
+    }
+
+    @Test
+    void liveMatchesCountAndGroupsResolveByLetter() {
+        GroupStandingsDTO groupB = service.getGroupStandings("b");
+
+        assertThat(groupB.getGroup()).isEqualTo("Group B");
+        assertThat(groupB.getStandings()).extracting(StandingDTO::getPoints).containsExactly(3, 0);
+        assertThat(service.getAllStandings()).extracting(GroupStandingsDTO::getGroup)
+                .containsExactly("Group A", "Group B");
+        assertThatThrownBy(() -> service.getGroupStandings("N/A")).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void scoreChangeUpdatesOnlyItsGroupAndRepublishes() {
+        GroupStandingsDTO groupABefore = service.getGroupStandings("A");
+        GroupStandingsDTO groupBBefore = service.getGroupStandings("B");
+        when(catalogue.detail(102L)).thenReturn(Optional.of(detail(102L, "Group A", CANADA, DENMARK, "LIVE", 0, 3)));
+
+        service.update(List.of(102L));
+
+        GroupStandingsDTO groupA = service.getGroupStandings("A");
+        assertThat(groupA.getStandings()).extracting(standing -> standing.getTeam().getName())
+                .containsExactly("Denmark", "Brazil", "Argentina", "Canada");
+        assertThat(groupA.getStandings().get(0).getPoints()).isEqualTo(3);
+        assertThat(groupA.getStandings().get(0).getGoalDifference()).isEqualTo(2);
+        assertThat(groupABefore.getStandings().get(0).getTeam()).isEqualTo(CANADA);
+        assertThat(service.getGroupStandings("B")).isSameAs(groupBBefore);
+    }
+
+    @Test
+    void correctedScoreReplacesThePreviousResult() {
+        when(catalogue.detail(101L)).thenReturn(Optional.of(detail(101L, "Group A", BRAZIL, ARGENTINA, "FINISHED", 1, 1)));
+        service.getAllStandings();
+
+        service.update(List.of(101L));
+
+        StandingDTO brazil = service.getGroupStandings("A").getStandings().stream()
+                .filter(standing -> standing.getTeam().equals(BRAZIL))
+                .findFirst()
+                .orElseThrow();
+        assertThat(brazil).extracting(StandingDTO::getPlayed, StandingDTO::getWon, StandingDTO::getDrawn,
+                StandingDTO::getGoalsFor, StandingDTO::getPoints).containsExactly(2, 0, 1, 1, 1);
+    }
+
+    private static TeamDTO team(Long id, String name) {
+        return TeamDTO.builder().id(id).name(name).country(name).build();
+    }
+
+    private static MatchDTO match(Long id, String group, TeamDTO home, TeamDTO away, String status,
+                                  int homeScore, int awayScore) {
+        return MatchDTO.builder().id(id).groupName(group).homeTeam(home).awayTeam(away).status(status)
+                .homeScore(homeScore).awayScore(awayScore).build();
+    }
+
+    private static MatchDetailDTO detail(Long id, String group, TeamDTO home, TeamDTO away, String status,
+                                         int homeScore, int awayScore) {
+        return MatchDetailDTO.builder().id(id).groupName(group).homeTeam(home).awayTeam(away).status(status)
+                .homeScore(homeScore).awayScore(awayScore).build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.dto.LiveScoreEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replay after Last-Event-ID, resets for ids that left the buffer and heartbeats on idle streams
+ */
+class LiveScoreBroadcasterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final LiveScoreBroadcaster broadcaster = new LiveScoreBroadcaster(null, null,
+            4, Duration.ofHours(1), Duration.ofMinutes(1), 2);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void newSubscriberStartsWithAHeartbeatNotTheBacklog() {
+        broadcaster.publish(List.of(score(1L, 1, 0)));
+
+        ServerSentEvent<LiveScoreEvent> first = broadcaster.subscribe(null).blockFirst(TIMEOUT);
+
+        assertThat(first.comment()).isEqualTo("heartbeat");
+        assertThat(first.data()).isNull();
+    }
+
+    @Test
+    void resumesAfterTheLastEventId() {
+        broadcaster.publish(List.of(score(1L, 1, 0)));
+        String epoch = epoch();
+        broadcaster.publish(List.of(score(1L, 2, 0), score(2L, 0, 1)));
+
+        List<ServerSentEvent<LiveScoreEvent>> replay = broadcaster.subscribe(epoch + "-1").take(2)
+                .collectList().block(TIMEOUT);
+
+        assertThat(replay).extracting(ServerSentEvent::id).containsExactly(epoch + "-2", epoch + "-3");
+        assertThat(replay).extracting(ServerSentEvent::event).containsOnly(LiveScoreBroadcaster.SCORE_EVENT);
+        assertThat(replay.get(0).data().getHomeScore()).isEqualTo(2);
+        assertThat(replay.get(1).data().getMatchId()).isEqualTo(2L);
+    }
+
+    @Test
+    void pushesEventsPublishedAfterSubscribing() {
+        String epoch = epoch();
+        CompletableFuture<ServerSentEvent<LiveScoreEvent>> stream = broadcaster.subscribe(epoch + "-0")
+                .filter(event -> event.data() != null)
+                .next()
+                .toFuture();
+
+        broadcaster.publish(List.of(score(7L, 1, 1)));
+
+        assertThat(stream.join().data().getMatchId()).isEqualTo(7L);
+    }
+
+    @Test
+    void resetsWhenMissedEventsLeftTheBuffer() {
+        String epoch = epoch();
+        for (int i = 0; i < 6; i++) {
+            broadcaster.publish(List.of(score(1L, i, 0)));
+        }
+
+        ServerSentEvent<LiveScoreEvent> first = broadcaster.subscribe(epoch + "-1").blockFirst(TIMEOUT);
+
+        assertThat(first.event()).isEqualTo(LiveScoreBroadcaster.RESET_EVENT);
+        assertThat(first.id()).isEqualTo(epoch + "-6");
+    }
+
+    @Test
+    void resetsOnAnIdFromAnotherProcess() {
+        broadcaster.publish(List.of(score(1L, 1, 0)));
+
+        ServerSentEvent<LiveScoreEvent> first = broadcaster.subscribe("previous-1").blockFirst(TIMEOUT);
+
+        assertThat(first.event()).isEqualTo(LiveScoreBroadcaster.RESET_EVENT);
+    }
+
+    /**
+     * The epoch part of this broadcaster's ids, read from the reset sent for a foreign id
+     */
+    private String epoch() {
+        String id = broadcaster.subscribe("unknown").blockFirst(TIMEOUT).id();
+        return id.substring(0, id.lastIndexOf('-'));
+    }
+
+    private static LiveScoreEvent score(Long matchId, int home, int away) {
+        return LiveScoreEvent.builder().matchId(matchId).status("LIVE").homeScore(home).awayScore(away).build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.dto.LiveScoreEvent;
+import com.worldcup.matchservice.dto.MatchUpdateDTO;
+import com.worldcup.matchservice.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Batch score and status updates against the seeded schema: one statement, all or nothing, one
+ * cache invalidation for the batch
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MatchBatchUpdateTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("worldcup2026_db")
+            .withUsername("worldcup_user")
+            .withPassword("worldcup_password")
+            .withCopyFileToContainer(MountableFile.forHostPath("../../database/init/01-create-schemas.sql"),
+                    "/docker-entrypoint-initdb.d/01-create-schemas.sql");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private MatchService matchService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.update("UPDATE match_service_schema.matches SET status = 'SCHEDULED', home_score = 0, "
+                + "away_score = 0 WHERE id IN (2, 3, 4)");
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        matchService = new MatchService(null, null, null, null, eventPublisher, jdbcTemplate);
+    }
+
+    @Test
+    void appliesEveryChangeAndInvalidatesOnce() {
+        List<LiveScoreEvent> changes = update(List.of(
+                new MatchUpdateDTO(3L, 1, 0, null),
+                new MatchUpdateDTO(2L, null, null, "postponed"),
+                new MatchUpdateDTO(4L, 2, 2, "FINISHED")));
+
+        assertThat(changes).extracting(LiveScoreEvent::getMatchId, LiveScoreEvent::getStatus,
+                        LiveScoreEvent::getHomeScore, LiveScoreEvent::getAwayScore)
+                .containsExactly(
+                        tuple(3L, "LIVE", 1, 0),
+                        tuple(2L, "POSTPONED", 0, 0),
+                        tuple(4L, "FINISHED", 2, 2));
+        assertThat(row(3L)).containsEntry("status", "LIVE").containsEntry("home_score", 1);
+        assertThat(row(4L)).containsEntry("status", "FINISHED").containsEntry("away_score", 2);
+        verify(eventPublisher).publishEvent(new MatchDataChanged(List.of(3L, 2L, 4L)));
+        verify(eventPublisher, times(3)).publishEvent(any(LiveScoreEvent.class));
+    }
+
+    @Test
+    void lastChangePerMatchWins() {
+        List<LiveScoreEvent> changes = update(List.of(
+                new MatchUpdateDTO(3L, 1, 0, null),
+                new MatchUpdateDTO(3L, 2, 0, null)));
+
+        assertThat(changes).extracting(LiveScoreEvent::getHomeScore).containsExactly(2);
+        assertThat(row(3L)).containsEntry("home_score", 2);
+    }
+
+    @Test
+    void unknownMatchRollsBackTheWholeBatch() {
+        assertThatThrownBy(() -> update(List.of(
+                new MatchUpdateDTO(3L, 1, 0, null),
+                new MatchUpdateDTO(999_999L, 1, 0, null))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("999999");
+
+        assertThat(row(3L)).containsEntry("status", "SCHEDULED").containsEntry("home_score", 0);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void rejectsIncompleteOrInvalidChanges() {
+        assertThatThrownBy(() -> update(List.of(new MatchUpdateDTO(3L, 1, null, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> update(List.of(new MatchUpdateDTO(3L, null, null, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> update(List.of(new MatchUpdateDTO(3L, null, null, "HALF_TIME"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<LiveScoreEvent> update(List<MatchUpdateDTO> updates) {
+        return transactionTemplate.execute(status -> matchService.updateMatches(updates));
+    }
+
+    private Map<String, Object> row(Long id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, home_score, away_score FROM match_service_schema.matches WHERE id = ?", id);
+    }
+}
@@ -0,0 +1,107 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.config.SerializedResponseCache;
+import com.worldcup.matchservice.dto.MatchDTO;
+import com.worldcup.matchservice.dto.MatchDetailDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Keyed eviction: only the keys holding a changed match go, unless page boundaries may have shifted
+ */
+class MatchCacheKeysTest {
+
+    private static final LocalDate JUNE_12 = LocalDate.parse("2026-06-12");
+    private static final LocalDate JUNE_18 = LocalDate.parse("2026-06-18");
+
+    private final ConcurrentMapCacheManager cacheManager =
+            new ConcurrentMapCacheManager("matches", "upcomingMatches", "matchesByDate");
+    private final MatchCatalogue catalogue = mock(MatchCatalogue.class);
+    private MatchCacheKeys cacheKeys;
+    private Cache matches;
+
+    @BeforeEach
+    void setUp() {
+        cacheKeys = new MatchCacheKeys(catalogue, cacheManager,
+                new SerializedResponseCache(cacheManager, JsonMapper.builder().build(), DataSize.ofKilobytes(2)));
+        matches = cacheManager.getCache("matches");
+        cache(matches, "page_0_size_2", 11L, 12L);
+        cache(matches, "page_1_size_2", 13L, 14L);
+        cache(matches, "page_2_size_2");
+        matches.put("detail_12", "match 12");
+        matches.put("detail_13", "match 13");
+        matches.put("live", "live matches");
+        cacheManager.getCache("matchesByDate").put(JUNE_12, "June 12");
+        cacheManager.getCache("matchesByDate").put(JUNE_18, "June 18");
+        cacheManager.getCache("upcomingMatches").put("all", "upcoming");
+        cacheManager.getCache("upcomingMatches").put("serialized:all", "upcoming json");
+    }
+
+    @Test
+    void scoreUpdateEvictsOnlyTheKeysHoldingTheMatch() {
+        when(catalogue.detail(12L)).thenReturn(Optional.of(detail(12L, JUNE_12, "LIVE")));
+
+        cacheKeys.evict(List.of(12L));
+
+        assertThat(matches.get("page_0_size_2")).isNull();
+        assertThat(matches.get("detail_12")).isNull();
+        assertThat(matches.get("live")).isNull();
+        assertThat(cacheManager.getCache("matchesByDate").get(JUNE_12)).isNull();
+        assertThat(matches.get("page_1_size_2")).isNotNull();
+        assertThat(matches.get("page_2_size_2")).isNotNull();
+        assertThat(matches.get("detail_13")).isNotNull();
+        assertThat(cacheManager.getCache("matchesByDate").get(JUNE_18)).isNotNull();
+        assertThat(cacheManager.getCache("upcomingMatches").get("all")).isNotNull();
+    }
+
+    @Test
+    void scheduledMatchChangeEvictsTheUpcomingListAndItsResponse() {
+        when(catalogue.detail(14L)).thenReturn(Optional.of(detail(14L, JUNE_18, "SCHEDULED")));
+
+        cacheKeys.evict(List.of(14L));
+
+        assertThat(cacheManager.getCache("upcomingMatches").get("all")).isNull();
+        assertThat(cacheManager.getCache("upcomingMatches").get("serialized:all")).isNull();
+        assertThat(matches.get("page_1_size_2")).isNull();
+        assertThat(matches.get("live")).isNotNull();
+    }
+
+    @Test
+    void rescheduledMatchEvictsEveryPage() {
+        when(catalogue.detail(13L)).thenReturn(
+                Optional.of(detail(13L, JUNE_12, "SCHEDULED")),
+                Optional.of(detail(13L, JUNE_18, "SCHEDULED")));
+
+        cacheKeys.evict(List.of(13L));
+
+        assertThat(matches.get("page_0_size_2")).isNull();
+        assertThat(matches.get("page_1_size_2")).isNull();
+        assertThat(matches.get("page_2_size_2")).isNull();
+        assertThat(cacheManager.getCache("matchesByDate").get(JUNE_12)).isNull();
+        assertThat(cacheManager.getCache("matchesByDate").get(JUNE_18)).isNull();
+        assertThat(matches.get("detail_12")).isNotNull();
+    }
+
+    private void cache(Cache cache, String pageKey, Long... ids) {
+        List<MatchDTO> page = Arrays.stream(ids).map(id -> MatchDTO.builder().id(id).build()).toList();
+        cache.put(pageKey, page);
+        cacheKeys.trackPage(pageKey, page);
+    }
+
+    private static MatchDetailDTO detail(Long id, LocalDate date, String status) {
+        return MatchDetailDTO.builder().id(id).matchDate(date).status(status).build();
+    }
+}
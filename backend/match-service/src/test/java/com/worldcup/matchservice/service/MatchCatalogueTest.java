@@ -0,0 +1,131 @@
+package com.worldcup.matchservice.service;
+
+import com.worldcup.matchservice.dto.MatchDTO;
+import com.worldcup.matchservice.entity.Match;
+import com.worldcup.matchservice.entity.Match.MatchStatus;
+import com.worldcup.matchservice.entity.Team;
+import com.worldcup.matchservice.mapper.MatchMapperImpl;
+import com.worldcup.matchservice.repository.MatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Index lookups and multi-criteria search over a small catalogue, without a database
+ */
+class MatchCatalogueTest {
+
+    private static final Team MEXICO = team(1L, "Mexico");
+    private static final Team CANADA = team(2L, "Canada");
+    private static final Team USA = team(3L, "USA");
+    private static final Team BRAZIL = team(4L, "Brazil");
+
+    private MatchCatalogue catalogue;
+
+    @BeforeEach
+    void setUp() {
+        MatchRepository matchRepository = mock(MatchRepository.class);
+        when(matchRepository.findAllWithTeams()).thenReturn(List.of(
+                match(11L, MEXICO, CANADA, "2026-06-11", "19:00", "Group A", MatchStatus.FINISHED, 1L),
+                match(12L, USA, BRAZIL, "2026-06-12", "16:00", "Group B", MatchStatus.LIVE, 2L),
+                match(13L, CANADA, USA, "2026-06-12", "20:00", "Group C", MatchStatus.LIVE, 1L),
+                match(14L, MEXICO, BRAZIL, "2026-06-18", "18:00", "Group A", MatchStatus.SCHEDULED, 1L),
+                match(15L, MEXICO, USA, "2026-06-24", null, "Group A", MatchStatus.SCHEDULED, 3L)));
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class))).thenReturn("5:2026-06-01/4:2026-06-01");
+
+        catalogue = new MatchCatalogue(matchRepository, new MatchMapperImpl(), jdbcTemplate,
+                mock(PlatformTransactionManager.class), mock(ApplicationEventPublisher.class));
+        catalogue.refresh();
+    }
+
+    @Test
+    void listsAreInKickoffOrder() {
+        assertThat(ids(catalogue.byTeam(MEXICO.getId()))).containsExactly(11L, 14L, 15L);
+        assertThat(ids(catalogue.between(LocalDate.parse("2026-06-12"), LocalDate.parse("2026-06-18"))))
+                .containsExactly(12L, 13L, 14L);
+        assertThat(ids(catalogue.upcoming(LocalDate.parse("2026-06-12")))).containsExactly(14L, 15L);
+        assertThat(ids(catalogue.live())).containsExactly(13L, 12L);
+        assertThat(catalogue.detail(12L)).get().extracting("status").isEqualTo("LIVE");
+        assertThat(catalogue.count()).isEqualTo(5);
+    }
+
+    @Test
+    void searchIntersectsEveryCriterion() {
+        MatchSearchCriteria criteria = new MatchSearchCriteria(MEXICO.getId(), 1L, null, "Group A", MatchStatus.SCHEDULED,
+                LocalDate.parse("2026-06-12"), null);
+
+        Page<MatchDTO> page = catalogue.search(criteria, PageRequest.of(0, 10));
+
+        assertThat(ids(page.getContent())).containsExactly(14L);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void searchWithoutCriteriaPagesEveryMatch() {
+        Page<MatchDTO> second = catalogue.search(criteria(null, null, null), PageRequest.of(1, 2));
+
+        assertThat(ids(second.getContent())).containsExactly(13L, 14L);
+        assertThat(second.getTotalElements()).isEqualTo(5);
+        assertThat(second.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void searchSortsDescending() {
+        Page<MatchDTO> page = catalogue.search(criteria(USA.getId(), null, null),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "matchDate")));
+
+        assertThat(ids(page.getContent())).containsExactly(15L, 13L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void searchOnUnknownValueOrEmptyRangeFindsNothing() {
+        assertThat(catalogue.search(criteria(99L, null, null), PageRequest.of(0, 10))).isEmpty();
+        assertThat(catalogue.search(new MatchSearchCriteria(null, null, null, null, null,
+                LocalDate.parse("2026-06-13"), LocalDate.parse("2026-06-17")), PageRequest.of(0, 10))).isEmpty();
+        assertThat(catalogue.search(criteria(null, "Group B", MatchStatus.FINISHED), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    private static MatchSearchCriteria criteria(Long teamId, String groupName, MatchStatus status) {
+        return new MatchSearchCriteria(teamId, null, null, groupName, status, null, null);
+    }
+
+    private static List<Long> ids(List<MatchDTO> matches) {
+        return matches.stream().map(MatchDTO::getId).toList();
+    }
+
+    private static Team team(Long id, String name) {
+        return Team.builder().id(id).name(name).country(name).build();
+    }
+
+    private static Match match(Long id, Team home, Team away, String date, String time, String group,
+                               MatchStatus status, Long stadiumId) {
+        return Match.builder()
+                .id(id)
+                .homeTeam(home)
+                .awayTeam(away)
+                .matchDate(LocalDate.parse(date))
+                .matchTime(time != null ? LocalTime.parse(time) : null)
+                .round("Group Stage")
+                .groupName(group)
+                .status(status)
+                .stadiumId(stadiumId)
+                .build();
+    }
+}
@@ -1,35 +1,80 @@
 package com.worldcup.stadiumservice.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Page;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Cache configuration using Caffeine
- * Stadiums don't change frequently, so longer TTL (60 minutes)
+ * Stadiums don't change frequently and every write evicts, so TTLs are long
+ * Every cache has its own spec, overridable with a cache.specs.&lt;name&gt; property
+ * All caches record stats, which actuator exports per cache
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Map<String, String> DEFAULT_SPECS = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_SPECS.put("stadiums", "maximumWeight=8192,expireAfterWrite=6h");
+        DEFAULT_SPECS.put("stadiumsByCity", "maximumSize=50,expireAfterWrite=6h");
+        DEFAULT_SPECS.put("stadiumsByCountry", "maximumSize=10,expireAfterWrite=6h");
+    }
+
+    /**
+     * Approximate retained size of one cached DTO, used to weigh list and page entries
+     */
+    private static final int DTO_BYTES = 512;
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "stadiums",
-                "stadiumsByCity",
-                "stadiumsByCountry"
-        );
-
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(100)
-                .expireAfterWrite(60, TimeUnit.MINUTES)
-                .recordStats());
+    public CaffeineCacheManager caffeineCacheManager(Environment environment) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+
+        DEFAULT_SPECS.forEach((name, defaultSpec) -> {
+            String spec = environment.getProperty("cache.specs." + name, defaultSpec);
+            cacheManager.registerCustomCache(name, builder(spec).build());
+        });
 
         return cacheManager;
     }
+
+    /**
+     * Build a stats-recording Caffeine builder from a spec string, adding the weigher when the spec
+     * bounds the cache by weight
+     */
+    private static Caffeine<Object, Object> builder(String spec) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec).recordStats();
+        if (spec.contains("maximumWeight")) {
+            builder.weigher(CacheConfig::weighKilobytes);
+        }
+        return builder;
+    }
+
+    /**
+     * Estimate the retained size of a cache entry in kilobytes
+     */
+    private static int weighKilobytes(Object key, Object value) {
+        long bytes;
+        if (value instanceof SerializedResponseCache.SerializedResponse response) {
+            bytes = response.sizeInBytes();
+        } else if (value instanceof Page<?> page) {
+            bytes = (long) page.getNumberOfElements() * DTO_BYTES;
+        } else if (value instanceof Collection<?> collection) {
+            bytes = (long) collection.size() * DTO_BYTES;
+        } else {
+            bytes = DTO_BYTES;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes / 1024 + 1);
+    }
 }
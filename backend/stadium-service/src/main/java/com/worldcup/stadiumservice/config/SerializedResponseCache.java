@@ -0,0 +1,106 @@
+package com.worldcup.stadiumservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response cache holding the final JSON bytes of hot GET endpoints
+ * Bodies at or above the compression threshold are also kept pre-gzipped, so a cache hit is a plain
+ * byte copy with no serialisation or compression work
+ * Entries live in the same Caffeine caches as the DTOs they were built from, so the existing
+ * {@code @CacheEvict} calls invalidate both together
+ */
+@Component
+public class SerializedResponseCache {
+
+    private static final String KEY_PREFIX = "serialized:";
+    private static final String GZIP = "gzip";
+
+    private final CacheManager cacheManager;
+    private final JsonMapper jsonMapper;
+    private final long gzipThreshold;
+
+    // The application's mapper, so cached bytes are exactly what the JSON message converter would write
+    public SerializedResponseCache(CacheManager cacheManager, JsonMapper jsonMapper,
+                                   @Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        this.cacheManager = cacheManager;
+        this.jsonMapper = jsonMapper;
+        this.gzipThreshold = minResponseSize.toBytes();
+    }
+
+    /**
+     * Serve the cached JSON for the key, serialising the supplied body on a miss
+     *
+     * @param cacheName cache whose evictions should invalidate this response
+     * @param key       key within the cache
+     * @param request   current request, used for Accept-Encoding
+     * @param body      produces the response body on a miss
+     * @return 200 response with the JSON bytes, gzip-encoded when the client accepts it
+     */
+    public ResponseEntity<byte[]> respond(String cacheName, String key, WebRequest request, Supplier<?> body) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Unknown cache: " + cacheName);
+        }
+        String cacheKey = KEY_PREFIX + key;
+        SerializedResponse response = cache.get(cacheKey, SerializedResponse.class);
+        if (response == null) {
+            // Not cache.get(key, loader): the body supplier reads other keys of this cache, and Caffeine does not
+            // allow a cache to be modified from inside one of its own loads
+            response = serialize(body.get());
+            cache.put(cacheKey, response);
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (response.gzip() != null && acceptsGzip(request)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+
+    private SerializedResponse serialize(Object body) {
+        try {
+            byte[] json = jsonMapper.writeValueAsBytes(body);
+            if (json.length < gzipThreshold) {
+                return new SerializedResponse(json, null);
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(json);
+            }
+            return new SerializedResponse(json, buffer.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize cached response", e);
+        }
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains(GZIP);
+    }
+
+    record SerializedResponse(byte[] json, byte[] gzip) implements Serializable {
+
+        long sizeInBytes() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.worldcup.stadiumservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+/**
+ * Two-level cache configuration
+ * Puts a shared Redis level behind the Caffeine caches so replicas warm and evict together
+ * Values use JDK serialization with the application class loader so DevTools restarts keep working
+ */
+@Configuration
+@ConditionalOnProperty(name = "two-level-cache.enabled", havingValue = "true")
+public class TwoLevelCacheConfig {
+
+    /**
+     * Cache manager used by @Cacheable, layering Redis behind the Caffeine caches
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(CaffeineCacheManager caffeineCacheManager,
+                                             RedisConnectionFactory connectionFactory,
+                                             @Value("${spring.application.name}") String applicationName,
+                                             @Value("${two-level-cache.ttl:6h}") Duration ttl) {
+        RedisSerializer<Object> serializer = RedisSerializer.java(getClass().getClassLoader());
+
+        RedisCacheManager sharedCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(ttl)
+                        .prefixCacheNameWith(applicationName + ":")
+                        .serializeValuesWith(SerializationPair.fromSerializer(serializer)))
+                .build();
+        sharedCacheManager.initializeCaches();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(serializer);
+        redisTemplate.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(caffeineCacheManager, sharedCacheManager, redisTemplate,
+                "cache-invalidation:" + applicationName);
+    }
+
+    /**
+     * Subscribe to invalidations published by other instances of this service
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getChannel()));
+        return container;
+    }
+}
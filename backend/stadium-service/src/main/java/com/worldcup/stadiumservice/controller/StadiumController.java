@@ -1,5 +1,6 @@
 package com.worldcup.stadiumservice.controller;
 
+import com.worldcup.stadiumservice.config.SerializedResponseCache;
 import com.worldcup.stadiumservice.dto.StadiumDTO;
 import com.worldcup.stadiumservice.service.StadiumService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,6 +33,7 @@ import java.util.List;
 public class StadiumController {
 
     private final StadiumService stadiumService;
+    private final SerializedResponseCache serializedResponseCache;
 
     /**
      * Get all stadiums with pagination
@@ -62,10 +65,9 @@ public class StadiumController {
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = StadiumDTO.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<StadiumDTO>> getAllStadiumsList() {
+    public ResponseEntity<byte[]> getAllStadiumsList(WebRequest request) {
         log.info("GET /api/stadiums/all - Get all stadiums (no pagination)");
-        List<StadiumDTO> stadiums = stadiumService.getAllStadiums();
-        return ResponseEntity.ok(stadiums);
+        return serializedResponseCache.respond("stadiums", "all", request, stadiumService::getAllStadiums);
     }
 
     /**
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -22,7 +23,7 @@ import java.time.LocalDateTime;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Stadium information for FIFA World Cup 2026")
-public class StadiumDTO {
+public class StadiumDTO implements Serializable {
 
     @Schema(description = "Stadium ID", example = "1")
     private Long id;
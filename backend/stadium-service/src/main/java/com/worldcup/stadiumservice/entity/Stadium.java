@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,6 +17,7 @@ import java.time.LocalDateTime;
  * Stadium Entity - Represents a FIFA World Cup 2026 stadium
  *
  * Stored in: stadium_service_schema.stadiums
+ * Cached in the Hibernate second-level cache (read-mostly reference data)
  */
 @Entity
 @Table(name = "stadiums", schema = "stadium_service_schema",
@@ -26,6 +29,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Stadium {
 
     @Id
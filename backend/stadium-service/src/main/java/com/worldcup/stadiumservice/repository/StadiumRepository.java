@@ -1,8 +1,11 @@
 package com.worldcup.stadiumservice.repository;
 
 import com.worldcup.stadiumservice.entity.Stadium;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,6 +20,7 @@ public interface StadiumRepository extends JpaRepository<Stadium, Long> {
     /**
      * Find stadium by name
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Stadium> findByName(String name);
 
     /**
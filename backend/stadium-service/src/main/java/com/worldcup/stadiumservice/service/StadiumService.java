@@ -34,7 +34,7 @@ public class StadiumService {
     /**
      * Get all stadiums with pagination
      */
-    @Cacheable(value = "stadiums", key = "'page_' + #page + '_size_' + #size")
+    @Cacheable(value = "stadiums", key = "'page_' + #page + '_size_' + #size", sync = true)
     public Page<StadiumDTO> getAllStadiums(int page, int size) {
         log.debug("Fetching stadiums - page: {}, size: {}", page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("name").ascending());
@@ -45,7 +45,7 @@ public class StadiumService {
     /**
      * Get all stadiums (no pagination)
      */
-    @Cacheable(value = "stadiums", key = "'all'")
+    @Cacheable(value = "stadiums", key = "'all'", sync = true)
     public List<StadiumDTO> getAllStadiums() {
         log.debug("Fetching all stadiums from database");
         List<Stadium> stadiums = stadiumRepository.findAllByOrderByNameAsc();
@@ -55,7 +55,7 @@ public class StadiumService {
     /**
      * Get stadium by ID
      */
-    @Cacheable(value = "stadiums", key = "#id")
+    @Cacheable(value = "stadiums", key = "#id", sync = true)
     public StadiumDTO getStadiumById(Long id) {
         log.debug("Fetching stadium by ID: {}", id);
         Stadium stadium = stadiumRepository.findById(id)
@@ -66,7 +66,7 @@ public class StadiumService {
     /**
      * Get stadium by name
      */
-    @Cacheable(value = "stadiums", key = "'name_' + #name")
+    @Cacheable(value = "stadiums", key = "'name_' + #name", sync = true)
     public StadiumDTO getStadiumByName(String name) {
         log.debug("Fetching stadium by name: {}", name);
         Stadium stadium = stadiumRepository.findByName(name)
@@ -77,7 +77,7 @@ public class StadiumService {
     /**
      * Get stadiums by city
      */
-    @Cacheable(value = "stadiumsByCity", key = "#city")
+    @Cacheable(value = "stadiumsByCity", key = "#city", sync = true)
     public List<StadiumDTO> getStadiumsByCity(String city) {
         log.debug("Fetching stadiums by city: {}", city);
         List<Stadium> stadiums = stadiumRepository.findByCityOrderByNameAsc(city);
@@ -87,7 +87,7 @@ public class StadiumService {
     /**
      * Get stadiums by country
      */
-    @Cacheable(value = "stadiumsByCountry", key = "#country")
+    @Cacheable(value = "stadiumsByCountry", key = "#country", sync = true)
     public List<StadiumDTO> getStadiumsByCountry(String country) {
         log.debug("Fetching stadiums by country: {}", country);
         List<Stadium> stadiums = stadiumRepository.findByCountryOrderByNameAsc(country);
@@ -106,7 +106,7 @@ public class StadiumService {
     /**
      * Get all stadiums ordered by capacity
      */
-    @Cacheable(value = "stadiums", key = "'byCapacity'")
+    @Cacheable(value = "stadiums", key = "'byCapacity'", sync = true)
     public List<StadiumDTO> getStadiumsByCapacity() {
         log.debug("Fetching stadiums ordered by capacity");
         List<Stadium> stadiums = stadiumRepository.findAllOrderedByCapacity();
@@ -1,35 +1,72 @@
 package com.worldcup.ticketservice.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Cache configuration using Caffeine
  * Ticket links don't change frequently, so longer TTL (60 minutes)
+ * Every cache has its own spec, overridable with a cache.specs.&lt;name&gt; property
+ * All caches record stats, which actuator exports per cache
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Map<String, String> DEFAULT_SPECS = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_SPECS.put("tickets", "maximumSize=500,expireAfterWrite=60m");
+        DEFAULT_SPECS.put("ticketsByMatch", "maximumSize=200,expireAfterWrite=60m");
+        DEFAULT_SPECS.put("ticketsByProvider", "maximumSize=50,expireAfterWrite=60m");
+    }
+
+    /**
+     * Approximate retained size of one cached DTO, used to weigh list entries
+     */
+    private static final int DTO_BYTES = 512;
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "tickets",
-                "ticketsByMatch",
-                "ticketsByProvider"
-        );
-
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(100)
-                .expireAfterWrite(60, TimeUnit.MINUTES)
-                .recordStats());
+    public CaffeineCacheManager caffeineCacheManager(Environment environment) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+
+        DEFAULT_SPECS.forEach((name, defaultSpec) -> {
+            String spec = environment.getProperty("cache.specs." + name, defaultSpec);
+            cacheManager.registerCustomCache(name, builder(spec).build());
+        });
 
         return cacheManager;
     }
+
+    /**
+     * Build a stats-recording Caffeine builder from a spec string, adding the weigher when the spec
+     * bounds the cache by weight
+     */
+    private static Caffeine<Object, Object> builder(String spec) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec).recordStats();
+        if (spec.contains("maximumWeight")) {
+            builder.weigher(CacheConfig::weighKilobytes);
+        }
+        return builder;
+    }
+
+    /**
+     * Estimate the retained size of a cache entry in kilobytes
+     */
+    private static int weighKilobytes(Object key, Object value) {
+        long bytes = value instanceof Collection<?> collection
+                ? (long) collection.size() * DTO_BYTES
+                : DTO_BYTES;
+        return (int) Math.min(Integer.MAX_VALUE, bytes / 1024 + 1);
+    }
 }
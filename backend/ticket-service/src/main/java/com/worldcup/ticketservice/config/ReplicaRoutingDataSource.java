@@ -0,0 +1,154 @@
+package com.worldcup.ticketservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only DataSource that serves connections from the replica pool while its replay lag is within
+ * the configured threshold, and from the primary pool otherwise (lag too high or replica unreachable).
+ *
+ * Read-your-writes: when this instance commits a read-write transaction, reads go to the primary too
+ * for a short window. Cache evictions run right after such commits, and the reads that refill the caches
+ * must not load the replica's older rows back in. Registered as a transaction execution listener, so
+ * only commits through the transaction manager open the window; writes outside a transaction do not.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource
+        implements DisposableBean, TransactionExecutionListener {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    // Zero lag when the replica has replayed everything it received, so an idle primary does not look like lag
+    private static final String LAG_QUERY = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final Duration readYourWritesWindow;
+    private final Counter replicaConnections;
+    private final Counter primaryFallbackConnections;
+    private final Counter primaryAfterWriteConnections;
+    private final ScheduledExecutorService lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-lag-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile double lagSeconds = 0;
+    private volatile boolean replicaUsable = false;
+    private volatile boolean lastCheckFailed = false;
+    private volatile long primaryUntilNanos = System.nanoTime();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag,
+                                    Duration checkInterval, Duration readYourWritesWindow,
+                                    MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.readYourWritesWindow = readYourWritesWindow;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.replicaConnections = Counter.builder("datasource.routing.connections")
+                .description("Read-only connections handed out, by target pool")
+                .tag("target", REPLICA)
+                .register(meterRegistry);
+        this.primaryFallbackConnections = Counter.builder("datasource.routing.connections")
+                .description("Read-only connections handed out, by target pool")
+                .tag("target", "primary-fallback")
+                .register(meterRegistry);
+        this.primaryAfterWriteConnections = Counter.builder("datasource.routing.connections")
+                .description("Read-only connections handed out, by target pool")
+                .tag("target", "primary-after-write")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.lag", this, ds -> ds.lagSeconds)
+                .description("Replica replay lag in seconds")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, ds -> ds.replicaUsable ? 1 : 0)
+                .description("1 when read-only traffic is routed to the replica, 0 when it falls back to the primary")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (System.nanoTime() - primaryUntilNanos < 0) {
+            primaryAfterWriteConnections.increment();
+            return PRIMARY;
+        }
+        if (replicaUsable) {
+            replicaConnections.increment();
+            return REPLICA;
+        }
+        primaryFallbackConnections.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * Open the read-your-writes window as a read-write transaction commits
+     * Done before the commit rather than after it: after-commit listeners such as cache evictions run
+     * before this listener's afterCommit, and their reads must already go to the primary
+     */
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (!transaction.isReadOnly()) {
+            primaryUntilNanos = System.nanoTime() + readYourWritesWindow.toNanos();
+        }
+    }
+
+    void checkLag() {
+        boolean wasUsable = replicaUsable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+            rs.next();
+            lagSeconds = rs.getDouble(1);
+            replicaUsable = lagSeconds <= maxLag.toMillis() / 1000.0;
+        } catch (Exception e) {
+            replicaUsable = false;
+            if (!lastCheckFailed) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            }
+            lastCheckFailed = true;
+            return;
+        }
+        lastCheckFailed = false;
+
+        if (wasUsable && !replicaUsable) {
+            log.warn("Replica lag {}s exceeds {}s, routing reads to primary", lagSeconds, maxLag.toSeconds());
+        } else if (!wasUsable && replicaUsable) {
+            log.info("Replica caught up (lag {}s), routing reads to replica", lagSeconds);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lagChecker.shutdownNow();
+    }
+}
@@ -10,6 +10,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
@@ -21,7 +22,7 @@ import java.time.LocalDateTime;
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Ticket booking link information")
-public class TicketLinkDTO {
+public class TicketLinkDTO implements Serializable {
 
     @Schema(description = "Ticket link ID", example = "1")
     private Long id;
@@ -29,7 +29,7 @@ public class TicketLinkService {
     /**
      * Get all ticket links
      */
-    @Cacheable(value = "tickets", key = "'all'")
+    @Cacheable(value = "tickets", key = "'all'", sync = true)
     public List<TicketLinkDTO> getAllTicketLinks() {
         log.debug("Fetching all ticket links");
         List<TicketLink> ticketLinks = ticketLinkRepository.findAllOrderedByPriority();
@@ -39,7 +39,7 @@ public class TicketLinkService {
     /**
      * Get ticket link by ID
      */
-    @Cacheable(value = "tickets", key = "#id")
+    @Cacheable(value = "tickets", key = "#id", sync = true)
     public TicketLinkDTO getTicketLinkById(Long id) {
         log.debug("Fetching ticket link by ID: {}", id);
         TicketLink ticketLink = ticketLinkRepository.findById(id)
@@ -50,7 +50,7 @@ public class TicketLinkService {
     /**
      * Get ticket links by match ID
      */
-    @Cacheable(value = "ticketsByMatch", key = "#matchId")
+    @Cacheable(value = "ticketsByMatch", key = "#matchId", sync = true)
     public List<TicketLinkDTO> getTicketLinksByMatch(Long matchId) {
         log.debug("Fetching ticket links for match ID: {}", matchId);
         List<TicketLink> ticketLinks = ticketLinkRepository.findByMatchIdOrderByPriorityAsc(matchId);
@@ -60,7 +60,7 @@ public class TicketLinkService {
     /**
      * Get ticket links by provider
      */
-    @Cacheable(value = "ticketsByProvider", key = "#providerName")
+    @Cacheable(value = "ticketsByProvider", key = "#providerName", sync = true)
     public List<TicketLinkDTO> getTicketLinksByProvider(String providerName) {
         log.debug("Fetching ticket links by provider: {}", providerName);
         List<TicketLink> ticketLinks = ticketLinkRepository.findByProviderNameOrderByPriorityAsc(providerName);
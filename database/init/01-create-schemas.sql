@@ -30,6 +30,7 @@ CREATE TABLE match_service_schema.teams (
     country VARCHAR(100) NOT NULL,
     logo_url VARCHAR(500),
     fifa_ranking INTEGER,
+    content_hash BIGINT,  -- Hash of the last synced API payload, NULL after a manual edit
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -51,6 +52,7 @@ CREATE TABLE match_service_schema.matches (
     venue_name VARCHAR(200),
     venue_city VARCHAR(100),
     venue_country VARCHAR(100),
+    content_hash BIGINT,  -- Hash of the last synced API payload, NULL after a manual edit
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT check_different_teams CHECK (home_team_id != away_team_id)
@@ -64,6 +66,24 @@ CREATE INDEX idx_matches_home_team ON match_service_schema.matches(home_team_id)
 CREATE INDEX idx_matches_away_team ON match_service_schema.matches(away_team_id);
 CREATE INDEX idx_matches_round ON match_service_schema.matches(round);
 
+-- Job Locks Table (one row per scheduled job, leased by the instance running it)
+CREATE TABLE match_service_schema.job_locks (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_by VARCHAR(255) NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP NOT NULL
+);
+
+-- API Quota Ledger (requests made to each external API per UTC day, shared by all instances)
+CREATE TABLE match_service_schema.api_quota_ledger (
+    provider VARCHAR(50) NOT NULL,
+    day DATE NOT NULL,
+    requests INTEGER NOT NULL DEFAULT 0,
+    last_request_at TIMESTAMPTZ,
+    reported_remaining INTEGER,  -- Latest x-ratelimit-requests-remaining header, if the provider sends one
+    PRIMARY KEY (provider, day)
+);
+
 -- ============================================================================
 -- STADIUM SERVICE SCHEMA
 -- ============================================================================
@@ -86,7 +86,7 @@ CREATE TABLE deal_finder_schema.deal_scores (
 );
 
 CREATE INDEX idx_deals_match ON deal_finder_schema.deal_scores(match_id);
-CREATE INDEX idx_deals_score ON deal_finder_schema.deal_scores(deal_score DESC);
+CREATE INDEX idx_deals_score ON deal_finder_schema.deal_scores(deal_score DESC, id DESC);
 CREATE INDEX idx_deals_match_cat ON deal_finder_schema.deal_scores(match_id, category);
 CREATE INDEX idx_deals_trend ON deal_finder_schema.deal_scores(price_trend);
 
@@ -113,7 +113,7 @@ CREATE TABLE deal_finder_schema.match_deal_summary (
 );
 
 CREATE INDEX idx_summary_match ON deal_finder_schema.match_deal_summary(match_id);
-CREATE INDEX idx_summary_lowest ON deal_finder_schema.match_deal_summary(lowest_price);
+CREATE INDEX idx_summary_lowest ON deal_finder_schema.match_deal_summary(lowest_price, id);
 
 -- ============================================================================
 -- FETCH LOG TABLE
@@ -134,6 +134,34 @@ CREATE TABLE deal_finder_schema.fetch_log (
 CREATE INDEX idx_fetch_log_provider ON deal_finder_schema.fetch_log(provider_id);
 CREATE INDEX idx_fetch_log_started ON deal_finder_schema.fetch_log(started_at);
 
+-- ============================================================================
+-- EVENT MATCH MAPPING TABLE
+-- Provider event id -> match-service match id, resolved once per event
+-- ============================================================================
+CREATE TABLE deal_finder_schema.event_match_mapping (
+    id BIGSERIAL PRIMARY KEY,
+    provider_id BIGINT NOT NULL REFERENCES deal_finder_schema.providers(id),
+    external_event_id VARCHAR(100) NOT NULL,
+    match_id BIGINT NOT NULL,
+    event_name VARCHAR(300),
+    resolved_by VARCHAR(20) NOT NULL,
+    resolved_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_event_mapping_provider_event UNIQUE (provider_id, external_event_id)
+);
+
+CREATE INDEX idx_event_mapping_match ON deal_finder_schema.event_match_mapping(match_id);
+
+-- ============================================================================
+-- JOB LOCKS TABLE
+-- One row per scheduled job, leased by the instance currently running it
+-- ============================================================================
+CREATE TABLE deal_finder_schema.job_locks (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_by VARCHAR(255) NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP NOT NULL
+);
+
 -- ============================================================================
 -- SEED DATA - 10 Ticket Providers
 -- ============================================================================
@@ -0,0 +1,5 @@
+#!/bin/sh
+# Allows streaming replication connections for docker-compose.replica.yml.
+# Runs once as part of the primary's docker-entrypoint-initdb.d on a fresh volume.
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
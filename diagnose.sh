@@ -44,13 +44,13 @@ if command -v java &> /dev/null; then
     echo "  Found: $java_version"
 
     version_num=$(java -version 2>&1 | head -n 1 | cut -d'"' -f2 | cut -d'.' -f1)
-    if [ "$version_num" -ge 17 ]; then
-        report_success "Java 17+ detected"
+    if [ "$version_num" -ge 21 ]; then
+        report_success "Java 21+ detected"
     else
-        report_error "Java 17 or higher required, found version $version_num"
+        report_error "Java 21 or higher required, found version $version_num"
     fi
 else
-    report_error "Java not found. Install Java 17 from https://adoptium.net/"
+    report_error "Java not found. Install Java 21 from https://adoptium.net/"
 fi
 echo ""
 
@@ -265,7 +265,7 @@ else
     echo "Please fix the errors above and try again."
     echo ""
     echo "Common fixes:"
-    echo "  1. Install missing prerequisites (Java 17, Maven, Docker)"
+    echo "  1. Install missing prerequisites (Java 21, Maven, Docker)"
     echo "  2. Start Docker Desktop"
     echo "  3. Start PostgreSQL: docker-compose up -d postgres"
     echo "  4. Build services: cd backend/match-service && ./mvnw clean package"
@@ -1,7 +1,8 @@
 /**
  * React Query hooks for match data
  */
-import { useQuery } from '@tanstack/react-query';
+import { useEffect } from 'react';
+import { useQuery, useQueryClient } from '@tanstack/react-query';
 import matchService from '../services/matchService';
 
 /**
@@ -74,15 +75,67 @@ export const useMatchesByStadium = (stadiumId) => {
   });
 };
 
+/**
+ * Search matches with combined filters in one request
+ * e.g. useMatchSearch({ teamId: 6, round: 'Group Stage', status: 'SCHEDULED' })
+ */
+export const useMatchSearch = (filters) => {
+  return useQuery({
+    queryKey: ['matches', 'search', filters],
+    queryFn: () => matchService.searchMatches(filters),
+    enabled: !!filters,
+    staleTime: 30 * 60 * 1000,
+  });
+};
+
 /**
  * Get live matches
+ * Score and status changes are pushed over the live stream and patched into the cache;
+ * the slow refetch only backs up a stream that cannot connect
  */
 export const useLiveMatches = () => {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    const stream = matchService.openLiveStream();
+
+    stream.addEventListener('live-score', (event) => {
+      const change = JSON.parse(event.data);
+      let known = false;
+      queryClient.setQueryData(['matches', 'live'], (matches) => {
+        if (!matches) return matches;
+        known = matches.some((match) => match.id === change.matchId);
+        if (change.status !== 'LIVE') {
+          return matches.filter((match) => match.id !== change.matchId);
+        }
+        return matches.map((match) => (match.id === change.matchId
+          ? { ...match, status: change.status, homeScore: change.homeScore, awayScore: change.awayScore }
+          : match));
+      });
+      if (change.status === 'LIVE' && !known) {
+        // A match just kicked off: the stream carries no teams, so load it with the list
+        queryClient.invalidateQueries({ queryKey: ['matches', 'live'], exact: true });
+      }
+      queryClient.setQueryData(['match', String(change.matchId)], (match) => (match
+        ? { ...match, status: change.status, homeScore: change.homeScore, awayScore: change.awayScore }
+        : match));
+      queryClient.invalidateQueries({ queryKey: ['standings'] });
+    });
+
+    // Changes were missed and are no longer buffered on the server
+    stream.addEventListener('reset', () => {
+      queryClient.invalidateQueries({ queryKey: ['matches', 'live'], exact: true });
+      queryClient.invalidateQueries({ queryKey: ['standings'] });
+    });
+
+    return () => stream.close();
+  }, [queryClient]);
+
   return useQuery({
     queryKey: ['matches', 'live'],
     queryFn: matchService.getLiveMatches,
-    refetchInterval: 60 * 1000, // Refetch every minute
-    staleTime: 60 * 1000, // 1 minute
+    refetchInterval: 10 * 60 * 1000, // Fallback refetch every 10 minutes
+    staleTime: 5 * 60 * 1000, // 5 minutes
   });
 };
 
@@ -107,6 +160,29 @@ export const useMatchLookup = () => {
   return { lookup, ...rest };
 };
 
+/**
+ * Get the standings of every group
+ */
+export const useAllStandings = () => {
+  return useQuery({
+    queryKey: ['standings'],
+    queryFn: matchService.getAllStandings,
+    staleTime: 5 * 60 * 1000, // live score events invalidate it
+  });
+};
+
+/**
+ * Get the standings of one group
+ */
+export const useGroupStandings = (group) => {
+  return useQuery({
+    queryKey: ['standings', group],
+    queryFn: () => matchService.getGroupStandings(group),
+    enabled: !!group,
+    staleTime: 5 * 60 * 1000,
+  });
+};
+
 /**
  * Get all teams
  */
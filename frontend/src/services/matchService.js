@@ -83,6 +83,17 @@ const matchService = {
     return response.data;
   },
 
+  /**
+   * Search matches by any combination of teamId, stadiumId, round, groupName, status,
+   * startDate and endDate, paged (page, size) and sorted by date (sort: 'matchDate,asc' | 'matchDate,desc')
+   */
+  searchMatches: async (filters = {}) => {
+    const response = await api.get('/api/matches/search', {
+      params: filters,
+    });
+    return response.data;
+  },
+
   /**
    * Get live matches
    */
@@ -91,6 +102,14 @@ const matchService = {
     return response.data;
   },
 
+  /**
+   * Open the live score event stream (Server-Sent Events)
+   * The browser reconnects on its own and resumes after the last event id
+   */
+  openLiveStream: () => {
+    return new EventSource(`${api.defaults.baseURL}/api/matches/live/stream`);
+  },
+
   /**
    * Get matches by status
    */
@@ -99,6 +118,24 @@ const matchService = {
     return response.data;
   },
 
+  // ========== Group Endpoints ==========
+
+  /**
+   * Get the standings of every group
+   */
+  getAllStandings: async () => {
+    const response = await api.get('/api/groups/standings');
+    return response.data;
+  },
+
+  /**
+   * Get the standings of one group (letter or name)
+   */
+  getGroupStandings: async (group) => {
+    const response = await api.get(`/api/groups/${encodeURIComponent(group)}/standings`);
+    return response.data;
+  },
+
   // ========== Team Endpoints ==========
 
   /**
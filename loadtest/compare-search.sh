@@ -0,0 +1,64 @@
+#!/bin/bash
+
+# FIFA World Cup 2026 - Match search vs chained by-* endpoint comparison
+#
+# 1. Run the chained filter (four by-* calls, intersected client-side):  ./loadtest/compare-search.sh chained
+# 2. Run the same filter through /api/matches/search:                     ./loadtest/compare-search.sh search
+# 3. Compare the two runs:                                                ./loadtest/compare-search.sh report
+#
+# Both runs go through the gateway so the extra hops of the chained approach are counted. Clear the caches
+# (POST /api/admin/cache/clear) before each run, or run both warm, so the runs are comparable.
+# Settings: BASE_URL (default http://localhost:8080), VUS (200), DURATION (1m), TEAMS, ROUND, STATUS,
+# START_DATE, END_DATE
+
+set -euo pipefail
+
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+RESULTS_DIR="$SCRIPT_DIR/results"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+MODE="${1:-}"
+
+mkdir -p "$RESULTS_DIR"
+
+case "$MODE" in
+    chained|search)
+        echo "Running $MODE match filter load test against $BASE_URL"
+        k6 run \
+            -e BASE_URL="$BASE_URL" \
+            -e MODE="$MODE" \
+            -e SUMMARY="$RESULTS_DIR/search-$MODE.json" \
+            ${VUS:+-e VUS="$VUS"} \
+            ${DURATION:+-e DURATION="$DURATION"} \
+            ${TEAMS:+-e TEAMS="$TEAMS"} \
+            ${ROUND:+-e ROUND="$ROUND"} \
+            ${STATUS:+-e STATUS="$STATUS"} \
+            ${START_DATE:+-e START_DATE="$START_DATE"} \
+            ${END_DATE:+-e END_DATE="$END_DATE"} \
+            "$SCRIPT_DIR/match-search.js"
+        ;;
+    report)
+        for label in chained search; do
+            if [ ! -f "$RESULTS_DIR/search-$label.json" ]; then
+                echo -e "${RED}Missing $RESULTS_DIR/search-$label.json; run '$0 $label' first${NC}"
+                exit 1
+            fi
+        done
+        printf "%-10s %8s %10s %10s %8s %10s %10s %10s %8s\n" \
+            "mode" "vus" "filters/s" "req/s" "req/f" "p50 ms" "p95 ms" "p99 ms" "failed"
+        for label in chained search; do
+            jq -r '[.label, .vus, (.filtersPerSecond | floor), (.requestsPerSecond | floor),
+                    (.requestsPerFilter * 10 | floor / 10), (.p50 | floor), (.p95 | floor), (.p99 | floor),
+                    ((.failedRate * 100 | floor | tostring) + "%")] | @tsv' "$RESULTS_DIR/search-$label.json" \
+                | awk -F'\t' '{ printf "%-10s %8s %10s %10s %8s %10s %10s %10s %8s\n", $1, $2, $3, $4, $5, $6, $7, $8, $9 }'
+        done
+        echo -e "${GREEN}filter latency is the wall time of all requests needed for one filter${NC}"
+        ;;
+    *)
+        echo "Usage: $0 chained|search|report"
+        exit 1
+        ;;
+esac
@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# FIFA World Cup 2026 - Platform vs virtual thread load comparison
+#
+# 1. Start the service with VIRTUAL_THREADS_ENABLED=false and run:  ./loadtest/compare-threading.sh platform
+# 2. Restart it with VIRTUAL_THREADS_ENABLED=true and run:           ./loadtest/compare-threading.sh virtual
+# 3. Compare the two runs:                                            ./loadtest/compare-threading.sh report
+#
+# Keep the Hikari pool size identical between runs; the reading from /actuator/metrics is stored with each
+# result and the report refuses to compare runs with different pools.
+# Settings: BASE_URL (default http://localhost:8084), VUS (400), DURATION (2m), PATHS, MATCHES
+
+set -euo pipefail
+
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+RESULTS_DIR="$SCRIPT_DIR/results"
+BASE_URL="${BASE_URL:-http://localhost:8084}"
+MODE="${1:-}"
+
+mkdir -p "$RESULTS_DIR"
+
+case "$MODE" in
+    platform|virtual)
+        hikari_max=$(curl -sf "$BASE_URL/actuator/metrics/hikaricp.connections.max" \
+            | jq '[.measurements[] | select(.statistic == "VALUE") | .value] | max')
+        echo "Running $MODE load test against $BASE_URL (Hikari max connections: $hikari_max)"
+        k6 run \
+            -e BASE_URL="$BASE_URL" \
+            -e LABEL="$MODE" \
+            -e HIKARI_MAX="$hikari_max" \
+            -e SUMMARY="$RESULTS_DIR/$MODE.json" \
+            ${VUS:+-e VUS="$VUS"} \
+            ${DURATION:+-e DURATION="$DURATION"} \
+            ${PATHS:+-e PATHS="$PATHS"} \
+            ${MATCHES:+-e MATCHES="$MATCHES"} \
+            "$SCRIPT_DIR/threading.js"
+        ;;
+    report)
+        for label in platform virtual; do
+            if [ ! -f "$RESULTS_DIR/$label.json" ]; then
+                echo -e "${RED}Missing $RESULTS_DIR/$label.json; run '$0 $label' first${NC}"
+                exit 1
+            fi
+        done
+        if [ "$(jq .hikariMaxConnections "$RESULTS_DIR/platform.json")" != "$(jq .hikariMaxConnections "$RESULTS_DIR/virtual.json")" ]; then
+            echo -e "${RED}Runs used different Hikari pool sizes; results are not comparable${NC}"
+            exit 1
+        fi
+        printf "%-10s %8s %12s %10s %10s %10s %8s\n" "threads" "vus" "req/s" "p50 ms" "p95 ms" "p99 ms" "failed"
+        for label in platform virtual; do
+            jq -r '[.label, .vus, (.requestsPerSecond | floor), (.p50 | floor), (.p95 | floor), (.p99 | floor),
+                    ((.failedRate * 100 | floor | tostring) + "%")] | @tsv' "$RESULTS_DIR/$label.json" \
+                | awk -F'\t' '{ printf "%-10s %8s %12s %10s %10s %10s %8s\n", $1, $2, $3, $4, $5, $6, $7 }'
+        done
+        echo -e "${GREEN}Hikari max connections: $(jq .hikariMaxConnections "$RESULTS_DIR/platform.json")${NC}"
+        ;;
+    *)
+        echo "Usage: $0 platform|virtual|report"
+        exit 1
+        ;;
+esac
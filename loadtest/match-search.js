@@ -0,0 +1,82 @@
+// k6 load test comparing GET /api/matches/search with the chained by-* calls it replaces.
+// Driven by compare-search.sh; every setting can also be passed with -e NAME=value.
+// MODE=chained fetches by-team, by-round, by-status and by-date-range in parallel and intersects them
+// client-side, as the frontend did; MODE=search asks for the same filter in one request.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'search';
+const TEAMS = parseInt(__ENV.TEAMS || '48', 10);
+const ROUND = __ENV.ROUND || 'Group Stage';
+const STATUS = __ENV.STATUS || 'SCHEDULED';
+const START_DATE = __ENV.START_DATE || '2026-06-11';
+const END_DATE = __ENV.END_DATE || '2026-06-27';
+
+// Wall time for one complete filter, however many requests it takes
+const filterDuration = new Trend('filter_duration', true);
+
+export const options = {
+    scenarios: {
+        steady: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '200', 10),
+            duration: __ENV.DURATION || '1m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function chained(teamId) {
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/matches/by-team/${teamId}`, null, { tags: { endpoint: 'by-team' } }],
+        ['GET', `${BASE_URL}/api/matches/by-round/${encodeURIComponent(ROUND)}`, null, { tags: { endpoint: 'by-round' } }],
+        ['GET', `${BASE_URL}/api/matches/by-status/${STATUS}`, null, { tags: { endpoint: 'by-status' } }],
+        ['GET', `${BASE_URL}/api/matches/by-date-range?startDate=${START_DATE}&endDate=${END_DATE}`, null,
+            { tags: { endpoint: 'by-date-range' } }],
+    ]);
+    responses.forEach((response) => check(response, { 'status < 400': (r) => r.status > 0 && r.status < 400 }));
+    if (responses.some((response) => response.status !== 200)) {
+        return 0;
+    }
+    const [first, ...rest] = responses.map((response) => new Set(response.json().map((match) => match.id)));
+    return [...first].filter((id) => rest.every((ids) => ids.has(id))).length;
+}
+
+function search(teamId) {
+    const query = `teamId=${teamId}&round=${encodeURIComponent(ROUND)}&status=${STATUS}`
+        + `&startDate=${START_DATE}&endDate=${END_DATE}&size=100`;
+    const response = http.get(`${BASE_URL}/api/matches/search?${query}`, { tags: { endpoint: 'search' } });
+    check(response, { 'status < 400': (r) => r.status > 0 && r.status < 400 });
+}
+
+export default function () {
+    const teamId = 1 + Math.floor(Math.random() * TEAMS);
+    const started = Date.now();
+    if (MODE === 'chained') {
+        chained(teamId);
+    } else {
+        search(teamId);
+    }
+    filterDuration.add(Date.now() - started);
+}
+
+export function handleSummary(data) {
+    const summary = {
+        label: MODE,
+        vus: options.scenarios.steady.vus,
+        filtersPerSecond: data.metrics.iterations.values.rate,
+        requestsPerSecond: data.metrics.http_reqs.values.rate,
+        requestsPerFilter: data.metrics.http_reqs.values.count / data.metrics.iterations.values.count,
+        p50: data.metrics.filter_duration.values['p(50)'],
+        p95: data.metrics.filter_duration.values['p(95)'],
+        p99: data.metrics.filter_duration.values['p(99)'],
+        failedRate: data.metrics.http_req_failed.values.rate,
+    };
+    const outputs = { stdout: JSON.stringify(summary, null, 2) + '\n' };
+    if (__ENV.SUMMARY) {
+        outputs[__ENV.SUMMARY] = JSON.stringify(summary, null, 2);
+    }
+    return outputs;
+}
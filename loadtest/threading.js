@@ -0,0 +1,45 @@
+// k6 load test for comparing platform and virtual request threads.
+// Driven by compare-threading.sh; every setting can also be passed with -e NAME=value.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8084';
+const PATHS = (__ENV.PATHS || '/api/deals/match/{id},/api/deals/match/{id}/cheapest,/api/deals/match/{id}/history')
+    .split(',');
+const MATCHES = parseInt(__ENV.MATCHES || '104', 10);
+
+export const options = {
+    scenarios: {
+        steady: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '400', 10),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const template = PATHS[Math.floor(Math.random() * PATHS.length)];
+    const path = template.replace('{id}', String(1 + Math.floor(Math.random() * MATCHES)));
+    const response = http.get(`${BASE_URL}${path}`, { tags: { endpoint: template } });
+    check(response, { 'status < 400': (r) => r.status > 0 && r.status < 400 });
+}
+
+export function handleSummary(data) {
+    const summary = {
+        label: __ENV.LABEL || 'run',
+        vus: options.scenarios.steady.vus,
+        hikariMaxConnections: Number(__ENV.HIKARI_MAX || 'NaN'),
+        requestsPerSecond: data.metrics.http_reqs.values.rate,
+        p50: data.metrics.http_req_duration.values['p(50)'],
+        p95: data.metrics.http_req_duration.values['p(95)'],
+        p99: data.metrics.http_req_duration.values['p(99)'],
+        failedRate: data.metrics.http_req_failed.values.rate,
+    };
+    const outputs = { stdout: JSON.stringify(summary, null, 2) + '\n' };
+    if (__ENV.SUMMARY) {
+        outputs[__ENV.SUMMARY] = JSON.stringify(summary, null, 2);
+    }
+    return outputs;
+}